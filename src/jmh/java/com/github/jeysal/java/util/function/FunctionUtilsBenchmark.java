@@ -0,0 +1,297 @@
+package com.github.jeysal.java.util.function;
+
+import com.github.jeysal.java.util.concurrent.CircuitBreaker;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Measures the per-call overhead of the {@link FunctionUtils} combinators.
+ * <p>
+ * The {@link Chain#chainLength} of the {@link FunctionUtils#firstPresent} benchmarks is the number of functions
+ * applied before a present {@link Optional} is found; the other benchmarks do not depend on it. The asynchronous
+ * variant runs the functions on the calling thread, so that it measures the bookkeeping rather than the handoff
+ * between threads. The {@link FunctionPipeline} benchmark fuses the same chain of failing functions that the trying
+ * {@link FunctionUtils#firstPresent} benchmark nests.
+ * </p>
+ * <p>
+ * The failure path benchmarks of the exception handling combinators compare an exception with a stack trace to a
+ * preallocated {@link StacklessException}. The primitive-specialized combinators are measured next to their boxing
+ * counterparts. An open {@link CircuitBreaker} is measured with invalid input to show the cost of short-circuiting a
+ * failing call. The instrumented benchmarks record into a {@link CallMetrics}, to be compared with their
+ * uninstrumented counterparts. The memoizing miss benchmark cycles through more keys than the cache holds, so every
+ * call computes a result and evicts others.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionUtilsBenchmark {
+
+    private static final StacklessException FAILURE = new StacklessException("failure");
+
+    public String valid = "42";
+    public String invalid = "invalid";
+
+    private Function<String, Optional<Integer>> trying;
+    private Function<String, Optional<Integer>> tryingStackless;
+    private Function<String, Result<Integer>> attempting;
+    private Function<String, Result<Integer>> attemptingStackless;
+    private Function<String, OptionalInt> tryingToInt;
+    private ToIntFunction<String> tryingToIntDefault;
+    private Function<String, Integer> rethrowing;
+    private ToIntFunction<String> rethrowingToInt;
+    private Function<String, Integer> circuitBreakingClosed;
+    private Function<String, Integer> circuitBreakingOpen;
+    private ThrowingFunction<String, Integer, StacklessException> retrying;
+    private ThrowingFunction<String, Integer, RuntimeException> memoizing;
+    private ThrowingFunction<String, Integer, RuntimeException> memoizingMiss;
+    private String[] missKeys;
+    private int missIndex;
+    private ThrowingFunction<String, Integer, RuntimeException> instrumenting;
+    private ThrowingFunction<String, Integer, RuntimeException> coalescing;
+
+    @Setup
+    public void setup() {
+        trying = FunctionUtils.trying(Integer::parseInt);
+        tryingStackless = FunctionUtils.trying(FunctionUtilsBenchmark::parseStackless);
+        attempting = FunctionUtils.attempting(Integer::parseInt);
+        attemptingStackless = FunctionUtils.attempting(FunctionUtilsBenchmark::parseStackless);
+        tryingToInt = FunctionUtils.tryingToInt(Integer::parseInt);
+        tryingToIntDefault = FunctionUtils.tryingToInt(Integer::parseInt, -1);
+        rethrowing = FunctionUtils.rethrowing(Integer::parseInt);
+        rethrowingToInt = FunctionUtils.rethrowingToInt(Integer::parseInt);
+        circuitBreakingClosed = FunctionUtils.circuitBreaking(s -> -1, Integer::parseInt,
+                new CircuitBreaker(.5, 100, Duration.ofHours(1)));
+        final CircuitBreaker open = new CircuitBreaker(.5, 1, Duration.ofHours(1));
+        open.recordFailure();
+        circuitBreakingOpen = FunctionUtils.circuitBreaking(s -> -1, Integer::parseInt, open);
+        retrying = FunctionUtils.retrying(FunctionUtilsBenchmark::parseStackless, RetryPolicy.maxAttempts(3));
+        memoizing = FunctionUtils.memoizingThrowing(Integer::parseInt, 16);
+        memoizingMiss = FunctionUtils.memoizingThrowing(Integer::parseInt, 16);
+        missKeys = new String[1024];
+        for (int i = 0; i < missKeys.length; i++)
+            missKeys[i] = Integer.toString(i);
+        instrumenting = FunctionUtils.instrumenting(Integer::parseInt, new CallMetrics());
+        coalescing = FunctionUtils.coalescingThrowing(Integer::parseInt);
+    }
+
+    @Benchmark
+    public Optional<String> firstPresent(Chain chain) {
+        return chain.firstPresent.apply(valid);
+    }
+
+    @Benchmark
+    public String firstPresentFallback(Chain chain) {
+        return chain.firstPresentFallback.apply(valid);
+    }
+
+    @Benchmark
+    public String firstPresentFallbackInstrumented(Chain chain) {
+        return chain.firstPresentFallbackInstrumented.apply(valid);
+    }
+
+    @Benchmark
+    public Optional<String> firstPresentAsync(Chain chain) {
+        return chain.firstPresentAsync.apply(valid).join();
+    }
+
+    @Benchmark
+    public String firstPresentTrying(Chain chain) {
+        return chain.firstPresentTrying.apply(valid);
+    }
+
+    @Benchmark
+    public String pipeline(Chain chain) {
+        return chain.pipeline.apply(valid);
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingSuccess() {
+        return trying.apply(valid);
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingFailure() {
+        return trying.apply(invalid);
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingFailureStackless() {
+        return tryingStackless.apply(invalid);
+    }
+
+    @Benchmark
+    public OptionalInt tryingToIntSuccess() {
+        return tryingToInt.apply(valid);
+    }
+
+    @Benchmark
+    public int tryingToIntDefaultSuccess() {
+        return tryingToIntDefault.applyAsInt(valid);
+    }
+
+    @Benchmark
+    public int tryingToIntDefaultFailure() {
+        return tryingToIntDefault.applyAsInt(invalid);
+    }
+
+    @Benchmark
+    public Result<Integer> attemptingSuccess() {
+        return attempting.apply(valid);
+    }
+
+    @Benchmark
+    public Result<Integer> attemptingFailure() {
+        return attempting.apply(invalid);
+    }
+
+    @Benchmark
+    public Result<Integer> attemptingFailureStackless() {
+        return attemptingStackless.apply(invalid);
+    }
+
+    @Benchmark
+    public Integer rethrowingSuccess() {
+        return rethrowing.apply(valid);
+    }
+
+    @Benchmark
+    public int rethrowingToIntSuccess() {
+        return rethrowingToInt.applyAsInt(valid);
+    }
+
+    @Benchmark
+    public Integer circuitBreakingClosed() {
+        return circuitBreakingClosed.apply(valid);
+    }
+
+    @Benchmark
+    public Integer circuitBreakingOpen() {
+        return circuitBreakingOpen.apply(invalid);
+    }
+
+    @Benchmark
+    public Integer retryingSuccess() throws StacklessException {
+        return retrying.apply(valid);
+    }
+
+    @Benchmark
+    public Integer retryingFailureStackless() {
+        try {
+            return retrying.apply(invalid);
+        } catch (StacklessException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Integer memoizingHit() {
+        return memoizing.apply(valid);
+    }
+
+    @Benchmark
+    public Integer memoizingMiss() {
+        missIndex = missIndex + 1 & missKeys.length - 1;
+        return memoizingMiss.apply(missKeys[missIndex]);
+    }
+
+    @Benchmark
+    public Integer instrumentingSuccess() {
+        return instrumenting.apply(valid);
+    }
+
+    @Benchmark
+    public Integer coalescingUncontended() {
+        return coalescing.apply(valid);
+    }
+
+    private static String failStackless(String s) throws StacklessException {
+        throw FAILURE;
+    }
+
+    private static int parseStackless(String s) throws StacklessException {
+        for (int i = 0; i < s.length(); i++)
+            if (!Character.isDigit(s.charAt(i)))
+                throw FAILURE;
+        return Integer.parseInt(s);
+    }
+
+    /**
+     * The chains of functions of the {@link FunctionUtils#firstPresent} benchmarks, which are only parameterized by
+     * their length for these benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Chain {
+
+        @Param({"1", "4", "16"})
+        public int chainLength;
+
+        private Function<String, Optional<String>> firstPresent;
+        private Function<String, String> firstPresentFallback;
+        private Function<String, String> firstPresentFallbackInstrumented;
+        private Function<String, CompletableFuture<Optional<String>>> firstPresentAsync;
+        private Function<String, String> firstPresentTrying;
+        private Function<String, String> pipeline;
+
+        @Setup
+        public void setup() {
+            @SuppressWarnings("unchecked")
+            final Function<String, Optional<String>>[] chain =
+                    (Function<String, Optional<String>>[]) new Function<?, ?>[chainLength];
+            for (int i = 0; i < chainLength - 1; i++)
+                chain[i] = s -> Optional.empty();
+            chain[chainLength - 1] = Optional::of;
+
+            firstPresent = FunctionUtils.firstPresent(chain);
+            firstPresentFallback = FunctionUtils.firstPresent(Function.identity(), chain);
+            firstPresentFallbackInstrumented =
+                    FunctionUtils.firstPresent(Function.identity(), new CallMetrics(), chain);
+            firstPresentAsync = FunctionUtils.firstPresentAsync(Runnable::run, chain);
+
+            @SuppressWarnings("unchecked")
+            final ThrowingFunction<String, String, StacklessException>[] stages =
+                    (ThrowingFunction<String, String, StacklessException>[]) new ThrowingFunction<?, ?, ?>[chainLength];
+            for (int i = 0; i < chainLength - 1; i++)
+                stages[i] = FunctionUtilsBenchmark::failStackless;
+            stages[chainLength - 1] = s -> s;
+
+            @SuppressWarnings("unchecked")
+            final Function<String, Optional<String>>[] tryingChain =
+                    (Function<String, Optional<String>>[]) new Function<?, ?>[chainLength];
+            FunctionPipeline<String, String> stagesPipeline = FunctionPipeline.trying(stages[0]);
+            tryingChain[0] = FunctionUtils.trying(stages[0]);
+            for (int i = 1; i < chainLength; i++) {
+                stagesPipeline = stagesPipeline.orTrying(stages[i]);
+                tryingChain[i] = FunctionUtils.trying(stages[i]);
+            }
+            firstPresentTrying = FunctionUtils.firstPresent(Function.identity(), tryingChain);
+            pipeline = stagesPipeline.orElse(Function.identity());
+        }
+
+    }
+
+}
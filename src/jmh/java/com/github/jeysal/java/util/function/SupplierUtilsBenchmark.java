@@ -0,0 +1,171 @@
+package com.github.jeysal.java.util.function;
+
+import com.github.jeysal.java.util.concurrent.Bulkhead;
+import com.github.jeysal.java.util.concurrent.RateLimiter;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the per-call overhead of the {@link SupplierUtils} combinators.
+ * <p>
+ * Only the {@link SupplierUtils#firstPresent} benchmarks are parameterized by the length of their {@link Chain}.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtilsBenchmark
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupplierUtilsBenchmark {
+
+    private static final StacklessException FAILURE = new StacklessException("failure");
+
+    public String valid = "42";
+    public String invalid = "invalid";
+
+    private Supplier<Optional<Integer>> tryingSuccess;
+    private Supplier<Optional<Integer>> tryingFailure;
+    private Supplier<Optional<Integer>> tryingFailureStackless;
+    private Supplier<Result<Integer>> attemptingFailureStackless;
+    private Supplier<Integer> rethrowingSuccess;
+    private ThrowingSupplier<Integer, StacklessException> retryingFailureStackless;
+    private ThrowingSupplier<Integer, RuntimeException> rateLimitingRejected;
+    private ThrowingSupplier<Integer, RuntimeException> bulkheadingAcquired;
+    private Supplier<Integer> memoizing;
+
+    @Setup
+    public void setup() {
+        tryingSuccess = SupplierUtils.trying(() -> Integer.parseInt(valid));
+        tryingFailure = SupplierUtils.trying(() -> Integer.parseInt(invalid));
+        tryingFailureStackless = SupplierUtils.trying(() -> {
+            throw FAILURE;
+        });
+        attemptingFailureStackless = SupplierUtils.attempting(() -> {
+            throw FAILURE;
+        });
+        rethrowingSuccess = SupplierUtils.rethrowing(() -> Integer.parseInt(valid));
+        retryingFailureStackless = SupplierUtils.retrying(() -> {
+            throw FAILURE;
+        }, RetryPolicy.maxAttempts(3));
+        final RateLimiter exhausted = new RateLimiter(1e-3, 1);
+        exhausted.tryAcquire();
+        rateLimitingRejected = SupplierUtils.rateLimiting(() -> -1, () -> Integer.parseInt(valid), exhausted);
+        bulkheadingAcquired = SupplierUtils.bulkheading(() -> -1, () -> Integer.parseInt(valid), new Bulkhead(1));
+        memoizing = SupplierUtils.memoizing(() -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Optional<String> firstPresent(Chain chain) {
+        return chain.firstPresent.get();
+    }
+
+    @Benchmark
+    public String firstPresentFallback(Chain chain) {
+        return chain.firstPresentFallback.get();
+    }
+
+    @Benchmark
+    public Optional<String> firstPresentAsync(Chain chain) {
+        return chain.firstPresentAsync.get().join();
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingSuccess() {
+        return tryingSuccess.get();
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingFailure() {
+        return tryingFailure.get();
+    }
+
+    @Benchmark
+    public Optional<Integer> tryingFailureStackless() {
+        return tryingFailureStackless.get();
+    }
+
+    @Benchmark
+    public Result<Integer> attemptingFailureStackless() {
+        return attemptingFailureStackless.get();
+    }
+
+    @Benchmark
+    public Integer rethrowingSuccess() {
+        return rethrowingSuccess.get();
+    }
+
+    @Benchmark
+    public Integer retryingFailureStackless() {
+        try {
+            return retryingFailureStackless.get();
+        } catch (StacklessException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Integer rateLimitingRejected() {
+        return rateLimitingRejected.get();
+    }
+
+    @Benchmark
+    public Integer bulkheadingAcquired() {
+        return bulkheadingAcquired.get();
+    }
+
+    @Benchmark
+    public Integer memoizingHit() {
+        return memoizing.get();
+    }
+
+    /**
+     * The chains of suppliers of the {@link SupplierUtils#firstPresent} benchmarks, which are only parameterized by
+     * their length for these benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Chain {
+
+        @Param({"1", "4", "16"})
+        public int chainLength;
+
+        private Supplier<Optional<String>> firstPresent;
+        private Supplier<String> firstPresentFallback;
+        private Supplier<CompletableFuture<Optional<String>>> firstPresentAsync;
+
+        @Setup
+        public void setup(SupplierUtilsBenchmark benchmark) {
+            @SuppressWarnings("unchecked")
+            final Supplier<Optional<String>>[] chain = (Supplier<Optional<String>>[]) new Supplier<?>[chainLength];
+            for (int i = 0; i < chainLength - 1; i++)
+                chain[i] = Optional::empty;
+            final String valid = benchmark.valid;
+            chain[chainLength - 1] = () -> Optional.of(valid);
+
+            firstPresent = SupplierUtils.firstPresent(chain);
+            firstPresentFallback = SupplierUtils.firstPresent(() -> benchmark.invalid, chain);
+            firstPresentAsync = SupplierUtils.firstPresentAsync(Runnable::run, chain);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.github.jeysal.java.util.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the throughput of the {@link CollectorUtils} collectors for sequential and parallel streams.
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectorUtilsBenchmark {
+
+    private static final int WINDOW = 64;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).map(i -> i % 100 - 50).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> cumulativelySummingInt() {
+        return stream().collect(CollectorUtils.cumulativelySummingInt(i -> i));
+    }
+
+    @Benchmark
+    public List<Long> cumulativelySummingLong() {
+        return stream().collect(CollectorUtils.cumulativelySummingLong(i -> i));
+    }
+
+    @Benchmark
+    public List<Double> cumulativelySummingDouble() {
+        return stream().collect(CollectorUtils.cumulativelySummingDouble(i -> i));
+    }
+
+    @Benchmark
+    public int[] cumulativelySummingIntToArray() {
+        return stream().collect(CollectorUtils.cumulativelySummingIntToArray(i -> i));
+    }
+
+    @Benchmark
+    public long[] cumulativelySummingLongToArray() {
+        return stream().collect(CollectorUtils.cumulativelySummingLongToArray(i -> i));
+    }
+
+    @Benchmark
+    public double[] cumulativelySummingDoubleToArray() {
+        return stream().collect(CollectorUtils.cumulativelySummingDoubleToArray(i -> i));
+    }
+
+    @Benchmark
+    public double[] cumulativelySummingDoubleCompensated() {
+        return stream().collect(CollectorUtils.cumulativelySummingDoubleCompensated(i -> i));
+    }
+
+    @Benchmark
+    public List<Integer> scanning() {
+        return stream().collect(CollectorUtils.scanning(Integer.MIN_VALUE, Math::max));
+    }
+
+    @Benchmark
+    public int[] scanningInt() {
+        return stream().collect(CollectorUtils.scanningInt(Integer.MIN_VALUE, i -> i, Math::max));
+    }
+
+    @Benchmark
+    public long[] scanningLong() {
+        return stream().collect(CollectorUtils.scanningLong(1L, i -> i, (a, b) -> a * b | 1L));
+    }
+
+    @Benchmark
+    public double[] scanningDouble() {
+        return stream().collect(CollectorUtils.scanningDouble(Double.POSITIVE_INFINITY, i -> i, Math::min));
+    }
+
+    @Benchmark
+    public int[] streamUtilsCumulativeSums() {
+        return StreamUtils.cumulativeSums(stream().mapToInt(i -> i)).toArray();
+    }
+
+    @Benchmark
+    public long[] slidingSummingLong() {
+        return stream().collect(CollectorUtils.slidingSummingLong(WINDOW, i -> i));
+    }
+
+    @Benchmark
+    public double[] slidingMaxDouble() {
+        return stream().collect(CollectorUtils.slidingMaxDouble(WINDOW, i -> i));
+    }
+
+    @Benchmark
+    public double[] slidingVarianceDouble() {
+        return stream().collect(CollectorUtils.slidingVarianceDouble(WINDOW, i -> i));
+    }
+
+    @Benchmark
+    public long streamUtilsBatched() {
+        return StreamUtils.batched(stream(), 100).mapToLong(List::size).sum();
+    }
+
+    @Benchmark
+    public List<List<Integer>> batching() {
+        return stream().collect(CollectorUtils.batching(100));
+    }
+
+    @Benchmark
+    public List<int[]> batchingInt() {
+        return stream().collect(CollectorUtils.batchingInt(100, i -> i));
+    }
+
+    @Benchmark
+    public double summarizingQuantiles() {
+        return stream().collect(CollectorUtils.summarizingQuantiles(i -> i)).quantile(.99);
+    }
+
+    @Benchmark
+    public long summarizingDistinctCount() {
+        return stream().collect(CollectorUtils.summarizingDistinctCount(i -> i)).estimate();
+    }
+
+    @Benchmark
+    public Object summarizingTopK() {
+        return stream().collect(CollectorUtils.summarizingTopK(100, i -> i)).top(10);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingSummingInt() {
+        return stream().collect(CollectorUtils.groupingSummingInt(i -> i, i -> i));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingByConcurrentSummingLong() {
+        return stream().collect(Collectors.groupingByConcurrent(i -> i, Collectors.summingLong(i -> i)));
+    }
+
+    private Stream<Integer> stream() {
+        return parallel ? values.parallelStream() : values.stream();
+    }
+
+}
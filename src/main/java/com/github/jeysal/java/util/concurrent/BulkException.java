@@ -0,0 +1,47 @@
+package com.github.jeysal.java.util.concurrent;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.SortedMap;
+
+/**
+ * Reports the failures of a bulk operation that applied a function to many items.
+ * <p>
+ * The first failure is the cause of this {@link Exception}, and up to {@value #MAX_SUPPRESSED} further failures are
+ * added as suppressed {@link Exception}s, so that the report stays readable even if millions of items failed. All
+ * failures remain available by item index via {@link #getFailures()}.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see BulkResult#getAllOrThrow()
+ * @since 17.10.2026
+ */
+public class BulkException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_SUPPRESSED = 16;
+
+    private final transient SortedMap<Integer, Exception> failures;
+
+    /**
+     * @param failures the {@link Exception}s thrown for the failed items by item index, must not be empty
+     * @param size     the total number of items
+     */
+    public BulkException(SortedMap<Integer, Exception> failures, int size) {
+        super(failures.size() + " of " + size + " items failed", failures.get(failures.firstKey()));
+        this.failures = Collections.unmodifiableSortedMap(failures);
+
+        final Iterator<Exception> suppressed = failures.values().iterator();
+        suppressed.next();
+        for (int i = 0; i < MAX_SUPPRESSED && suppressed.hasNext(); i++)
+            addSuppressed(suppressed.next());
+    }
+
+    /**
+     * @return the {@link Exception}s thrown for the failed items by item index
+     */
+    public SortedMap<Integer, Exception> getFailures() {
+        return failures;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingFunction;
+
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applies a function to an array of items using a bounded number of workers on an {@link Executor}.
+ * <p>
+ * Instead of submitting a task per item, each worker repeatedly claims the next chunk of item indices from a shared
+ * counter, so the number of concurrently processed items never exceeds the parallelism and the executor's queue stays
+ * short. A failed item is recorded and the worker moves on, while the last worker to finish completes the result.
+ * </p>
+ *
+ * @param <T> the type of the items
+ * @param <R> the type of the values
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class BulkExecution<T, R> {
+
+    private static final int MAX_CHUNK = 1 << 10;
+    private static final int CHUNKS_PER_WORKER = 1 << 6;
+
+    private final CompletableFuture<BulkResult<R>> result = new CompletableFuture<>();
+    private final Object[] items;
+    private final ThrowingFunction<? super T, ? extends R, ?> function;
+    private final Object[] values;
+    private final ConcurrentMap<Integer, Exception> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger workers;
+    private final int chunk;
+
+    private BulkExecution(Object[] items, ThrowingFunction<? super T, ? extends R, ?> function, int parallelism) {
+        this.items = items;
+        this.function = function;
+        values = new Object[items.length];
+        workers = new AtomicInteger(parallelism);
+        chunk = Math.max(1, Math.min(MAX_CHUNK, items.length / (parallelism * CHUNKS_PER_WORKER)));
+    }
+
+    /**
+     * Starts applying given function to given items on given executor.
+     *
+     * @param items       the items to apply the function to
+     * @param function    the function to apply
+     * @param executor    the {@link Executor} to run the workers on
+     * @param parallelism the maximum number of workers
+     * @param <T>         the type of the items
+     * @param <R>         the type of the values
+     * @return a {@link CompletableFuture} of the {@link BulkResult}, cancelling it stops the workers from claiming
+     * further items
+     */
+    static <T, R> CompletableFuture<BulkResult<R>> start(
+            Object[] items,
+            ThrowingFunction<? super T, ? extends R, ?> function,
+            Executor executor,
+            int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+
+        final int workers = Math.min(parallelism, items.length);
+        final BulkExecution<T, R> execution = new BulkExecution<>(items, function, Math.max(1, workers));
+        if (workers == 0)
+            execution.complete();
+        for (int i = 0; i < workers && !execution.result.isDone(); i++) {
+            try {
+                executor.execute(execution::work);
+            } catch (RejectedExecutionException e) {
+                execution.result.completeExceptionally(e);
+            }
+        }
+        return execution.result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void work() {
+        try {
+            for (int from; !result.isDone() && (from = next.getAndAdd(chunk)) < items.length; ) {
+                final int to = Math.min(from + chunk, items.length);
+                for (int i = from; i < to; i++) {
+                    try {
+                        values[i] = function.apply((T) items[i]);
+                    } catch (Exception e) {
+                        failures.put(i, e);
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        } finally {
+            if (workers.decrementAndGet() == 0)
+                complete();
+        }
+    }
+
+    private void complete() {
+        result.complete(new BulkResult<>(values, new TreeMap<>(failures)));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * The outcome of a bulk operation that applied a function to many items, holding the value of every successful item
+ * and the {@link Exception} of every failed one.
+ * <p>
+ * Failed items do not abort the operation, so a {@link BulkResult} allows to keep the successes and to retry only the
+ * items listed in {@link #getFailures()}.
+ * </p>
+ *
+ * @param <R> the type of the values
+ * @author Tim Seckinger
+ * @see ConcurrentUtils#mapAll(java.util.Collection, com.github.jeysal.java.util.function.ThrowingFunction)
+ * @since 17.10.2026
+ */
+public final class BulkResult<R> {
+
+    private final Object[] values;
+    private final SortedMap<Integer, Exception> failures;
+
+    /**
+     * @param values   the values by item index, ignored for failed items
+     * @param failures the {@link Exception}s thrown for the failed items by item index
+     */
+    BulkResult(Object[] values, SortedMap<Integer, Exception> failures) {
+        this.values = values;
+        this.failures = Collections.unmodifiableSortedMap(failures);
+    }
+
+    /**
+     * @return the total number of items
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return whether no item failed
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    public int getSuccessCount() {
+        return values.length - failures.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @param index the index of the item
+     * @return the {@link Result} of given item
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public Result<R> get(int index) {
+        if (index < 0 || index >= values.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        final Exception failure = failures.get(index);
+        return failure == null ? Result.success((R) values[index]) : Result.failure(failure);
+    }
+
+    /**
+     * @return the values of the successful items in item order
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> getSuccesses() {
+        if (failures.isEmpty())
+            return (List<R>) Collections.unmodifiableList(Arrays.asList(values));
+
+        final List<R> successes = new ArrayList<>(getSuccessCount());
+        int from = 0;
+        for (int failed : failures.keySet()) {
+            successes.addAll((List<R>) Arrays.asList(values).subList(from, failed));
+            from = failed + 1;
+        }
+        successes.addAll((List<R>) Arrays.asList(values).subList(from, values.length));
+        return Collections.unmodifiableList(successes);
+    }
+
+    /**
+     * @return the {@link Exception}s thrown for the failed items by item index
+     */
+    public SortedMap<Integer, Exception> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the values of all items in item order
+     * @throws BulkException if any item failed
+     */
+    public List<R> getAllOrThrow() throws BulkException {
+        if (!failures.isEmpty())
+            throw new BulkException(failures, values.length);
+        return getSuccesses();
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls to a resource, so that an overloaded resource cannot tie up all callers.
+ * <p>
+ * Like a {@link java.util.concurrent.Semaphore}, a {@link Bulkhead} holds a number of permits, but permits are
+ * acquired by compare-and-set and waiting callers are represented by {@link CompletableFuture}s in a bounded queue
+ * rather than by parked threads. A released permit is handed to the first queued waiter, whose future is completed
+ * by the releasing thread. Callers that {@link #tryAcquire() try} to acquire a permit may overtake queued waiters.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see com.github.jeysal.java.util.function.SupplierUtils#bulkheading(Supplier, ThrowingSupplier, Bulkhead)
+ * @since 17.10.2026
+ */
+public final class Bulkhead {
+
+    private final int maxQueued;
+    private final AtomicInteger available;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a {@link Bulkhead} with an unbounded queue.
+     *
+     * @param maxConcurrent the number of permits
+     */
+    public Bulkhead(int maxConcurrent) {
+        this(maxConcurrent, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@link Bulkhead}.
+     *
+     * @param maxConcurrent the number of permits
+     * @param maxQueued     the maximum number of callers waiting for a permit asynchronously
+     */
+    public Bulkhead(int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1)
+            throw new IllegalArgumentException("Maximum concurrent calls must be positive: " + maxConcurrent);
+        if (maxQueued < 0)
+            throw new IllegalArgumentException("Maximum queued calls must not be negative: " + maxQueued);
+
+        this.maxQueued = maxQueued;
+        available = new AtomicInteger(maxConcurrent);
+    }
+
+    /**
+     * Acquires a permit if one is available now, without waiting. An acquired permit must be {@link #release()
+     * released}.
+     *
+     * @return whether a permit was acquired
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = available.get();
+            if (current <= 0)
+                return false;
+        } while (!available.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    /**
+     * Acquires a permit asynchronously. Once acquired, the permit must be {@link #release() released}. If the returned
+     * {@link CompletableFuture} is cancelled while waiting, the permit is passed on.
+     *
+     * @return a {@link CompletableFuture} completing when a permit has been acquired, or completing exceptionally with
+     * a {@link RejectedExecutionException} if the queue is full
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        if (tryAcquire())
+            return CompletableFuture.completedFuture(null);
+
+        final CompletableFuture<Void> waiter = new CompletableFuture<>();
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            waiter.completeExceptionally(new RejectedExecutionException("Bulkhead queue is full"));
+            return waiter;
+        }
+        waiters.add(waiter);
+        dispatch();
+        return waiter;
+    }
+
+    /**
+     * Releases a permit, handing it to the first queued waiter if there is one.
+     */
+    public void release() {
+        available.incrementAndGet();
+        dispatch();
+    }
+
+    /**
+     * @return the number of permits that could be acquired now
+     */
+    public int availablePermits() {
+        return Math.max(0, available.get());
+    }
+
+    /**
+     * @return the number of callers waiting for a permit asynchronously
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Calls given throwingSupplier if a permit is available now and releases it afterwards, otherwise returns the
+     * result of given fallback without calling throwingSupplier.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param fallback         the {@link Supplier} of the result if no permit is available
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @param <E>              the type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return the result of throwingSupplier or fallback
+     * @throws E the {@link Exception} thrown by throwingSupplier
+     */
+    public <R, E extends Exception> R execute(ThrowingSupplier<R, E> throwingSupplier, Supplier<? extends R> fallback)
+            throws E {
+        if (!tryAcquire())
+            return fallback.get();
+        try {
+            return throwingSupplier.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Acquires a permit asynchronously and then calls given throwingSupplier on given executor, releasing the permit
+     * afterwards.<br>
+     * Calls exceeding the concurrency limit wait in the queue without occupying a thread. The permit is released
+     * before the returned {@link CompletableFuture} completes. If it is completed before a permit has been acquired,
+     * throwingSupplier is not called.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param executor         the {@link Executor} to call throwingSupplier on
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @return a {@link CompletableFuture} of the result of throwingSupplier, completing exceptionally with whatever
+     * throwingSupplier threw, including an {@link Error}, or with a {@link RejectedExecutionException} if the queue is
+     * full
+     */
+    public <R> CompletableFuture<R> executeAsync(ThrowingSupplier<R, ?> throwingSupplier, Executor executor) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        acquireAsync().whenComplete((acquired, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    R value = null;
+                    Throwable exception = null;
+                    try {
+                        if (!result.isDone())
+                            value = throwingSupplier.get();
+                    } catch (Throwable t) {
+                        // any Throwable, since the executor would swallow it, leaving the result incomplete
+                        exception = t;
+                    } finally {
+                        release();
+                    }
+                    if (exception != null)
+                        result.completeExceptionally(exception);
+                    else
+                        result.complete(value);
+                });
+            } catch (RejectedExecutionException e) {
+                release();
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Hands available permits to queued waiters. Both acquiring and releasing threads call this after changing their
+     * side of the hand-off, so no waiter is left queued while a permit is available.
+     */
+    private void dispatch() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            final CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter == null) {
+                available.incrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            if (!waiter.complete(null))
+                available.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Stops calls to a failing resource for a while, so that callers fail fast instead of waiting for it to time out.
+ * <p>
+ * The outcomes of the most recent calls are kept in a sliding window of fixed size. While the breaker is
+ * {@link State#CLOSED closed}, calls are permitted, and once the window is full and the rate of failures in it reaches
+ * the threshold, the breaker {@link State#OPEN opens}. While open, calls are rejected without reaching the resource.
+ * After the open duration has elapsed, the breaker becomes {@link State#HALF_OPEN half-open} and permits a single
+ * trial call, which closes the breaker with an empty window if it succeeds and opens it again if it fails.
+ * </p>
+ * <p>
+ * Recording an outcome swaps it into the window slot of the oldest one and adjusts the counters by the difference,
+ * and state transitions are compare-and-set operations, so instances are lock-free and meant to be shared by all
+ * callers of a resource. Permitting a call in the closed state only reads the state.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see com.github.jeysal.java.util.function.FunctionUtils#circuitBreaking(java.util.function.Function,
+ * com.github.jeysal.java.util.function.ThrowingFunction, CircuitBreaker)
+ * @since 17.10.2026
+ */
+public final class CircuitBreaker {
+
+    private static final int NONE = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final int windowSize;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final AtomicIntegerArray outcomes;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicReference<Status> status = new AtomicReference<>(new Status(State.CLOSED, 0));
+
+    /**
+     * Creates a closed {@link CircuitBreaker}.
+     *
+     * @param failureRateThreshold the fraction of failed calls in the window, greater than 0 and at most 1, at which
+     *                             the breaker opens
+     * @param windowSize           the number of most recent calls whose outcomes are considered
+     * @param openDuration         how long the breaker stays open before permitting a trial call
+     */
+    public CircuitBreaker(double failureRateThreshold, int windowSize, Duration openDuration) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1))
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]: " + failureRateThreshold);
+        if (windowSize < 1)
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        if (openDuration.isNegative())
+            throw new IllegalArgumentException("Open duration must not be negative: " + openDuration);
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        openNanos = openDuration.toNanos();
+        outcomes = new AtomicIntegerArray(windowSize);
+    }
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls are permitted and their outcomes recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected until the open duration has elapsed.
+         */
+        OPEN,
+        /**
+         * A single trial call is permitted, whose outcome decides whether the breaker closes or opens again.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * @return the current {@link State}, which is only updated when calls are permitted or outcomes recorded, so an
+     * open breaker whose open duration has elapsed is still reported as open until the next call
+     */
+    public State getState() {
+        return status.get().state;
+    }
+
+    /**
+     * @return the fraction of failed calls among the recorded ones in the current window, or 0 if there are none
+     */
+    public double getFailureRate() {
+        final int recorded = calls.get();
+        return recorded <= 0 ? 0 : (double) failures.get() / recorded;
+    }
+
+    /**
+     * Checks whether a call may be made now. If it is permitted, its outcome must be recorded with
+     * {@link #recordSuccess()} or {@link #recordFailure()}.
+     * <p>
+     * If a half-open breaker's trial call is not recorded within the open duration, another trial call is permitted.
+     * </p>
+     *
+     * @return whether the call is permitted
+     */
+    public boolean tryAcquirePermission() {
+        final Status current = status.get();
+        if (current.state == State.CLOSED)
+            return true;
+
+        final long now = System.nanoTime();
+        return now - current.since >= openNanos && status.compareAndSet(current, new Status(State.HALF_OPEN, now));
+    }
+
+    /**
+     * Records a successful call, closing a half-open breaker.
+     */
+    public void recordSuccess() {
+        final Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            if (status.compareAndSet(current, new Status(State.CLOSED, System.nanoTime())))
+                reset();
+        } else if (current.state == State.CLOSED)
+            record(SUCCESS);
+    }
+
+    /**
+     * Records a failed call, opening a half-open breaker or a closed one whose failure rate reaches the threshold.
+     */
+    public void recordFailure() {
+        final Status current = status.get();
+        if (current.state == State.HALF_OPEN)
+            status.compareAndSet(current, new Status(State.OPEN, System.nanoTime()));
+        else if (current.state == State.CLOSED) {
+            record(FAILURE);
+            final int recorded = calls.get();
+            if (recorded >= windowSize && failures.get() >= failureRateThreshold * recorded)
+                status.compareAndSet(current, new Status(State.OPEN, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Calls given throwingSupplier if this {@link CircuitBreaker} permits it and records the outcome, otherwise
+     * returns the result of given fallback without calling throwingSupplier.<br>
+     * {@link Exception}s thrown by throwingSupplier are recorded as failures and rethrown.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param fallback         the {@link Supplier} of the result if the call is not permitted
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @param <E>              the type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return the result of throwingSupplier or fallback
+     * @throws E the {@link Exception} thrown by throwingSupplier
+     */
+    public <R, E extends Exception> R execute(ThrowingSupplier<R, E> throwingSupplier, Supplier<? extends R> fallback)
+            throws E {
+        if (!tryAcquirePermission())
+            return fallback.get();
+
+        final R result;
+        try {
+            result = throwingSupplier.get();
+        } catch (Exception e) {
+            recordFailure();
+            throw e;
+        }
+        recordSuccess();
+        return result;
+    }
+
+    private void record(int outcome) {
+        final int index = Math.floorMod(cursor.getAndIncrement(), windowSize);
+        update(outcomes.getAndSet(index, outcome), outcome);
+    }
+
+    private void reset() {
+        for (int i = 0; i < windowSize; i++)
+            update(outcomes.getAndSet(i, NONE), NONE);
+    }
+
+    private void update(int previous, int outcome) {
+        if (previous == outcome)
+            return;
+        if (previous == NONE)
+            calls.incrementAndGet();
+        else if (outcome == NONE)
+            calls.decrementAndGet();
+        if (previous == FAILURE)
+            failures.decrementAndGet();
+        else if (outcome == FAILURE)
+            failures.incrementAndGet();
+    }
+
+    private static final class Status {
+
+        private final State state;
+        private final long since;
+
+        private Status(State state, long since) {
+            this.state = state;
+            this.since = since;
+        }
+
+    }
+
+}
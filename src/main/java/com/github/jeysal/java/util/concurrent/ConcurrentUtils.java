@@ -0,0 +1,385 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingFunction;
+import com.github.jeysal.java.util.function.ThrowingRunnable;
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Provides utility methods to process many items or call many suppliers concurrently.
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class ConcurrentUtils {
+
+    /**
+     * Applies given function to all given items on the common {@link ForkJoinPool}, using as many workers as its
+     * parallelism, and waits for the result.
+     *
+     * @param items    the items to apply the function to
+     * @param function the {@link ThrowingFunction} to apply
+     * @param <T>      the type of the items
+     * @param <R>      the return type of the {@link ThrowingFunction}
+     * @return the {@link BulkResult} in item order
+     * @throws InterruptedException if the calling thread is interrupted while waiting, which stops the workers from
+     *                              claiming further items
+     * @see #mapAll(Collection, ThrowingFunction, Executor, int)
+     */
+    public static <T, R> BulkResult<R> mapAll(
+            Collection<? extends T> items,
+            ThrowingFunction<? super T, ? extends R, ?> function) throws InterruptedException {
+        return mapAll(items, function, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Applies given function to all given items on given executor, using at most given number of workers, and waits
+     * for the result.
+     * <p>
+     * Unlike {@link com.github.jeysal.java.util.function.FunctionUtils#rethrowing(ThrowingFunction)} in a parallel
+     * stream, an {@link Exception} thrown for one item does not abort the others. It is recorded in the
+     * {@link BulkResult}, which allows to keep the successes and retry only the failed items. Each worker claims
+     * chunks of items from a shared counter, so at most parallelism items are processed at any time, regardless of
+     * the number of threads of the executor. Executors running each task on a new thread, such as a virtual thread
+     * per task executor on recent JDKs, are thus bounded as well.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code mapAll(paths, Files::readAllBytes, ioPool, 16).getFailures()} maps each unreadable path's index to its
+     * {@link java.io.IOException}
+     * </p>
+     *
+     * @param items       the items to apply the function to
+     * @param function    the {@link ThrowingFunction} to apply
+     * @param executor    the {@link Executor} to run the workers on
+     * @param parallelism the maximum number of workers
+     * @param <T>         the type of the items
+     * @param <R>         the return type of the {@link ThrowingFunction}
+     * @return the {@link BulkResult} in item order
+     * @throws InterruptedException     if the calling thread is interrupted while waiting, which stops the workers
+     *                                  from claiming further items
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public static <T, R> BulkResult<R> mapAll(
+            Collection<? extends T> items,
+            ThrowingFunction<? super T, ? extends R, ?> function,
+            Executor executor,
+            int parallelism) throws InterruptedException {
+        return await(mapAllAsync(items, function, executor, parallelism));
+    }
+
+    /**
+     * Applies given function to all given items on given executor, using at most given number of workers.
+     *
+     * @param items       the items to apply the function to
+     * @param function    the {@link ThrowingFunction} to apply
+     * @param executor    the {@link Executor} to run the workers on
+     * @param parallelism the maximum number of workers
+     * @param <T>         the type of the items
+     * @param <R>         the return type of the {@link ThrowingFunction}
+     * @return a {@link CompletableFuture} of the {@link BulkResult} in item order, cancelling it stops the workers from
+     * claiming further items
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @see #mapAll(Collection, ThrowingFunction, Executor, int)
+     */
+    public static <T, R> CompletableFuture<BulkResult<R>> mapAllAsync(
+            Collection<? extends T> items,
+            ThrowingFunction<? super T, ? extends R, ?> function,
+            Executor executor,
+            int parallelism) {
+        return BulkExecution.start(items.toArray(), function, executor, parallelism);
+    }
+
+    /**
+     * Runs all given tasks on given executor, using at most given number of workers, and waits for the result.
+     *
+     * @param tasks       the {@link ThrowingRunnable}s to run
+     * @param executor    the {@link Executor} to run the workers on
+     * @param parallelism the maximum number of workers
+     * @return the {@link BulkResult} in task order
+     * @throws InterruptedException     if the calling thread is interrupted while waiting, which stops the workers
+     *                                  from claiming further tasks
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @see #mapAll(Collection, ThrowingFunction, Executor, int)
+     */
+    public static BulkResult<Void> runAll(
+            Collection<? extends ThrowingRunnable<?>> tasks,
+            Executor executor,
+            int parallelism) throws InterruptedException {
+        return await(runAllAsync(tasks, executor, parallelism));
+    }
+
+    /**
+     * Runs all given tasks on given executor, using at most given number of workers.
+     *
+     * @param tasks       the {@link ThrowingRunnable}s to run
+     * @param executor    the {@link Executor} to run the workers on
+     * @param parallelism the maximum number of workers
+     * @return a {@link CompletableFuture} of the {@link BulkResult} in task order, cancelling it stops the workers from
+     * claiming further tasks
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @see #mapAll(Collection, ThrowingFunction, Executor, int)
+     */
+    public static CompletableFuture<BulkResult<Void>> runAllAsync(
+            Collection<? extends ThrowingRunnable<?>> tasks,
+            Executor executor,
+            int parallelism) {
+        return BulkExecution.start(tasks.toArray(), (ThrowingRunnable<?> task) -> {
+            task.run();
+            return null;
+        }, executor, parallelism);
+    }
+
+    /**
+     * Returns the {@link Executor} used by the methods of this class that do not take one.
+     * <p>
+     * On JDKs providing virtual threads, it runs every task on a new virtual thread. Otherwise, it is a pool of
+     * daemon threads bounded to four threads per available processor, which time out after a minute of idleness.
+     * </p>
+     *
+     * @return the default {@link Executor}
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Calls all given suppliers concurrently on the {@link #defaultExecutor()} and waits until all have succeeded.
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the values of all suppliers in supplier order
+     * @throws ExecutionException   if any supplier failed, caused by the first failure
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     * @throws TimeoutException     if the timeout elapsed before all suppliers succeeded
+     * @see #allOf(Collection, Executor, Duration)
+     */
+    public static <R> List<R> allOf(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return allOf(suppliers, defaultExecutor(), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor and waits until all have succeeded.
+     * <p>
+     * As soon as one supplier fails, the timeout elapses or the calling thread is interrupted, all suppliers that are
+     * still running are cancelled and interrupted, so none of them outlive the call.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code allOf(asList(() -> loadUser(id), () -> loadOrders(id)), executor, Duration.ofMillis(200))}
+     * </p>
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the values of all suppliers in supplier order
+     * @throws ExecutionException   if any supplier failed, caused by the first failure
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     * @throws TimeoutException     if the timeout elapsed before all suppliers succeeded
+     */
+    public static <R> List<R> allOf(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return await(allOfAsync(suppliers, executor), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor.
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return a {@link CompletableFuture} of the values of all suppliers in supplier order, or of the first failure;
+     * completing or cancelling it cancels all suppliers that are still running
+     * @see #allOf(Collection, Executor, Duration)
+     */
+    public static <R> CompletableFuture<List<R>> allOfAsync(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor) {
+        return FanOut.start(suppliers, suppliers.size(), executor);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on the {@link #defaultExecutor()} and waits until one has succeeded.
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the value of the first supplier to succeed
+     * @throws ExecutionException   if all suppliers failed, caused by the first failure
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     * @throws TimeoutException     if the timeout elapsed before any supplier succeeded
+     * @see #anyOf(Collection, Executor, Duration)
+     */
+    public static <R> R anyOf(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return anyOf(suppliers, defaultExecutor(), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor and waits until one has succeeded.
+     * <p>
+     * As soon as one supplier succeeds, the timeout elapses or the calling thread is interrupted, all suppliers that
+     * are still running are cancelled and interrupted, so none of them outlive the call.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code anyOf(asList(() -> primary.read(key), () -> replica.read(key)), executor, Duration.ofMillis(50))}
+     * </p>
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the value of the first supplier to succeed
+     * @throws ExecutionException       if all suppliers failed, caused by the first failure
+     * @throws InterruptedException     if the calling thread was interrupted while waiting
+     * @throws TimeoutException         if the timeout elapsed before any supplier succeeded
+     * @throws IllegalArgumentException if no suppliers are given
+     */
+    public static <R> R anyOf(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return await(anyOfAsync(suppliers, executor), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor.
+     *
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return a {@link CompletableFuture} of the value of the first supplier to succeed, or of the first failure if
+     * all fail; completing or cancelling it cancels all suppliers that are still running
+     * @throws IllegalArgumentException if no suppliers are given
+     * @see #anyOf(Collection, Executor, Duration)
+     */
+    public static <R> CompletableFuture<R> anyOfAsync(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor) {
+        final CompletableFuture<List<R>> successes = FanOut.start(suppliers, 1, executor);
+        final CompletableFuture<R> result = successes.thenApply(values -> values.get(0));
+        result.whenComplete((r, e) -> successes.cancel(true));
+        return result;
+    }
+
+    /**
+     * Calls all given suppliers concurrently on the {@link #defaultExecutor()} and waits until given number of them
+     * have succeeded.
+     *
+     * @param count     the number of suppliers that have to succeed
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the values of the first count suppliers to succeed in completion order
+     * @throws ExecutionException   if so many suppliers failed that count successes cannot be reached, caused by the
+     *                              first failure
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     * @throws TimeoutException     if the timeout elapsed before count suppliers succeeded
+     * @see #firstSuccessful(int, Collection, Executor, Duration)
+     */
+    public static <R> List<R> firstSuccessful(
+            int count,
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return firstSuccessful(count, suppliers, defaultExecutor(), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor and waits until given number of them have succeeded.
+     * <p>
+     * As soon as count suppliers have succeeded, so many have failed that this is no longer possible, the timeout
+     * elapses or the calling thread is interrupted, all suppliers that are still running are cancelled and
+     * interrupted, so none of them outlive the call.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code firstSuccessful(2, replicas, executor, Duration.ofMillis(100))} waits for a quorum of two replicas
+     * </p>
+     *
+     * @param count     the number of suppliers that have to succeed
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param timeout   the maximum time to wait
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return the values of the first count suppliers to succeed in completion order
+     * @throws ExecutionException       if so many suppliers failed that count successes cannot be reached, caused by
+     *                                  the first failure
+     * @throws InterruptedException     if the calling thread was interrupted while waiting
+     * @throws TimeoutException         if the timeout elapsed before count suppliers succeeded
+     * @throws IllegalArgumentException if count is negative or greater than the number of suppliers
+     */
+    public static <R> List<R> firstSuccessful(
+            int count,
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor,
+            Duration timeout) throws ExecutionException, InterruptedException, TimeoutException {
+        return await(firstSuccessfulAsync(count, suppliers, executor), timeout);
+    }
+
+    /**
+     * Calls all given suppliers concurrently on given executor.
+     *
+     * @param count     the number of suppliers that have to succeed
+     * @param suppliers the {@link ThrowingSupplier}s to call
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param <R>       the return type of the {@link ThrowingSupplier}s
+     * @return a {@link CompletableFuture} of the values of the first count suppliers to succeed in completion order,
+     * or of the first failure once count successes cannot be reached; completing or cancelling it cancels all
+     * suppliers that are still running
+     * @throws IllegalArgumentException if count is negative or greater than the number of suppliers
+     * @see #firstSuccessful(int, Collection, Executor, Duration)
+     */
+    public static <R> CompletableFuture<List<R>> firstSuccessfulAsync(
+            int count,
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            Executor executor) {
+        return FanOut.start(suppliers, count, executor);
+    }
+
+    private static <R> R await(CompletableFuture<R> future, Duration timeout)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException | TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error)
+                throw (Error) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new CompletionException(cause);
+        }
+    }
+
+}
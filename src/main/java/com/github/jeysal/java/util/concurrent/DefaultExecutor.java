@@ -0,0 +1,53 @@
+package com.github.jeysal.java.util.concurrent;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the {@link Executor} used by {@link ConcurrentUtils} when none is given, created on first use.
+ * <p>
+ * On JDKs providing virtual threads, every task runs on a new virtual thread, which makes blocking cheap. Since this
+ * library targets Java 8, the virtual thread executor is looked up reflectively. Older JDKs fall back to a bounded
+ * pool of daemon platform threads that time out when idle.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@UtilityClass
+class DefaultExecutor {
+
+    static final Executor INSTANCE = create();
+
+    private static final int THREADS_PER_PROCESSOR = 4;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static Executor create() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            final int threads = THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreadFactory());
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "java-utils-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
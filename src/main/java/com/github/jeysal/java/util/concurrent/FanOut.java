@@ -0,0 +1,112 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Concurrently calls a collection of suppliers and completes once a required number of them has succeeded.
+ * <p>
+ * If so many suppliers fail that the required number of successes can no longer be reached, the result fails with
+ * the first failure, unchanged. Later failures are dropped rather than suppressed by it, since it may be shared, e.g.
+ * if it is preallocated. As soon as the result is known, all suppliers that are still running are cancelled and
+ * interrupted, so no stragglers outlive the result.
+ * </p>
+ *
+ * @param <R> the return type of the suppliers
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class FanOut<R> {
+
+    private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+    private final List<FutureTask<R>> tasks;
+    private final int required;
+    private final boolean ordered;
+    private final Object[] values;
+    private final List<R> successes = new ArrayList<>();
+    private Throwable failure;
+    private int failed;
+
+    private FanOut(Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers, int required) {
+        this.required = required;
+        ordered = required == suppliers.size();
+        values = new Object[suppliers.size()];
+        tasks = new ArrayList<>(suppliers.size());
+        for (ThrowingSupplier<? extends R, ?> supplier : suppliers) {
+            final int index = tasks.size();
+            tasks.add(new FutureTask<R>(supplier::get) {
+                @Override
+                protected void done() {
+                    complete(this, index);
+                }
+            });
+        }
+    }
+
+    /**
+     * Starts calling given suppliers on given executor.
+     *
+     * @param suppliers the suppliers to call
+     * @param required  the number of suppliers that have to succeed
+     * @param executor  the {@link Executor} to call the suppliers on
+     * @param <R>       the return type of the suppliers
+     * @return a {@link CompletableFuture} of the values of all suppliers in supplier order if all are required,
+     * otherwise of the first required values in completion order; cancelling it cancels all suppliers
+     * @throws IllegalArgumentException if required is negative or greater than the number of suppliers
+     */
+    static <R> CompletableFuture<List<R>> start(
+            Collection<? extends ThrowingSupplier<? extends R, ?>> suppliers,
+            int required,
+            Executor executor) {
+        if (required < 0 || required > suppliers.size())
+            throw new IllegalArgumentException(
+                    "Required successes must be between 0 and " + suppliers.size() + ": " + required);
+
+        final FanOut<R> fanOut = new FanOut<>(suppliers, required);
+        fanOut.result.whenComplete((r, e) -> fanOut.tasks.forEach(task -> task.cancel(true)));
+        if (required == 0)
+            fanOut.result.complete(new ArrayList<>());
+
+        for (FutureTask<R> task : fanOut.tasks) {
+            if (fanOut.result.isDone())
+                break;
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                fanOut.result.completeExceptionally(e);
+            }
+        }
+        return fanOut.result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void complete(FutureTask<R> task, int index) {
+        if (result.isDone() || task.isCancelled())
+            return;
+
+        try {
+            final R value = task.get();
+            values[index] = value;
+            successes.add(value);
+            if (successes.size() == required)
+                result.complete(ordered ? new ArrayList<>((List<R>) Arrays.asList(values)) : successes);
+        } catch (ExecutionException e) {
+            if (failure == null)
+                failure = e.getCause();
+            if (++failed > tasks.size() - required)
+                result.completeExceptionally(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Limits the rate of calls to a resource, allowing bursts of a given size.
+ * <p>
+ * This is a token bucket implemented as the generic cell rate algorithm: instead of a number of tokens, only the
+ * theoretical time at which the bucket will be full again is kept, in a single {@link AtomicLong}. Each permit moves
+ * it one interval into the future, and a permit is available as long as that time stays within the burst tolerance
+ * from now. Permit accounting is thus a single compare-and-set, and refilling needs no background thread.
+ * </p>
+ * <p>
+ * Callers can either {@link #tryAcquire() try} to acquire a permit and fall back if none is available, or
+ * {@link #reserve() reserve} one in the future and wait for it, so that excess calls are queued and the rate is
+ * smoothed instead of calls being rejected.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see com.github.jeysal.java.util.function.SupplierUtils#rateLimiting(Supplier, ThrowingSupplier, RateLimiter)
+ * @since 17.10.2026
+ */
+public final class RateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a {@link RateLimiter} with a full bucket.
+     *
+     * @param permitsPerSecond the sustained rate of permits
+     * @param burst            the maximum number of permits available at once
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0 && permitsPerSecond < Double.POSITIVE_INFINITY))
+            throw new IllegalArgumentException("Permits per second must be positive: " + permitsPerSecond);
+        if (burst < 1)
+            throw new IllegalArgumentException("Burst must be positive: " + burst);
+
+        intervalNanos = Math.max(1, Math.round(1e9 / permitsPerSecond));
+        if (burst > Long.MAX_VALUE / 2 / intervalNanos)
+            throw new IllegalArgumentException("Burst is too large for the rate: " + burst);
+        burstNanos = intervalNanos * burst;
+        theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Acquires a permit if one is available now, without waiting.
+     *
+     * @return whether a permit was acquired
+     */
+    public boolean tryAcquire() {
+        final long now = System.nanoTime();
+        long current;
+        long next;
+        do {
+            current = theoreticalArrival.get();
+            next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > burstNanos)
+                return false;
+        } while (!theoreticalArrival.compareAndSet(current, next));
+        return true;
+    }
+
+    /**
+     * Reserves the next permit, which may only become available in the future.
+     *
+     * @return the number of nanoseconds to wait before the permit may be used
+     */
+    public long reserve() {
+        final long now = System.nanoTime();
+        long current;
+        long next;
+        do {
+            current = theoreticalArrival.get();
+            next = (current - now > 0 ? current : now) + intervalNanos;
+        } while (!theoreticalArrival.compareAndSet(current, next));
+        return Math.max(0, next - now - burstNanos);
+    }
+
+    /**
+     * Reserves the next permit and blocks the calling thread until it may be used.<br>
+     * If the thread is interrupted while waiting, the reserved permit is lost.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        final long deadline = System.nanoTime() + reserve();
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+
+    /**
+     * @return the number of permits that could be acquired now without waiting
+     */
+    public long availablePermits() {
+        final long ahead = theoreticalArrival.get() - System.nanoTime();
+        return (burstNanos - Math.max(0, ahead)) / intervalNanos;
+    }
+
+    /**
+     * Calls given throwingSupplier if a permit is available now, otherwise returns the result of given fallback without
+     * calling throwingSupplier.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param fallback         the {@link Supplier} of the result if no permit is available
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @param <E>              the type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return the result of throwingSupplier or fallback
+     * @throws E the {@link Exception} thrown by throwingSupplier
+     */
+    public <R, E extends Exception> R execute(ThrowingSupplier<R, E> throwingSupplier, Supplier<? extends R> fallback)
+            throws E {
+        return tryAcquire() ? throwingSupplier.get() : fallback.get();
+    }
+
+    /**
+     * Reserves a permit and calls given throwingSupplier on given scheduler once the permit may be used.<br>
+     * Calls exceeding the rate are scheduled after their delay, so no thread is blocked while they wait. If the
+     * returned {@link CompletableFuture} is completed before the delay has elapsed, throwingSupplier is not called.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param scheduler        the {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @return a {@link CompletableFuture} of the result of throwingSupplier, completing exceptionally with whatever
+     * throwingSupplier threw, including an {@link Error}
+     */
+    public <R> CompletableFuture<R> executeAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            ScheduledExecutorService scheduler) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            scheduler.schedule(() -> {
+                if (result.isDone())
+                    return;
+                try {
+                    result.complete(throwingSupplier.get());
+                } catch (Throwable t) {
+                    // any Throwable, since the scheduler would swallow it, leaving the result incomplete
+                    result.completeExceptionally(t);
+                }
+            }, reserve(), NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+}
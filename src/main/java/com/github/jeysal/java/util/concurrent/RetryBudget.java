@@ -0,0 +1,77 @@
+package com.github.jeysal.java.util.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of retries relative to the number of calls, so that retries cannot multiply the load on a
+ * failing resource.
+ * <p>
+ * Every call deposits a fraction of a token, up to a maximum reserve, and every retry withdraws a whole token. If no
+ * whole token is left, the retry is not allowed. Sharing a {@link RetryBudget} between all callers of a resource thus
+ * bounds the retry rate to the given ratio of the call rate, plus a reserve for bursts. Token accounting is lock-free.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see RetryPolicy#withBudget(RetryBudget)
+ * @since 17.10.2026
+ */
+public final class RetryBudget {
+
+    private static final long TOKEN = 1_000;
+
+    private final long deposit;
+    private final long maximum;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a {@link RetryBudget} with a full reserve.
+     *
+     * @param retryRatio the number of retries allowed per call, e.g. {@code .1} to allow one retry per ten calls
+     * @param reserve    the maximum number of retries that can be saved up
+     */
+    public RetryBudget(double retryRatio, int reserve) {
+        if (retryRatio < 0)
+            throw new IllegalArgumentException("Retry ratio must not be negative: " + retryRatio);
+        if (reserve < 0)
+            throw new IllegalArgumentException("Reserve must not be negative: " + reserve);
+
+        deposit = Math.round(retryRatio * TOKEN);
+        maximum = reserve * TOKEN;
+        balance = new AtomicLong(maximum);
+    }
+
+    /**
+     * Deposits the fraction of a token that a call earns.
+     */
+    public void recordCall() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maximum)
+                return;
+        } while (!balance.compareAndSet(current, Math.min(maximum, current + deposit)));
+    }
+
+    /**
+     * Withdraws a token for a retry if one is available.
+     *
+     * @return whether the retry is allowed
+     */
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN)
+                return false;
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * @return the number of retries that are currently allowed
+     */
+    public long availableRetries() {
+        return balance.get() / TOKEN;
+    }
+
+}
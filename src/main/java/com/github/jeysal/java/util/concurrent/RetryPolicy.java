@@ -0,0 +1,250 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Describes how often and when to retry a failed call.
+ * <p>
+ * The delay before the n-th retry is {@code initialDelay * multiplier^(n - 1)}, capped at maxDelay. A jitter of j
+ * randomly shortens each delay by up to j times its length, so that callers failing at the same time do not retry
+ * at the same time. A {@link RetryBudget} additionally limits retries across all callers sharing it.
+ * </p>
+ * <p>
+ * Instances are immutable, the {@code with*} methods return modified copies.<br>
+ * <b>Example:</b><br>
+ * {@code RetryPolicy.maxAttempts(5).withBackoff(Duration.ofMillis(10), Duration.ofSeconds(1)).withJitter(.5)}
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see com.github.jeysal.java.util.function.SupplierUtils#retrying(ThrowingSupplier, RetryPolicy)
+ * @since 17.10.2026
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final RetryBudget budget;
+    private final Predicate<? super Exception> retryCondition;
+
+    private RetryPolicy(
+            int maxAttempts,
+            long initialDelayNanos,
+            long maxDelayNanos,
+            double multiplier,
+            double jitter,
+            RetryBudget budget,
+            Predicate<? super Exception> retryCondition) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.budget = budget;
+        this.retryCondition = retryCondition;
+    }
+
+    /**
+     * Returns a {@link RetryPolicy} that retries immediately after any {@link Exception}, until given number of
+     * attempts have been made.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @return the {@link RetryPolicy}
+     */
+    public static RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1)
+            throw new IllegalArgumentException("Maximum attempts must be positive: " + maxAttempts);
+        return new RetryPolicy(maxAttempts, 0, 0, 2, 0, null, e -> true);
+    }
+
+    /**
+     * @param initialDelay the delay before the first retry
+     * @param maxDelay     the maximum delay before any retry
+     * @return a copy of this {@link RetryPolicy} with exponential backoff between given delays
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay) {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0)
+            throw new IllegalArgumentException("Invalid delays: " + initialDelay + ", " + maxDelay);
+        return new RetryPolicy(maxAttempts, initialDelay.toNanos(), maxDelay.toNanos(), multiplier, jitter, budget,
+                retryCondition);
+    }
+
+    /**
+     * @param multiplier the factor by which each delay is longer than the previous one, 2 by default
+     * @return a copy of this {@link RetryPolicy} with given multiplier
+     */
+    public RetryPolicy withMultiplier(double multiplier) {
+        if (multiplier < 1)
+            throw new IllegalArgumentException("Multiplier must be at least 1: " + multiplier);
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, budget,
+                retryCondition);
+    }
+
+    /**
+     * @param jitter the maximum fraction between 0 and 1 by which each delay is randomly shortened, 0 by default
+     * @return a copy of this {@link RetryPolicy} with given jitter
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1)
+            throw new IllegalArgumentException("Jitter must be between 0 and 1: " + jitter);
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, budget,
+                retryCondition);
+    }
+
+    /**
+     * @param budget the {@link RetryBudget} to record calls to and acquire retries from
+     * @return a copy of this {@link RetryPolicy} that only retries if given budget allows it
+     */
+    public RetryPolicy withBudget(RetryBudget budget) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, budget,
+                retryCondition);
+    }
+
+    /**
+     * @param retryCondition the condition an {@link Exception} has to satisfy to be retried, all by default
+     * @return a copy of this {@link RetryPolicy} that only retries after {@link Exception}s satisfying given condition
+     */
+    public RetryPolicy withRetryCondition(Predicate<? super Exception> retryCondition) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, budget,
+                retryCondition);
+    }
+
+    /**
+     * Calls given throwingSupplier until it succeeds or this {@link RetryPolicy} does not allow another retry,
+     * blocking the calling thread during the delays between attempts.<br>
+     * If the thread is interrupted during a delay, the last {@link Exception} is thrown with the interrupt status set.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @param <E>              the type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return the result of the first successful call
+     * @throws E the {@link Exception} thrown by the last call
+     */
+    public <R, E extends Exception> R execute(ThrowingSupplier<R, E> throwingSupplier) throws E {
+        recordCall();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return throwingSupplier.get();
+            } catch (Exception e) {
+                if (!shouldRetry(e, attempt))
+                    throw e;
+
+                final long deadline = System.nanoTime() + delayNanos(attempt);
+                for (long remaining = deadline - System.nanoTime(); remaining > 0;
+                     remaining = deadline - System.nanoTime()) {
+                    LockSupport.parkNanos(remaining);
+                    if (Thread.currentThread().isInterrupted())
+                        throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls given throwingSupplier on given scheduler until it succeeds or this {@link RetryPolicy} does not allow
+     * another retry, scheduling each retry after its delay instead of blocking a thread.<br>
+     * An {@link Error} thrown by throwingSupplier, or anything thrown by the retry condition, is not retried but
+     * completes the {@link CompletableFuture} exceptionally.
+     *
+     * @param throwingSupplier the {@link ThrowingSupplier} to call
+     * @param scheduler        the {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param <R>              the return type of the {@link ThrowingSupplier}
+     * @return a {@link CompletableFuture} of the result of the first successful call, or of the {@link Exception}
+     * thrown by the last call; cancelling it prevents further attempts
+     */
+    public <R> CompletableFuture<R> executeAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            ScheduledExecutorService scheduler) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        recordCall();
+        try {
+            scheduler.execute(() -> attempt(throwingSupplier, scheduler, result, 1));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * @param retry the number of the retry, starting at 1 for the retry after the first attempt
+     * @return the delay before given retry in nanoseconds, including jitter
+     */
+    public long delayNanos(int retry) {
+        if (initialDelayNanos == 0)
+            return 0;
+
+        final double delay = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, retry - 1));
+        return (long) (delay * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private <R> void attempt(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            ScheduledExecutorService scheduler,
+            CompletableFuture<R> result,
+            int attempt) {
+        if (result.isDone())
+            return;
+
+        final R value;
+        try {
+            value = throwingSupplier.get();
+        } catch (Exception e) {
+            retry(throwingSupplier, scheduler, result, attempt, e);
+            return;
+        } catch (Throwable t) {
+            // completed for any Throwable, since the scheduler would swallow it and leave the future incomplete
+            result.completeExceptionally(t);
+            return;
+        }
+        result.complete(value);
+    }
+
+    private <R> void retry(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            ScheduledExecutorService scheduler,
+            CompletableFuture<R> result,
+            int attempt,
+            Exception e) {
+        final boolean retry;
+        try {
+            retry = shouldRetry(e, attempt);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+        if (!retry) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        try {
+            scheduler.schedule(() -> attempt(throwingSupplier, scheduler, result, attempt + 1),
+                    delayNanos(attempt), NANOSECONDS);
+        } catch (RejectedExecutionException rejected) {
+            rejected.addSuppressed(e);
+            result.completeExceptionally(rejected);
+        }
+    }
+
+    private void recordCall() {
+        if (budget != null)
+            budget.recordCall();
+    }
+
+    private boolean shouldRetry(Exception e, int attempt) {
+        return attempt < maxAttempts && retryCondition.test(e) && (budget == null || budget.tryAcquireRetry());
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A function that collects the arguments of individual calls into batches and looks them up with a single call of a
+ * bulk function, completing a {@link CompletableFuture} per call.
+ * <p>
+ * A batch is dispatched to the scheduler as soon as it holds the maximum number of distinct arguments, or when the
+ * maximum delay has passed since its first argument was added, whichever comes first. Calls with an argument that is
+ * already in the current batch share its {@link CompletableFuture}. At most a maximum number of arguments may be
+ * pending, i.e. queued or being looked up, at once; further calls are rejected right away rather than growing the
+ * queue without bound.
+ * </p>
+ * <p>
+ * An argument that the bulk function did not map, or mapped to null, completes with null rather than exceptionally,
+ * like {@link Map#get(Object)}, since bulk lookups commonly omit arguments they found nothing for. Anything the bulk
+ * function throws, including an {@link Error}, completes all futures of the batch exceptionally.
+ * </p>
+ *
+ * @param <T> the parameter type of the function
+ * @param <R> the return type of the function
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class BatchingFunction<T, R> implements Function<T, CompletableFuture<R>> {
+
+    private final ThrowingFunction<List<T>, Map<T, R>, ?> bulkFunction;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final int maxPending;
+    private final ScheduledExecutorService scheduler;
+    private Batch<T, R> batch;
+    private int pending;
+
+    /**
+     * @param bulkFunction  the function to look up a batch of arguments with
+     * @param maxBatchSize  the maximum number of distinct arguments per batch
+     * @param maxDelayNanos the maximum time to wait for a batch to fill up
+     * @param maxPending    the maximum number of arguments queued or being looked up at once
+     * @param scheduler     the {@link ScheduledExecutorService} to look up batches on
+     */
+    BatchingFunction(
+            ThrowingFunction<List<T>, Map<T, R>, ?> bulkFunction,
+            int maxBatchSize,
+            long maxDelayNanos,
+            int maxPending,
+            ScheduledExecutorService scheduler) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("Maximum batch size must be positive: " + maxBatchSize);
+        if (maxDelayNanos < 0)
+            throw new IllegalArgumentException("Maximum delay must not be negative: " + maxDelayNanos);
+        if (maxPending <= 0)
+            throw new IllegalArgumentException("Maximum pending must be positive: " + maxPending);
+
+        this.bulkFunction = bulkFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.maxPending = maxPending;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public CompletableFuture<R> apply(T param) {
+        final Batch<T, R> full;
+        final CompletableFuture<R> future;
+        synchronized (this) {
+            if (batch != null) {
+                final CompletableFuture<R> existing = batch.futures.get(param);
+                if (existing != null)
+                    return existing;
+            }
+            if (pending >= maxPending) {
+                final CompletableFuture<R> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(new RejectedExecutionException("Batch queue is full"));
+                return rejected;
+            }
+
+            pending++;
+            future = new CompletableFuture<>();
+            if (batch == null)
+                start();
+            batch.futures.put(param, future);
+            if (batch.futures.size() < maxBatchSize && batch.timer != null)
+                return future;
+
+            full = batch;
+            batch = null;
+            if (full.timer != null)
+                full.timer.cancel(false);
+        }
+        dispatch(full);
+        return future;
+    }
+
+    private void start() {
+        final Batch<T, R> started = batch = new Batch<>();
+        if (maxBatchSize == 1)
+            return;
+        try {
+            started.timer = scheduler.schedule(() -> flush(started), maxDelayNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // left without a timer, the batch is dispatched right away, failing with the rejection
+        }
+    }
+
+    private void flush(Batch<T, R> timed) {
+        synchronized (this) {
+            if (batch != timed)
+                return;
+            batch = null;
+        }
+        dispatch(timed);
+    }
+
+    private void dispatch(Batch<T, R> full) {
+        try {
+            scheduler.execute(() -> lookUp(full));
+        } catch (RejectedExecutionException e) {
+            complete(full, null, e);
+        }
+    }
+
+    private void lookUp(Batch<T, R> full) {
+        final Map<T, R> results;
+        try {
+            results = bulkFunction.apply(new ArrayList<>(full.futures.keySet()));
+        } catch (Throwable t) {
+            // any Throwable, since the scheduler would swallow it, leaving the futures incomplete and pending full
+            complete(full, null, t);
+            return;
+        }
+        complete(full, results, null);
+    }
+
+    private void complete(Batch<T, R> full, Map<T, R> results, Throwable exception) {
+        synchronized (this) {
+            pending -= full.futures.size();
+        }
+        for (Map.Entry<T, CompletableFuture<R>> entry : full.futures.entrySet())
+            if (exception != null)
+                entry.getValue().completeExceptionally(exception);
+            else
+                entry.getValue().complete(results == null ? null : results.get(entry.getKey()));
+    }
+
+    private static final class Batch<T, R> {
+
+        private final Map<T, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        private Future<?> timer;
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.Optional;
+
+/**
+ * Receives the outcomes of calls to an instrumented function or supplier.
+ * <p>
+ * All methods do nothing by default, so implementations only override the events they are interested in. Methods are
+ * called on the calling thread right after each call, so implementations should be thread-safe and cheap, e.g. by
+ * incrementing a {@link java.util.concurrent.atomic.LongAdder} like {@link CallMetrics} does.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#instrumenting(ThrowingFunction, CallListener)
+ * @see SupplierUtils#instrumenting(ThrowingSupplier, CallListener)
+ * @since 17.10.2026
+ */
+public interface CallListener {
+
+    /**
+     * A {@link CallListener} that ignores all events. Instrumenting with it returns the given function or supplier
+     * itself, so disabled instrumentation costs nothing.
+     */
+    CallListener NONE = new CallListener() {
+    };
+
+    /**
+     * Called after a call returned.
+     *
+     * @param nanos the latency of the call in nanoseconds
+     */
+    default void onSuccess(long nanos) {
+    }
+
+    /**
+     * Called after a call threw an {@link Exception}.
+     *
+     * @param exception the {@link Exception} thrown by the call
+     * @param nanos     the latency of the call in nanoseconds
+     */
+    default void onFailure(Exception exception, long nanos) {
+    }
+
+    /**
+     * Called when the function or supplier at given index of a {@code firstPresent} chain yielded the first present
+     * {@link Optional}.
+     *
+     * @param index the index of the function or supplier in the chain
+     */
+    default void onHit(int index) {
+    }
+
+    /**
+     * Called when none of the functions or suppliers of a {@code firstPresent} chain yielded a present
+     * {@link Optional}.
+     */
+    default void onFallback() {
+    }
+
+    /**
+     * @param next the {@link CallListener} to pass events to after this one
+     * @return a {@link CallListener} that passes events to this one and then to given next one
+     */
+    default CallListener andThen(CallListener next) {
+        if (this == NONE)
+            return next;
+        if (next == NONE)
+            return this;
+
+        final CallListener first = this;
+        return new CallListener() {
+            @Override
+            public void onSuccess(long nanos) {
+                first.onSuccess(nanos);
+                next.onSuccess(nanos);
+            }
+
+            @Override
+            public void onFailure(Exception exception, long nanos) {
+                first.onFailure(exception, nanos);
+                next.onFailure(exception, nanos);
+            }
+
+            @Override
+            public void onHit(int index) {
+                first.onHit(index);
+                next.onHit(index);
+            }
+
+            @Override
+            public void onFallback() {
+                first.onFallback();
+                next.onFallback();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link CallListener} that aggregates the outcomes of calls into counters and a {@link LatencyHistogram}.
+ * <p>
+ * Counters are {@link LongAdder}s, so recording is cheap even when many threads call the instrumented function
+ * concurrently. The counts of {@code firstPresent} hits are kept per index of the chain, in an array that grows when
+ * a higher index is first hit. All counters can be read at once with {@link #snapshot()}.
+ * </p>
+ * <p>
+ * <b>Example:</b><br>
+ * {@code trying(instrumenting(this::parse, metrics))} counts how often {@code parse} fails while {@code trying}
+ * swallows its exceptions.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public final class CallMetrics implements CallListener {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile LongAdder[] hits = new LongAdder[0];
+
+    @Override
+    public void onSuccess(long nanos) {
+        successes.increment();
+        latency.record(nanos);
+    }
+
+    @Override
+    public void onFailure(Exception exception, long nanos) {
+        failures.increment();
+        latency.record(nanos);
+    }
+
+    @Override
+    public void onHit(int index) {
+        final LongAdder[] current = hits;
+        (index < current.length ? current : grow(index))[index].increment();
+    }
+
+    @Override
+    public void onFallback() {
+        fallbacks.increment();
+    }
+
+    /**
+     * @return the live {@link LatencyHistogram} of all recorded calls
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return a {@link Snapshot} of the metrics recorded so far
+     */
+    public Snapshot snapshot() {
+        final LongAdder[] current = hits;
+        final long[] hitCounts = new long[current.length];
+        for (int i = 0; i < current.length; i++)
+            hitCounts[i] = current[i].sum();
+        return new Snapshot(successes.sum(), failures.sum(), fallbacks.sum(), hitCounts, latency.copy());
+    }
+
+    private synchronized LongAdder[] grow(int index) {
+        final LongAdder[] current = hits;
+        if (index < current.length)
+            return current;
+
+        final LongAdder[] grown = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+        for (int i = current.length; i < grown.length; i++)
+            grown[i] = new LongAdder();
+        return hits = grown;
+    }
+
+    /**
+     * The metrics recorded by a {@link CallMetrics} up to a point in time.
+     */
+    public static final class Snapshot {
+
+        private final long successes;
+        private final long failures;
+        private final long fallbacks;
+        private final long[] hits;
+        private final LatencyHistogram latency;
+
+        private Snapshot(long successes, long failures, long fallbacks, long[] hits, LatencyHistogram latency) {
+            this.successes = successes;
+            this.failures = failures;
+            this.fallbacks = fallbacks;
+            this.hits = hits;
+            this.latency = latency;
+        }
+
+        /**
+         * @return the number of calls
+         */
+        public long getCalls() {
+            return successes + failures;
+        }
+
+        /**
+         * @return the number of calls that returned
+         */
+        public long getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * @return the number of calls that threw an {@link Exception}
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the fraction of calls that threw an {@link Exception}, or 0 if there were no calls
+         */
+        public double getFailureRate() {
+            final long calls = getCalls();
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        /**
+         * @return the number of calls of a {@code firstPresent} chain that fell through to the fallback
+         */
+        public long getFallbacks() {
+            return fallbacks;
+        }
+
+        /**
+         * @param index the index of a function or supplier in a {@code firstPresent} chain
+         * @return the number of calls in which the function or supplier at given index yielded the first present
+         * {@link java.util.Optional}
+         */
+        public long getHits(int index) {
+            return index < hits.length ? hits[index] : 0;
+        }
+
+        /**
+         * @param index the index of a function or supplier in a {@code firstPresent} chain
+         * @return the fraction of calls in which the function or supplier at given index yielded the first present
+         * {@link java.util.Optional}, or 0 if there were no calls
+         */
+        public double getHitRate(int index) {
+            final long calls = getCalls();
+            return calls == 0 ? 0 : (double) getHits(index) / calls;
+        }
+
+        /**
+         * @return a copy of the {@link LatencyHistogram} of the calls, taken with the snapshot
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+    }
+
+}
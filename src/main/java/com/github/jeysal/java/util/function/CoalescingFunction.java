@@ -0,0 +1,77 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link ThrowingFunction} that lets concurrent callers with equal arguments share a single call of a delegate.
+ * <p>
+ * The first caller for an argument registers an in-flight call in a {@link ConcurrentHashMap} and calls the delegate,
+ * callers arriving while it is running wait for its outcome instead of calling the delegate themselves. All of them
+ * return the same result or throw the same exception. The in-flight call is removed as soon as it completes, so unlike
+ * {@link MemoizingFunction}, nothing is cached. Callers with other arguments do not contend with each other, and a
+ * null argument is never coalesced since the map does not support it.
+ * </p>
+ *
+ * @param <T> the parameter type of the function
+ * @param <R> the return type of the function
+ * @param <E> the type of the exception thrown by the function
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class CoalescingFunction<T, R, E extends Exception> implements ThrowingFunction<T, R, E> {
+
+    private final ThrowingFunction<T, R, E> delegate;
+    private final ConcurrentMap<T, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate the function to coalesce the calls of
+     */
+    CoalescingFunction(ThrowingFunction<T, R, E> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public R apply(T param) throws E {
+        if (param == null)
+            return delegate.apply(null);
+
+        final CompletableFuture<R> existing = inFlight.get(param);
+        if (existing != null)
+            return await(existing);
+
+        final CompletableFuture<R> call = new CompletableFuture<>();
+        final CompletableFuture<R> raced = inFlight.putIfAbsent(param, call);
+        if (raced != null)
+            return await(raced);
+
+        try {
+            final R value = delegate.apply(param);
+            inFlight.remove(param, call);
+            call.complete(value);
+            return value;
+        } catch (Throwable t) {
+            inFlight.remove(param, call);
+            // wrapped so that a CompletionException thrown by the delegate is not unwrapped by join
+            call.completeExceptionally(new CompletionException(t));
+            throw t;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private R await(CompletableFuture<R> call) throws E {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw (E) cause;
+        }
+    }
+
+}
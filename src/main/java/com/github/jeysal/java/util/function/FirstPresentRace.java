@@ -0,0 +1,95 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Concurrently calls a list of suppliers and completes with the first present {@link Optional} in list order.
+ * <p>
+ * A result is only final once all suppliers preceding it have supplied an empty {@link Optional}, so a present result
+ * of a supplier is held back until all of its predecessors are done. As soon as the result is known, all suppliers
+ * that are still running are cancelled and interrupted.
+ * </p>
+ *
+ * @param <R> the type of the {@link Optional}
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class FirstPresentRace<R> {
+
+    private final CompletableFuture<Optional<R>> result = new CompletableFuture<>();
+    private final List<FutureTask<Optional<R>>> tasks;
+    private int next;
+
+    private FirstPresentRace(List<? extends Supplier<Optional<R>>> suppliers) {
+        tasks = new ArrayList<>(suppliers.size());
+        for (Supplier<Optional<R>> supplier : suppliers)
+            tasks.add(new FutureTask<Optional<R>>(() -> Objects.requireNonNull(supplier.get())) {
+                @Override
+                protected void done() {
+                    advance();
+                }
+            });
+    }
+
+    /**
+     * Starts calling given suppliers on given executor.
+     *
+     * @param suppliers The suppliers to call, in order of priority
+     * @param executor  The {@link Executor} to call the suppliers on
+     * @param <R>       The type of the {@link Optional}
+     * @return A {@link CompletableFuture} of the first present {@link Optional}, cancelling it cancels all suppliers
+     */
+    static <R> CompletableFuture<Optional<R>> start(
+            List<? extends Supplier<Optional<R>>> suppliers,
+            Executor executor) {
+        final FirstPresentRace<R> race = new FirstPresentRace<>(suppliers);
+        race.result.whenComplete((r, e) -> race.tasks.forEach(task -> task.cancel(true)));
+
+        for (FutureTask<Optional<R>> task : race.tasks) {
+            if (race.result.isDone())
+                break;
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                race.result.completeExceptionally(e);
+            }
+        }
+        race.advance();
+        return race.result;
+    }
+
+    private synchronized void advance() {
+        for (; next < tasks.size() && tasks.get(next).isDone(); next++) {
+            final FutureTask<Optional<R>> task = tasks.get(next);
+            if (task.isCancelled())
+                return;
+
+            try {
+                final Optional<R> optional = task.get();
+                if (optional.isPresent()) {
+                    result.complete(optional);
+                    return;
+                }
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        if (next == tasks.size())
+            result.complete(Optional.empty());
+    }
+
+}
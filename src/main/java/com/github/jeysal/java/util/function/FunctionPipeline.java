@@ -0,0 +1,146 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Describes a chain of {@link ThrowingFunction}s that are tried in order until one of them returns a result, fused
+ * into a single {@link Function}.
+ * <p>
+ * A pipeline built from {@code f1} and {@code f2} with {@link #orElse(Function) orElse(fallback)} behaves like
+ * {@code firstPresent(fallback, trying(f1), trying(f2))}, except that it does not wrap each stage in a lambda nor
+ * allocate an {@link Optional} per stage. The returned {@link Function} loops over the stages itself, so the only
+ * allocation on the success path is an {@link Optional} of the final result, if requested.
+ * </p>
+ * <p>
+ * Instances are immutable, {@link #orTrying(ThrowingFunction)} returns an extended copy.<br>
+ * <b>Example:</b><br>
+ * {@code FunctionPipeline.trying(cache::get).orTrying(db::load).rethrowing(IllegalStateException::new)}
+ * </p>
+ *
+ * @param <T> the parameter type of the functions
+ * @param <R> the return type of the functions
+ * @author Tim Seckinger
+ * @see FunctionUtils#firstPresent(Function, Function[])
+ * @see FunctionUtils#trying(ThrowingFunction)
+ * @since 17.10.2026
+ */
+public final class FunctionPipeline<T, R> {
+
+    private final ThrowingFunction<T, ? extends R, ?>[] stages;
+
+    private FunctionPipeline(ThrowingFunction<T, ? extends R, ?>[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * @param throwingFunction the first function to try
+     * @param <T>              the parameter type of the functions
+     * @param <R>              the return type of the functions
+     * @return a {@link FunctionPipeline} that tries given throwingFunction
+     */
+    public static <T, R> FunctionPipeline<T, R> trying(ThrowingFunction<T, ? extends R, ?> throwingFunction) {
+        @SuppressWarnings("unchecked")
+        final ThrowingFunction<T, ? extends R, ?>[] stages =
+                (ThrowingFunction<T, ? extends R, ?>[]) new ThrowingFunction<?, ?, ?>[1];
+        stages[0] = Objects.requireNonNull(throwingFunction);
+        return new FunctionPipeline<>(stages);
+    }
+
+    /**
+     * @param throwingFunction the function to try if all previous ones returned null or threw an {@link Exception}
+     * @return a copy of this {@link FunctionPipeline} that tries given throwingFunction last
+     */
+    public FunctionPipeline<T, R> orTrying(ThrowingFunction<T, ? extends R, ?> throwingFunction) {
+        final ThrowingFunction<T, ? extends R, ?>[] extended = Arrays.copyOf(stages, stages.length + 1);
+        extended[stages.length] = Objects.requireNonNull(throwingFunction);
+        return new FunctionPipeline<>(extended);
+    }
+
+    /**
+     * Returns a {@link Function} that yields an {@link Optional} of the first non-null result of the functions of this
+     * pipeline, or an empty {@link Optional} if all of them returned null or threw an {@link Exception}.
+     *
+     * @return The {@link Function} that tries the functions of this pipeline in order
+     */
+    public Function<T, Optional<R>> toOptional() {
+        final ThrowingFunction<T, ? extends R, ?>[] chain = stages;
+        return t -> {
+            for (ThrowingFunction<T, ? extends R, ?> stage : chain)
+                try {
+                    final R result = stage.apply(t);
+                    if (result != null)
+                        return Optional.of(result);
+                } catch (Exception e) {
+                    // try the next stage
+                }
+            return Optional.empty();
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that yields the first non-null result of the functions of this pipeline, or the
+     * object yielded by given fallback function if all of them returned null or threw an {@link Exception}.
+     *
+     * @param fallback The fallback function, which must not return null
+     * @return The {@link Function} that tries the functions of this pipeline in order
+     */
+    public Function<T, R> orElse(Function<T, R> fallback) {
+        final ThrowingFunction<T, ? extends R, ?>[] chain = stages;
+        return t -> {
+            for (ThrowingFunction<T, ? extends R, ?> stage : chain)
+                try {
+                    final R result = stage.apply(t);
+                    if (result != null)
+                        return result;
+                } catch (Exception e) {
+                    // try the next stage
+                }
+            return Objects.requireNonNull(fallback.apply(t));
+        };
+    }
+
+    /**
+     * Returns a {@link Function} like {@link #rethrowing(Function)} that throws a new {@link RuntimeException} with
+     * the first {@link Exception} thrown as its {@link Throwable#getCause() cause}.
+     *
+     * @return The {@link Function} that tries the functions of this pipeline in order
+     */
+    public Function<T, R> rethrowing() {
+        return rethrowing(RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link Function} that yields the first non-null result of the functions of this pipeline, or throws a
+     * {@link RuntimeException} created by given exceptionMapper if all of them returned null or threw an
+     * {@link Exception}.<br>
+     * The first {@link Exception} thrown is passed as the argument to given exceptionMapper unchanged. Those thrown
+     * by later functions are dropped rather than suppressed by it, since it may be shared, e.g. if it is preallocated
+     * or handed to several callers by {@link FunctionUtils#coalescingThrowing(ThrowingFunction)}. If none was thrown,
+     * a {@link NoSuchElementException} is passed instead.
+     *
+     * @param exceptionMapper The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @return The {@link Function} that tries the functions of this pipeline in order
+     * @see FunctionUtils#rethrowing(ThrowingFunction, Function)
+     */
+    public Function<T, R> rethrowing(Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        final ThrowingFunction<T, ? extends R, ?>[] chain = stages;
+        return t -> {
+            Exception failure = null;
+            for (ThrowingFunction<T, ? extends R, ?> stage : chain)
+                try {
+                    final R result = stage.apply(t);
+                    if (result != null)
+                        return result;
+                } catch (Exception e) {
+                    if (failure == null)
+                        failure = e;
+                }
+            throw exceptionMapper.apply(failure != null ? failure : new NoSuchElementException("No result present"));
+        };
+    }
+
+}
@@ -1,10 +1,31 @@
 package com.github.jeysal.java.util.function;
 
+import com.github.jeysal.java.util.concurrent.Bulkhead;
+import com.github.jeysal.java.util.concurrent.CircuitBreaker;
+import com.github.jeysal.java.util.concurrent.RateLimiter;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
 import lombok.experimental.UtilityClass;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * @author Tim Seckinger
@@ -16,7 +37,8 @@ public class FunctionUtils {
     /**
      * Returns a {@link Function} that yields the first present {@link Optional} yielded by given functions when applied
      * to the same argument in order, or an empty {@link Optional} if none of the functions return a present
-     * {@link Optional}.
+     * {@link Optional}.<br>
+     * The functions following the first one that yields a present {@link Optional} are not applied.
      *
      * @param functions The functions to apply in order
      * @param <T>       The type of the function argument
@@ -25,10 +47,15 @@ public class FunctionUtils {
      */
     @SafeVarargs
     public static <T, R> Function<T, Optional<R>> firstPresent(Function<T, Optional<R>>... functions) {
-        return t -> Arrays.stream(functions)
-                .map(f -> f.apply(t))
-                .filter(Optional::isPresent)
-                .findFirst().orElse(Optional.empty());
+        final Function<T, Optional<R>>[] chain = functions.clone();
+        return t -> {
+            for (Function<T, Optional<R>> function : chain) {
+                final Optional<R> result = function.apply(t);
+                if (result.isPresent())
+                    return result;
+            }
+            return Optional.empty();
+        };
     }
 
     /**
@@ -44,12 +71,137 @@ public class FunctionUtils {
      */
     @SafeVarargs
     public static <T, R> Function<T, R> firstPresent(Function<T, R> fallback, Function<T, Optional<R>>... functions) {
-        return t -> Arrays.stream(functions)
-                .map(f -> f.apply(t))
-                .filter(Optional::isPresent)
-                .findFirst().orElseGet(() ->
-                        Optional.of(fallback.apply(t))
-                ).get();
+        final Function<T, Optional<R>>[] chain = functions.clone();
+        return t -> {
+            for (Function<T, Optional<R>> function : chain) {
+                final Optional<R> result = function.apply(t);
+                if (result.isPresent())
+                    return result.get();
+            }
+            return Objects.requireNonNull(fallback.apply(t));
+        };
+    }
+
+    /**
+     * Returns a {@link Function} like {@link #firstPresent(Function[])} that reports each call to given listener.<br>
+     * The index of the function that yielded the first present {@link Optional} is passed to
+     * {@link CallListener#onHit(int)}, and {@link CallListener#onFallback()} is called if none did. A
+     * {@link RuntimeException} thrown by a function is reported as a failure and rethrown.
+     *
+     * @param listener  The {@link CallListener} to report calls to, or {@link CallListener#NONE} to disable reporting
+     * @param functions The functions to apply in order
+     * @param <T>       The type of the function argument
+     * @param <R>       The type of the {@link Optional}
+     * @return The {@link Function} that yields the first present {@link Optional}
+     */
+    @SafeVarargs
+    public static <T, R> Function<T, Optional<R>> firstPresent(
+            CallListener listener,
+            Function<T, Optional<R>>... functions) {
+        if (listener == CallListener.NONE)
+            return firstPresent(functions);
+
+        final Function<T, Optional<R>>[] chain = functions.clone();
+        return t -> {
+            final long start = System.nanoTime();
+            Optional<R> result = Optional.empty();
+            int hit = -1;
+            try {
+                for (int i = 0; i < chain.length && hit < 0; i++) {
+                    result = chain[i].apply(t);
+                    if (result.isPresent())
+                        hit = i;
+                }
+            } catch (RuntimeException e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            if (hit < 0)
+                listener.onFallback();
+            else
+                listener.onHit(hit);
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link Function} like {@link #firstPresent(Function, Function[])} that reports each call to given
+     * listener.<br>
+     * The index of the function that yielded the first present {@link Optional} is passed to
+     * {@link CallListener#onHit(int)}, and {@link CallListener#onFallback()} is called if the fallback function was
+     * applied. A {@link RuntimeException} thrown by a function is reported as a failure and rethrown.
+     *
+     * @param fallback  The fallback function
+     * @param listener  The {@link CallListener} to report calls to, or {@link CallListener#NONE} to disable reporting
+     * @param functions The functions to apply in order
+     * @param <T>       The type of the function argument
+     * @param <R>       The type of the {@link Optional} content or fallback object
+     * @return The {@link Function} that yields the first present {@link Optional}
+     */
+    @SafeVarargs
+    public static <T, R> Function<T, R> firstPresent(
+            Function<T, R> fallback,
+            CallListener listener,
+            Function<T, Optional<R>>... functions) {
+        if (listener == CallListener.NONE)
+            return firstPresent(fallback, functions);
+
+        final Function<T, Optional<R>>[] chain = functions.clone();
+        return t -> {
+            final long start = System.nanoTime();
+            R result = null;
+            int hit = -1;
+            try {
+                for (int i = 0; i < chain.length && hit < 0; i++) {
+                    final Optional<R> optional = chain[i].apply(t);
+                    if (optional.isPresent()) {
+                        result = optional.get();
+                        hit = i;
+                    }
+                }
+                if (hit < 0)
+                    result = Objects.requireNonNull(fallback.apply(t));
+            } catch (RuntimeException e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            if (hit < 0)
+                listener.onFallback();
+            else
+                listener.onHit(hit);
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that concurrently applies given functions to its argument on given executor and yields
+     * a {@link CompletableFuture} of the first present {@link Optional} in order of the functions, or an empty
+     * {@link Optional} if none of the functions return a present {@link Optional}.<br>
+     * The {@link CompletableFuture} completes as soon as all functions preceding the first one that yields a present
+     * {@link Optional} have yielded an empty {@link Optional}. The functions that are still running at that point are
+     * cancelled and interrupted. If a function throws before a present {@link Optional} preceding it is known, the
+     * {@link CompletableFuture} completes exceptionally.
+     *
+     * @param executor  The {@link Executor} to apply the functions on
+     * @param functions The functions to apply, in order of priority
+     * @param <T>       The type of the function argument
+     * @param <R>       The type of the {@link Optional}
+     * @return The {@link Function} that yields a {@link CompletableFuture} of the first present {@link Optional}
+     * @see #firstPresent(Function[])
+     */
+    @SafeVarargs
+    public static <T, R> Function<T, CompletableFuture<Optional<R>>> firstPresentAsync(
+            Executor executor,
+            Function<T, Optional<R>>... functions) {
+        final Function<T, Optional<R>>[] chain = functions.clone();
+        return t -> {
+            final List<Supplier<Optional<R>>> suppliers = new ArrayList<>(chain.length);
+            for (Function<T, Optional<R>> function : chain)
+                suppliers.add(() -> function.apply(t));
+            return FirstPresentRace.start(suppliers, executor);
+        };
     }
 
     /**
@@ -71,6 +223,29 @@ public class FunctionUtils {
         };
     }
 
+    /**
+     * Returns a {@link Function} that delegates calls to given throwingFunction and returns a successful
+     * {@link Result} of the result or a failed {@link Result} of the {@link Exception} if given throwingFunction threw
+     * one.<br>
+     * If the {@link Exception} is a {@link StacklessException}, neither throwing nor handling it captures a stack
+     * trace.
+     *
+     * @param throwingFunction The {@link Function} to delegate to
+     * @param <T>              The parameter type of the {@link Function}
+     * @param <R>              The return type of the {@link Function}
+     * @return The {@link Function} that delegates calls to throwingFunction
+     * @see #trying(ThrowingFunction)
+     */
+    public static <T, R> Function<T, Result<R>> attempting(ThrowingFunction<T, R, ?> throwingFunction) {
+        return t -> {
+            try {
+                return Result.success(throwingFunction.apply(t));
+            } catch (Exception e) {
+                return Result.failure(e);
+            }
+        };
+    }
+
     /**
      * Returns a {@link Function} that delegates calls to given throwingFunction and throws a new
      * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
@@ -112,4 +287,766 @@ public class FunctionUtils {
         };
     }
 
+    /**
+     * Returns a {@link Function} that delegates calls to given throwingFunction and returns an
+     * {@link OptionalInt} of the result or an empty {@link OptionalInt} if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingFunction The {@link ToIntFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToIntFunction}
+     * @return The {@link Function} that delegates calls to throwingFunction
+     */
+    public static <T> Function<T, OptionalInt> tryingToInt(ThrowingToIntFunction<T, ?> throwingFunction) {
+        return t -> {
+            try {
+                return OptionalInt.of(throwingFunction.applyAsInt(t));
+            } catch (Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToIntFunction} that delegates calls to given throwingFunction and returns the result or given
+     * defaultValue if given throwingFunction threw an {@link Exception}.<br>
+     * Since neither the result nor the parameter needs to be wrapped, calls do not allocate.
+     *
+     * @param throwingFunction The {@link ToIntFunction} to delegate to
+     * @param defaultValue     The value to return if throwingFunction threw an {@link Exception}
+     * @param <T>              The parameter type of the {@link ToIntFunction}
+     * @return The {@link ToIntFunction} that delegates calls to throwingFunction
+     * @see #tryingToInt(ThrowingToIntFunction)
+     */
+    public static <T> ToIntFunction<T> tryingToInt(
+            ThrowingToIntFunction<T, ?> throwingFunction,
+            int defaultValue) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsInt(t);
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToIntFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link ToIntFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToIntFunction}
+     * @return The {@link ToIntFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToIntFunction<T> rethrowingToInt(ThrowingToIntFunction<T, ?> throwingFunction) {
+        return rethrowingToInt(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link ToIntFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link ToIntFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <T>              The parameter type of the {@link ToIntFunction}
+     * @return The {@link ToIntFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToIntFunction<T> rethrowingToInt(
+            ThrowingToIntFunction<T, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsInt(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link IntFunction} that delegates calls to given throwingFunction and returns an {@link Optional}
+     * of the result or an empty {@link Optional} if given throwingFunction returned null or threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the parameter is not boxed.
+     *
+     * @param throwingFunction The {@link IntFunction} to delegate to
+     * @param <R>              The return type of the {@link IntFunction}
+     * @return The {@link IntFunction} that delegates calls to throwingFunction
+     */
+    public static <R> IntFunction<Optional<R>> tryingInt(ThrowingIntFunction<R, ?> throwingFunction) {
+        return t -> {
+            try {
+                return Optional.ofNullable(throwingFunction.apply(t));
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link IntFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link IntFunction} to delegate to
+     * @param <R>              The return type of the {@link IntFunction}
+     * @return The {@link IntFunction} that delegates calls to throwingFunction
+     */
+    public static <R> IntFunction<R> rethrowingInt(ThrowingIntFunction<R, ?> throwingFunction) {
+        return rethrowingInt(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns an {@link IntFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link IntFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <R>              The return type of the {@link IntFunction}
+     * @return The {@link IntFunction} that delegates calls to throwingFunction
+     */
+    public static <R> IntFunction<R> rethrowingInt(
+            ThrowingIntFunction<R, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.apply(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that delegates calls to given throwingFunction and returns an
+     * {@link OptionalLong} of the result or an empty {@link OptionalLong} if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingFunction The {@link ToLongFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToLongFunction}
+     * @return The {@link Function} that delegates calls to throwingFunction
+     */
+    public static <T> Function<T, OptionalLong> tryingToLong(ThrowingToLongFunction<T, ?> throwingFunction) {
+        return t -> {
+            try {
+                return OptionalLong.of(throwingFunction.applyAsLong(t));
+            } catch (Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToLongFunction} that delegates calls to given throwingFunction and returns the result or given
+     * defaultValue if given throwingFunction threw an {@link Exception}.<br>
+     * Since neither the result nor the parameter needs to be wrapped, calls do not allocate.
+     *
+     * @param throwingFunction The {@link ToLongFunction} to delegate to
+     * @param defaultValue     The value to return if throwingFunction threw an {@link Exception}
+     * @param <T>              The parameter type of the {@link ToLongFunction}
+     * @return The {@link ToLongFunction} that delegates calls to throwingFunction
+     * @see #tryingToLong(ThrowingToLongFunction)
+     */
+    public static <T> ToLongFunction<T> tryingToLong(
+            ThrowingToLongFunction<T, ?> throwingFunction,
+            long defaultValue) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsLong(t);
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToLongFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link ToLongFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToLongFunction}
+     * @return The {@link ToLongFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToLongFunction<T> rethrowingToLong(ThrowingToLongFunction<T, ?> throwingFunction) {
+        return rethrowingToLong(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link ToLongFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link ToLongFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <T>              The parameter type of the {@link ToLongFunction}
+     * @return The {@link ToLongFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToLongFunction<T> rethrowingToLong(
+            ThrowingToLongFunction<T, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsLong(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link LongFunction} that delegates calls to given throwingFunction and returns an {@link Optional}
+     * of the result or an empty {@link Optional} if given throwingFunction returned null or threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the parameter is not boxed.
+     *
+     * @param throwingFunction The {@link LongFunction} to delegate to
+     * @param <R>              The return type of the {@link LongFunction}
+     * @return The {@link LongFunction} that delegates calls to throwingFunction
+     */
+    public static <R> LongFunction<Optional<R>> tryingLong(ThrowingLongFunction<R, ?> throwingFunction) {
+        return t -> {
+            try {
+                return Optional.ofNullable(throwingFunction.apply(t));
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link LongFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link LongFunction} to delegate to
+     * @param <R>              The return type of the {@link LongFunction}
+     * @return The {@link LongFunction} that delegates calls to throwingFunction
+     */
+    public static <R> LongFunction<R> rethrowingLong(ThrowingLongFunction<R, ?> throwingFunction) {
+        return rethrowingLong(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns an {@link LongFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link LongFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <R>              The return type of the {@link LongFunction}
+     * @return The {@link LongFunction} that delegates calls to throwingFunction
+     */
+    public static <R> LongFunction<R> rethrowingLong(
+            ThrowingLongFunction<R, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.apply(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that delegates calls to given throwingFunction and returns an
+     * {@link OptionalDouble} of the result or an empty {@link OptionalDouble} if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingFunction The {@link ToDoubleFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToDoubleFunction}
+     * @return The {@link Function} that delegates calls to throwingFunction
+     */
+    public static <T> Function<T, OptionalDouble> tryingToDouble(ThrowingToDoubleFunction<T, ?> throwingFunction) {
+        return t -> {
+            try {
+                return OptionalDouble.of(throwingFunction.applyAsDouble(t));
+            } catch (Exception e) {
+                return OptionalDouble.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToDoubleFunction} that delegates calls to given throwingFunction and returns the result or given
+     * defaultValue if given throwingFunction threw an {@link Exception}.<br>
+     * Since neither the result nor the parameter needs to be wrapped, calls do not allocate.
+     *
+     * @param throwingFunction The {@link ToDoubleFunction} to delegate to
+     * @param defaultValue     The value to return if throwingFunction threw an {@link Exception}
+     * @param <T>              The parameter type of the {@link ToDoubleFunction}
+     * @return The {@link ToDoubleFunction} that delegates calls to throwingFunction
+     * @see #tryingToDouble(ThrowingToDoubleFunction)
+     */
+    public static <T> ToDoubleFunction<T> tryingToDouble(
+            ThrowingToDoubleFunction<T, ?> throwingFunction,
+            double defaultValue) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsDouble(t);
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link ToDoubleFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link ToDoubleFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ToDoubleFunction}
+     * @return The {@link ToDoubleFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToDoubleFunction<T> rethrowingToDouble(ThrowingToDoubleFunction<T, ?> throwingFunction) {
+        return rethrowingToDouble(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link ToDoubleFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link ToDoubleFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <T>              The parameter type of the {@link ToDoubleFunction}
+     * @return The {@link ToDoubleFunction} that delegates calls to throwingFunction
+     */
+    public static <T> ToDoubleFunction<T> rethrowingToDouble(
+            ThrowingToDoubleFunction<T, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.applyAsDouble(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link DoubleFunction} that delegates calls to given throwingFunction and returns an {@link Optional}
+     * of the result or an empty {@link Optional} if given throwingFunction returned null or threw an
+     * {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingFunction)}, the parameter is not boxed.
+     *
+     * @param throwingFunction The {@link DoubleFunction} to delegate to
+     * @param <R>              The return type of the {@link DoubleFunction}
+     * @return The {@link DoubleFunction} that delegates calls to throwingFunction
+     */
+    public static <R> DoubleFunction<Optional<R>> tryingDouble(ThrowingDoubleFunction<R, ?> throwingFunction) {
+        return t -> {
+            try {
+                return Optional.ofNullable(throwingFunction.apply(t));
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns an {@link DoubleFunction} that delegates calls to given throwingFunction and throws a new
+     * {@link RuntimeException} if given throwingFunction threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingFunction The {@link DoubleFunction} to delegate to
+     * @param <R>              The return type of the {@link DoubleFunction}
+     * @return The {@link DoubleFunction} that delegates calls to throwingFunction
+     */
+    public static <R> DoubleFunction<R> rethrowingDouble(ThrowingDoubleFunction<R, ?> throwingFunction) {
+        return rethrowingDouble(throwingFunction, RuntimeException::new);
+    }
+
+    /**
+     * Returns an {@link DoubleFunction} that delegates calls to given throwingFunction and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingFunction threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingFunction The {@link DoubleFunction} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <R>              The return type of the {@link DoubleFunction}
+     * @return The {@link DoubleFunction} that delegates calls to throwingFunction
+     */
+    public static <R> DoubleFunction<R> rethrowingDouble(
+            ThrowingDoubleFunction<R, ?> throwingFunction,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return t -> {
+            try {
+                return throwingFunction.apply(t);
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that delegates calls to given throwingFunction if given circuitBreaker permits them
+     * and returns the result, or returns the result of given fallback if the call was not permitted or
+     * throwingFunction threw an {@link Exception}.<br>
+     * The outcomes of permitted calls are recorded to circuitBreaker, so while it is open, throwingFunction is not
+     * called at all and calls cost little more than those to fallback.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code circuitBreaking(id -> cached.get(id), id -> remote.load(id),
+     * new CircuitBreaker(.5, 20, Duration.ofSeconds(10)))}
+     * </p>
+     *
+     * @param fallback         The {@link Function} whose result to return if throwingFunction was not called or failed
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param circuitBreaker   The {@link CircuitBreaker} guarding throwingFunction, usually shared by all its callers
+     * @param <T>              The parameter type of the {@link Function}
+     * @param <R>              The return type of the {@link Function}
+     * @return The {@link Function} that delegates calls to throwingFunction or fallback
+     * @see #firstPresent(Function, Function[])
+     */
+    public static <T, R> Function<T, R> circuitBreaking(
+            Function<T, R> fallback,
+            ThrowingFunction<T, R, ?> throwingFunction,
+            CircuitBreaker circuitBreaker) {
+        return t -> {
+            if (!circuitBreaker.tryAcquirePermission())
+                return fallback.apply(t);
+
+            final R result;
+            try {
+                result = throwingFunction.apply(t);
+            } catch (Exception e) {
+                circuitBreaker.recordFailure();
+                return fallback.apply(t);
+            }
+            circuitBreaker.recordSuccess();
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that delegates calls to given throwingFunction if given rateLimiter has a
+     * permit available, or returns the result of given fallback otherwise.<br>
+     * Calls never wait for a permit, so callers exceeding the rate are served by fallback at the cost of a single
+     * compare-and-set.
+     *
+     * @param fallback         The {@link Function} whose result to return if no permit is available
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param rateLimiter      The {@link RateLimiter} guarding throwingFunction, usually shared by all its callers
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that delegates calls to throwingFunction or fallback
+     * @see #rateLimitingAsync(ThrowingFunction, RateLimiter, ScheduledExecutorService)
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> rateLimiting(
+            Function<T, R> fallback,
+            ThrowingFunction<T, R, E> throwingFunction,
+            RateLimiter rateLimiter) {
+        return t -> rateLimiter.tryAcquire() ? throwingFunction.apply(t) : fallback.apply(t);
+    }
+
+    /**
+     * Returns a {@link Function} that reserves a permit of given rateLimiter, calls given throwingFunction on given
+     * scheduler once the permit may be used and returns a {@link CompletableFuture} of its result.<br>
+     * Calls exceeding the rate are queued by scheduling them after their delay, so no thread is blocked while they
+     * wait.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param rateLimiter      The {@link RateLimiter} guarding throwingFunction, usually shared by all its callers
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingFunction on
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @return The {@link Function} that returns a {@link CompletableFuture} of the result of throwingFunction
+     */
+    public static <T, R> Function<T, CompletableFuture<R>> rateLimitingAsync(
+            ThrowingFunction<T, R, ?> throwingFunction,
+            RateLimiter rateLimiter,
+            ScheduledExecutorService scheduler) {
+        return t -> rateLimiter.executeAsync(() -> throwingFunction.apply(t), scheduler);
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that delegates calls to given throwingFunction if given bulkhead has a permit
+     * available and releases it afterwards, or returns the result of given fallback otherwise.<br>
+     * Calls never wait for a permit, so callers exceeding the concurrency limit are served by fallback instead of
+     * piling up on the resource.
+     *
+     * @param fallback         The {@link Function} whose result to return if no permit is available
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param bulkhead         The {@link Bulkhead} guarding throwingFunction, usually shared by all its callers
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that delegates calls to throwingFunction or fallback
+     * @see #bulkheadingAsync(ThrowingFunction, Bulkhead, Executor)
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> bulkheading(
+            Function<T, R> fallback,
+            ThrowingFunction<T, R, E> throwingFunction,
+            Bulkhead bulkhead) {
+        return t -> {
+            if (!bulkhead.tryAcquire())
+                return fallback.apply(t);
+            try {
+                return throwingFunction.apply(t);
+            } finally {
+                bulkhead.release();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Function} that acquires a permit of given bulkhead asynchronously, calls given throwingFunction
+     * on given executor once acquired and returns a {@link CompletableFuture} of its result.<br>
+     * Calls exceeding the concurrency limit wait in the queue of bulkhead without occupying a thread. If the queue is
+     * full, the {@link CompletableFuture} completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param bulkhead         The {@link Bulkhead} guarding throwingFunction, usually shared by all its callers
+     * @param executor         The {@link Executor} to call throwingFunction on
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @return The {@link Function} that returns a {@link CompletableFuture} of the result of throwingFunction
+     */
+    public static <T, R> Function<T, CompletableFuture<R>> bulkheadingAsync(
+            ThrowingFunction<T, R, ?> throwingFunction,
+            Bulkhead bulkhead,
+            Executor executor) {
+        return t -> bulkhead.executeAsync(() -> throwingFunction.apply(t), executor);
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that delegates calls to given throwingFunction and reports their latency and
+     * outcome to given listener.<br>
+     * {@link Exception}s thrown by throwingFunction are reported and rethrown, so the result can be passed to
+     * {@link #trying(ThrowingFunction)} to count the {@link Exception}s it swallows. If listener is
+     * {@link CallListener#NONE}, throwingFunction itself is returned.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param listener         The {@link CallListener} to report calls to, e.g. a shared {@link CallMetrics}
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that delegates calls to throwingFunction
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> instrumenting(
+            ThrowingFunction<T, R, E> throwingFunction,
+            CallListener listener) {
+        if (listener == CallListener.NONE)
+            return throwingFunction;
+
+        return t -> {
+            final long start = System.nanoTime();
+            final R result;
+            try {
+                result = throwingFunction.apply(t);
+            } catch (Exception e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that delegates calls to given throwingFunction and retries them as described
+     * by given policy if given throwingFunction threw an {@link Exception}.<br>
+     * The calling thread is blocked during the delays between attempts. If no further retry is allowed, the
+     * {@link Exception} thrown by the last attempt is thrown, so the result can be passed to
+     * {@link #rethrowing(ThrowingFunction)} or {@link #trying(ThrowingFunction)}.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param policy           The {@link RetryPolicy} describing when to retry
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that retries calls to throwingFunction
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> retrying(
+            ThrowingFunction<T, R, E> throwingFunction,
+            RetryPolicy policy) {
+        return t -> policy.execute(() -> throwingFunction.apply(t));
+    }
+
+    /**
+     * Returns a {@link Function} that applies given throwingFunction on given scheduler and yields a
+     * {@link CompletableFuture} of its result, retrying the call as described by given policy if given
+     * throwingFunction threw an {@link Exception}.<br>
+     * Retries are scheduled after their delay, so no thread is blocked in between attempts. If no further retry is
+     * allowed, the {@link CompletableFuture} completes exceptionally with the {@link Exception} thrown by the last
+     * attempt.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param policy           The {@link RetryPolicy} describing when to retry
+     * @param scheduler        The {@link ScheduledExecutorService} to apply throwingFunction on
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @return The {@link Function} that yields a {@link CompletableFuture} of the result of throwingFunction
+     */
+    public static <T, R> Function<T, CompletableFuture<R>> retryingAsync(
+            ThrowingFunction<T, R, ?> throwingFunction,
+            RetryPolicy policy,
+            ScheduledExecutorService scheduler) {
+        return t -> policy.executeAsync(() -> throwingFunction.apply(t), scheduler);
+    }
+
+    /**
+     * Returns a {@link Function} that caches the results of given function per argument, keeping at most maximumSize
+     * results and evicting the least recently used ones beyond that.<br>
+     * Concurrent calls with an equal argument wait for a single call to given function instead of each calling it,
+     * while calls with other arguments are not blocked by it. If given function throws, the exception is not cached,
+     * so the next call with an equal argument tries again.
+     *
+     * @param function    The {@link Function} to delegate to
+     * @param maximumSize The maximum number of cached results
+     * @param <T>         The parameter type of the {@link Function}
+     * @param <R>         The return type of the {@link Function}
+     * @return The {@link Function} that caches the results of function
+     */
+    public static <T, R> Function<T, R> memoizing(Function<T, R> function, int maximumSize) {
+        return new MemoizingFunction<T, R, RuntimeException>(
+                function::apply,
+                maximumSize,
+                MemoizingFunction.NO_TTL)::apply;
+    }
+
+    /**
+     * Returns a {@link Function} that caches the results of given function per argument until given time to live has
+     * passed, keeping at most maximumSize results and evicting the least recently used ones beyond that.
+     *
+     * @param function    The {@link Function} to delegate to
+     * @param maximumSize The maximum number of cached results
+     * @param ttl         The time after which a result expires
+     * @param <T>         The parameter type of the {@link Function}
+     * @param <R>         The return type of the {@link Function}
+     * @return The {@link Function} that caches the results of function
+     * @throws IllegalArgumentException if maximumSize is not positive or ttl is negative
+     * @see #memoizing(Function, int)
+     */
+    public static <T, R> Function<T, R> memoizing(Function<T, R> function, int maximumSize, Duration ttl) {
+        return new MemoizingFunction<T, R, RuntimeException>(
+                function::apply,
+                maximumSize,
+                MemoizingFunction.checkTtl(ttl))::apply;
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that caches the results of given throwingFunction per argument, keeping at
+     * most maximumSize results and evicting the least recently used ones beyond that.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param maximumSize      The maximum number of cached results
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that caches the results of throwingFunction
+     * @see #memoizing(Function, int)
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> memoizingThrowing(
+            ThrowingFunction<T, R, E> throwingFunction,
+            int maximumSize) {
+        return new MemoizingFunction<>(throwingFunction, maximumSize, MemoizingFunction.NO_TTL);
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that caches the results of given throwingFunction per argument until given
+     * time to live has passed, keeping at most maximumSize results and evicting the least recently used ones beyond
+     * that.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param maximumSize      The maximum number of cached results
+     * @param ttl              The time after which a result expires
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that caches the results of throwingFunction
+     * @throws IllegalArgumentException if maximumSize is not positive or ttl is negative
+     * @see #memoizing(Function, int, Duration)
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> memoizingThrowing(
+            ThrowingFunction<T, R, E> throwingFunction,
+            int maximumSize,
+            Duration ttl) {
+        return new MemoizingFunction<>(throwingFunction, maximumSize, MemoizingFunction.checkTtl(ttl));
+    }
+
+    /**
+     * Returns a {@link Function} that lets concurrent callers with equal arguments share a single call of given
+     * function.<br>
+     * While a call for an argument is in flight, further calls with an equal argument wait for it and return its result
+     * or throw its {@link RuntimeException} instead of calling function again. Once it completes, the next call with
+     * that argument calls function again, since results are not cached. This cuts duplicate load when many threads
+     * miss a cache for the same key at once.
+     *
+     * @param function The {@link Function} to delegate to
+     * @param <T>      The parameter type of the {@link Function}
+     * @param <R>      The return type of the {@link Function}
+     * @return The {@link Function} that coalesces concurrent calls to function
+     * @see #memoizing(Function, int)
+     */
+    public static <T, R> Function<T, R> coalescing(Function<T, R> function) {
+        return new CoalescingFunction<T, R, RuntimeException>(function::apply)::apply;
+    }
+
+    /**
+     * Returns a {@link ThrowingFunction} that lets concurrent callers with equal arguments share a single call of given
+     * throwingFunction.<br>
+     * All callers sharing a call throw the same {@link Exception} if it fails, so combining this with
+     * {@link #trying(ThrowingFunction)} or {@link #rethrowing(ThrowingFunction, Function)} yields the same outcome for
+     * each of them.
+     *
+     * @param throwingFunction The {@link ThrowingFunction} to delegate to
+     * @param <T>              The parameter type of the {@link ThrowingFunction}
+     * @param <R>              The return type of the {@link ThrowingFunction}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingFunction}
+     * @return The {@link ThrowingFunction} that coalesces concurrent calls to throwingFunction
+     * @see #coalescing(Function)
+     */
+    public static <T, R, E extends Exception> ThrowingFunction<T, R, E> coalescingThrowing(
+            ThrowingFunction<T, R, E> throwingFunction) {
+        return new CoalescingFunction<>(throwingFunction);
+    }
+
+    /**
+     * Returns a {@link Function} that collects its arguments into batches and looks each batch up with a single call
+     * of given bulkFunction on given scheduler, supplying a {@link CompletableFuture} of the result for each argument.
+     * <br>
+     * A batch is looked up as soon as it holds maxBatchSize distinct arguments, or maxDelay after its first argument
+     * was added. Each {@link CompletableFuture} completes with the value bulkFunction mapped its argument to, or null
+     * if it did not map it, or exceptionally with whatever bulkFunction threw for the whole batch. Calls
+     * with an argument that is already waiting in the current batch share its {@link CompletableFuture}. Once
+     * maxPending arguments are waiting or being looked up, further calls complete exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException} right away, so callers feel the backpressure instead of
+     * the queue growing without bound.
+     *
+     * @param bulkFunction The {@link ThrowingFunction} to look up a batch of distinct arguments with
+     * @param maxBatchSize The maximum number of distinct arguments per batch
+     * @param maxDelay     The maximum time to wait for a batch to fill up
+     * @param maxPending   The maximum number of arguments waiting or being looked up at once
+     * @param scheduler    The {@link ScheduledExecutorService} to look up batches on
+     * @param <T>          The parameter type of the {@link Function}
+     * @param <R>          The return type of the {@link Function}
+     * @return The {@link Function} that supplies a {@link CompletableFuture} of the result of bulkFunction per argument
+     * @throws IllegalArgumentException if maxBatchSize or maxPending is not positive or maxDelay is negative
+     */
+    public static <T, R> Function<T, CompletableFuture<R>> batchingAsync(
+            ThrowingFunction<List<T>, Map<T, R>, ?> bulkFunction,
+            int maxBatchSize,
+            Duration maxDelay,
+            int maxPending,
+            ScheduledExecutorService scheduler) {
+        return new BatchingFunction<>(bulkFunction, maxBatchSize, maxDelay.toNanos(), maxPending, scheduler);
+    }
+
 }
@@ -0,0 +1,163 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Calls a supplier on a scheduler and, if it has not succeeded after a delay, calls it a second time concurrently,
+ * completing with whichever call succeeds first.
+ * <p>
+ * The second call is a task scheduled after the delay, so no thread waits for it. If the first call fails before the
+ * delay has elapsed, the second call is started right away. As soon as one call succeeds, the other is cancelled and
+ * interrupted. If both fail, the result completes exceptionally with the first failure, unchanged. The second one is
+ * dropped rather than suppressed by it, since the supplier may throw a shared instance, e.g. a preallocated one.
+ * </p>
+ *
+ * @param <R> the return type of the supplier
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class HedgedCall<R> {
+
+    private static final int CALLS = 2;
+
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final ThrowingSupplier<R, ?> supplier;
+    private final ScheduledExecutorService scheduler;
+    private final LatencyHistogram latencies;
+    private final Future<?>[] calls = new Future<?>[CALLS];
+    private Future<?> hedge;
+    private int started;
+    private int failed;
+    private Exception failure;
+
+    private HedgedCall(
+            ThrowingSupplier<R, ?> supplier,
+            ScheduledExecutorService scheduler,
+            LatencyHistogram latencies) {
+        this.supplier = supplier;
+        this.scheduler = scheduler;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Starts calling given supplier on given scheduler.
+     *
+     * @param supplier   The supplier to call
+     * @param delayNanos The delay after which to start the second call if the first one has not succeeded
+     * @param scheduler  The {@link ScheduledExecutorService} to call supplier on
+     * @param latencies  The {@link LatencyHistogram} to record the latency of the successful call into, or null
+     * @param <R>        The return type of the supplier
+     * @return A {@link CompletableFuture} of the first successful result of supplier, cancelling it cancels all calls
+     */
+    static <R> CompletableFuture<R> start(
+            ThrowingSupplier<R, ?> supplier,
+            long delayNanos,
+            ScheduledExecutorService scheduler,
+            LatencyHistogram latencies) {
+        final HedgedCall<R> call = new HedgedCall<>(supplier, scheduler, latencies);
+        call.result.whenComplete((r, e) -> call.cancelAll());
+        synchronized (call) {
+            call.launch();
+            if (!call.result.isDone())
+                try {
+                    call.hedge = scheduler.schedule(call::hedge, delayNanos, NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    call.result.completeExceptionally(e);
+                }
+        }
+        return call.result;
+    }
+
+    private synchronized void hedge() {
+        if (started < CALLS)
+            launch();
+    }
+
+    private void launch() {
+        if (result.isDone())
+            return;
+        final long start = System.nanoTime();
+        try {
+            calls[started++] = scheduler.submit(() -> call(start));
+        } catch (RejectedExecutionException e) {
+            fail(e);
+        }
+    }
+
+    private void call(long start) {
+        if (result.isDone())
+            return;
+        try {
+            final R value = supplier.get();
+            if (result.complete(value) && latencies != null)
+                latencies.record(System.nanoTime() - start);
+        } catch (Exception e) {
+            synchronized (this) {
+                fail(e);
+            }
+        } catch (Throwable t) {
+            // not hedged, and completed since the scheduler would swallow it and leave the result incomplete
+            result.completeExceptionally(t);
+        }
+    }
+
+    private void fail(Exception e) {
+        if (failure == null)
+            failure = e;
+
+        if (++failed == CALLS)
+            result.completeExceptionally(failure);
+        else if (started < CALLS) {
+            if (hedge != null)
+                hedge.cancel(false);
+            launch();
+        }
+    }
+
+    private synchronized void cancelAll() {
+        if (hedge != null)
+            hedge.cancel(false);
+        for (Future<?> call : calls)
+            if (call != null)
+                call.cancel(true);
+    }
+
+    /**
+     * A hedging delay at a percentile of the latencies of previous successful calls, starting out at a fixed delay
+     * until enough latencies have been recorded. The percentile is only recomputed every {@value #UPDATE_INTERVAL}
+     * calls, since computing it scans the whole histogram.
+     */
+    static final class AdaptiveDelay implements LongSupplier {
+
+        private static final int MIN_SAMPLES = 64;
+        private static final int UPDATE_INTERVAL = 64;
+
+        final LatencyHistogram latencies = new LatencyHistogram();
+        private final double percentile;
+        private final AtomicLong calls = new AtomicLong();
+        private volatile long delayNanos;
+
+        AdaptiveDelay(double percentile, long initialDelayNanos) {
+            if (!(percentile > 0 && percentile < 1))
+                throw new IllegalArgumentException("Percentile must be between 0 and 1 exclusively: " + percentile);
+            this.percentile = percentile;
+            delayNanos = initialDelayNanos;
+        }
+
+        @Override
+        public long getAsLong() {
+            if (calls.incrementAndGet() % UPDATE_INTERVAL == 0 && latencies.getCount() >= MIN_SAMPLES)
+                delayNanos = latencies.quantile(percentile);
+            return delayNanos;
+        }
+
+    }
+
+}
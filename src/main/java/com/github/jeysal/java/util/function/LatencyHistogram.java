@@ -0,0 +1,144 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds with a bounded relative error, in the style of HdrHistogram.
+ * <p>
+ * Values below {@code 2^6} are counted exactly. Every power of two above is divided into {@code 2^6} linear
+ * sub-buckets, so the value reported for a bucket is at most 1.6% higher than any value recorded into it. Values
+ * above {@code 2^44} nanoseconds, almost five hours, are counted as that maximum. Each bucket is a {@link LongAdder}
+ * created when the first value is recorded into it, so recording is wait-free under contention and only buckets
+ * that are used take memory.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see CallMetrics
+ * @since 17.10.2026
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_BITS = 44;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * SUB_COUNT;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency. Negative values are recorded as 0.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, Math.min(MAX_VALUE, nanos));
+        final int index = index(value);
+        LongAdder bucket = counts.get(index);
+        if (bucket == null) {
+            counts.compareAndSet(index, null, new LongAdder());
+            bucket = counts.get(index);
+        }
+        bucket.increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the mean of the recorded latencies in nanoseconds, or NaN if none have been recorded
+     */
+    public double getMean() {
+        final long n = count.sum();
+        return n == 0 ? Double.NaN : (double) sum.sum() / n;
+    }
+
+    /**
+     * @return the exact maximum of the recorded latencies in nanoseconds, or 0 if none have been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency at given quantile, i.e. the upper bound of the bucket containing the smallest recorded
+     * latency that is greater than or equal to the given fraction of the recorded latencies. The quantile 1 is the
+     * exact maximum.
+     *
+     * @param quantile the quantile between 0 and 1, e.g. {@code .99} for the 99th percentile
+     * @return the latency at given quantile in nanoseconds, or 0 if none have been recorded
+     * @throws IllegalArgumentException if quantile is not between 0 and 1
+     */
+    public long quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1))
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            final LongAdder bucket = counts.get(i);
+            if (bucket != null)
+                total += snapshot[i] = bucket.sum();
+        }
+        if (total == 0)
+            return 0;
+        if (quantile == 1)
+            return getMax();
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank)
+                return Math.min(highestEquivalent(i), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * @return a new {@link LatencyHistogram} holding the latencies recorded into this one so far
+     */
+    public LatencyHistogram copy() {
+        final LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            final LongAdder bucket = counts.get(i);
+            if (bucket != null) {
+                final LongAdder copied = new LongAdder();
+                copied.add(bucket.sum());
+                copy.counts.set(i, copied);
+            }
+        }
+        copy.count.add(count.sum());
+        copy.sum.add(sum.sum());
+        copy.max.accumulate(max.get());
+        return copy;
+    }
+
+    private static int index(long value) {
+        if (value < SUB_COUNT)
+            return (int) value;
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < SUB_COUNT)
+            return index;
+        final int shift = index / SUB_COUNT - 1;
+        final long sub = index % SUB_COUNT + SUB_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.github.jeysal.java.util.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ThrowingFunction} that caches the results of a delegate per argument, evicting the least recently used
+ * results beyond a maximum size and optionally expiring results after some time.
+ * <p>
+ * Results are cached in a {@link ConcurrentHashMap}, so a cache hit takes no lock. Each hit stamps its entry with a
+ * shared access clock, which is only written if another entry was accessed in between, so repeated hits of the same
+ * entry do not write shared memory at all. Computing a result is only synchronized on its entry. Concurrent callers
+ * with equal arguments thus wait for a single computation, while computations for other arguments proceed in
+ * parallel. Exceptions are not cached.
+ * </p>
+ * <p>
+ * Eviction scans all entries, so it is amortized by evicting down to a sixteenth below the maximum size at once, and
+ * only one thread evicts at a time. Entries that are still being computed are never evicted. While other threads
+ * insert concurrently, the size may briefly exceed the maximum.
+ * </p>
+ *
+ * @param <T> the parameter type of the function
+ * @param <R> the return type of the function
+ * @param <E> the type of the exception thrown by the function
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class MemoizingFunction<T, R, E extends Exception> implements ThrowingFunction<T, R, E> {
+
+    static final long NO_TTL = -1;
+
+    private static final int EVICTION_SLACK_SHIFT = 4;
+    private static final Object NULL_KEY = new Object();
+
+    private final ThrowingFunction<T, R, E> delegate;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final ConcurrentMap<Object, Entry<R>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * @param delegate    the function to cache the results of
+     * @param maximumSize the maximum number of cached results
+     * @param ttlNanos    the time after computation at which a result expires, or {@link #NO_TTL} if it never expires
+     */
+    MemoizingFunction(ThrowingFunction<T, R, E> delegate, int maximumSize, long ttlNanos) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        if (ttlNanos < 0 && ttlNanos != NO_TTL)
+            throw new IllegalArgumentException("Time to live must not be negative: " + ttlNanos);
+
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * @param ttl the time after computation at which a result expires
+     * @return ttl in nanoseconds
+     * @throws IllegalArgumentException if ttl is negative
+     */
+    static long checkTtl(Duration ttl) {
+        if (ttl.isNegative())
+            throw new IllegalArgumentException("Time to live must not be negative: " + ttl);
+        return ttl.toNanos();
+    }
+
+    @Override
+    public R apply(T param) throws E {
+        final Object key = param == null ? NULL_KEY : param;
+        Entry<R> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(ttlNanos))
+            touch(entry);
+        else
+            entry = insert(key, entry);
+
+        try {
+            return entry.get(this, param);
+        } catch (Throwable t) {
+            entries.remove(key, entry);
+            throw t;
+        }
+    }
+
+    private void touch(Entry<R> entry) {
+        final long now = clock.get();
+        if (entry.accessed != now)
+            entry.accessed = clock.incrementAndGet();
+    }
+
+    private Entry<R> insert(Object key, Entry<R> stale) {
+        final Entry<R> fresh = new Entry<>();
+        fresh.accessed = clock.incrementAndGet();
+        while (true) {
+            final Entry<R> current = stale == null ? entries.putIfAbsent(key, fresh) : stale;
+            if (current == null)
+                break;
+            if (!current.isExpired(ttlNanos))
+                return current;
+            if (entries.replace(key, current, fresh))
+                break;
+            stale = entries.get(key);
+        }
+
+        if (entries.size() > maximumSize)
+            evict();
+        return fresh;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true))
+            return;
+        try {
+            final List<Candidate<R>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<Object, Entry<R>> mapping : entries.entrySet()) {
+                final Entry<R> entry = mapping.getValue();
+                if (entry.isExpired(ttlNanos))
+                    entries.remove(mapping.getKey(), entry);
+                else if (entry.computed)
+                    candidates.add(new Candidate<>(mapping.getKey(), entry));
+            }
+
+            int excess = entries.size() - maximumSize + (maximumSize >> EVICTION_SLACK_SHIFT);
+            if (excess <= 0)
+                return;
+            // sorted by the stamps read above, since hits keep updating the entries during the sort
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.accessed));
+            for (int i = 0; i < candidates.size() && excess > 0; i++) {
+                final Candidate<R> candidate = candidates.get(i);
+                if (entries.remove(candidate.key, candidate.entry))
+                    excess--;
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Candidate<R> {
+
+        private final Object key;
+        private final Entry<R> entry;
+        private final long accessed;
+
+        private Candidate(Object key, Entry<R> entry) {
+            this.key = key;
+            this.entry = entry;
+            accessed = entry.accessed;
+        }
+
+    }
+
+    private static final class Entry<R> {
+
+        private volatile boolean computed;
+        private volatile long accessed;
+        private R value;
+        private long computedAt;
+
+        private <T, E extends Exception> R get(MemoizingFunction<T, R, E> function, T param) throws E {
+            if (computed)
+                return value;
+
+            synchronized (this) {
+                if (!computed) {
+                    value = function.delegate.apply(param);
+                    computedAt = function.ttlNanos == NO_TTL ? 0 : System.nanoTime();
+                    computed = true;
+                }
+                return value;
+            }
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return ttlNanos != NO_TTL && computed && System.nanoTime() - computedAt >= ttlNanos;
+        }
+
+    }
+
+}
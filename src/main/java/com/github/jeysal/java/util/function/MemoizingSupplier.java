@@ -0,0 +1,68 @@
+package com.github.jeysal.java.util.function;
+
+/**
+ * A {@link ThrowingSupplier} that caches the result of a delegate, optionally until it expires.
+ * <p>
+ * Once a result is cached, reading it only takes a volatile read. Computing a result is synchronized, so concurrent
+ * callers wait for a single computation instead of each calling the delegate. Exceptions are not cached.
+ * </p>
+ *
+ * @param <R> the return type of the supplier
+ * @param <E> the type of the exception thrown by the supplier
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class MemoizingSupplier<R, E extends Exception> implements ThrowingSupplier<R, E> {
+
+    static final long NO_TTL = MemoizingFunction.NO_TTL;
+
+    private final ThrowingSupplier<R, E> delegate;
+    private final long ttlNanos;
+    private volatile Cached<R> result;
+
+    /**
+     * @param delegate the supplier to cache the result of
+     * @param ttlNanos the time after computation at which a result expires, or {@link #NO_TTL} if it never expires
+     */
+    MemoizingSupplier(ThrowingSupplier<R, E> delegate, long ttlNanos) {
+        if (ttlNanos < 0 && ttlNanos != NO_TTL)
+            throw new IllegalArgumentException("Time to live must not be negative: " + ttlNanos);
+
+        this.delegate = delegate;
+        this.ttlNanos = ttlNanos;
+    }
+
+    @Override
+    public R get() throws E {
+        final Cached<R> current = result;
+        if (current != null && !current.isExpired(ttlNanos))
+            return current.value;
+
+        synchronized (this) {
+            final Cached<R> recheck = result;
+            if (recheck != null && !recheck.isExpired(ttlNanos))
+                return recheck.value;
+
+            final R value = delegate.get();
+            result = new Cached<>(value, ttlNanos == NO_TTL ? 0 : System.nanoTime());
+            return value;
+        }
+    }
+
+    private static final class Cached<R> {
+
+        private final R value;
+        private final long computedAt;
+
+        private Cached(R value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return ttlNanos != NO_TTL && System.nanoTime() - computedAt >= ttlNanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.github.jeysal.java.util.function;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The outcome of a computation that either succeeded with a value or failed, optionally with an {@link Exception}.
+ * <p>
+ * In contrast to an {@link Optional} returned by {@link FunctionUtils#trying(ThrowingFunction)}, a failed
+ * {@link Result} keeps the {@link Exception} that caused it. {@link #failure()} returns a shared instance without a
+ * cause, so failure paths that do not need the cause do not allocate anything. Combined with a preallocated
+ * {@link StacklessException}, a failure then costs no more than a success.
+ * </p>
+ *
+ * @param <R> the type of the value
+ * @author Tim Seckinger
+ * @see FunctionUtils#attempting(ThrowingFunction)
+ * @see SupplierUtils#attempting(ThrowingSupplier)
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class Result<R> {
+
+    private static final Result<?> FAILURE = new Result<>(false, null, null);
+
+    private final boolean success;
+    private final R value;
+    private final Exception failure;
+
+    /**
+     * @param value the value, may be null
+     * @param <R>   the type of the value
+     * @return a successful {@link Result} of given value
+     */
+    public static <R> Result<R> success(R value) {
+        return new Result<>(true, value, null);
+    }
+
+    /**
+     * @param failure the {@link Exception} that caused the failure
+     * @param <R>     the type of the value
+     * @return a failed {@link Result} caused by given {@link Exception}
+     */
+    public static <R> Result<R> failure(Exception failure) {
+        return new Result<>(false, null, failure);
+    }
+
+    /**
+     * @param <R> the type of the value
+     * @return the shared failed {@link Result} without a cause
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Result<R> failure() {
+        return (Result<R>) FAILURE;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public boolean isFailure() {
+        return !success;
+    }
+
+    /**
+     * @return the value of this successful {@link Result}
+     * @throws NoSuchElementException if this {@link Result} is a failure
+     */
+    public R get() {
+        if (!success)
+            throw new NoSuchElementException("Result is a failure");
+        return value;
+    }
+
+    /**
+     * @return the {@link Exception} that caused this failed {@link Result}, or null if there is none
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * @param other the value to return if this {@link Result} is a failure
+     * @return the value of this {@link Result} if it is successful, otherwise other
+     */
+    public R orElse(R other) {
+        return success ? value : other;
+    }
+
+    /**
+     * @return an {@link Optional} of the value if this {@link Result} is successful, otherwise an empty
+     * {@link Optional}
+     */
+    public Optional<R> toOptional() {
+        return success ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    /**
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the mapped value
+     * @return a successful {@link Result} of the mapped value if this {@link Result} is successful, otherwise this
+     * failed {@link Result}
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Result<U> map(Function<? super R, ? extends U> mapper) {
+        return success ? success(mapper.apply(value)) : (Result<U>) this;
+    }
+
+}
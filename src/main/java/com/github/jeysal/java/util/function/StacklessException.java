@@ -0,0 +1,26 @@
+package com.github.jeysal.java.util.function;
+
+/**
+ * An {@link Exception} that does not capture a stack trace and does not record suppressed exceptions.
+ * <p>
+ * Capturing the stack trace usually dominates the cost of throwing an {@link Exception}. Subclasses are meant for
+ * expected failures, e.g. of parsing untrusted input, that are handled using {@link FunctionUtils#trying} or
+ * {@link FunctionUtils#attempting}. Since the instances are immutable, they may also be preallocated and shared.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class StacklessException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+}
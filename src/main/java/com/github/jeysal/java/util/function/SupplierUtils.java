@@ -1,10 +1,29 @@
 package com.github.jeysal.java.util.function;
 
+import com.github.jeysal.java.util.concurrent.Bulkhead;
+import com.github.jeysal.java.util.concurrent.CircuitBreaker;
+import com.github.jeysal.java.util.concurrent.RateLimiter;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
 import lombok.experimental.UtilityClass;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -16,7 +35,8 @@ public class SupplierUtils {
 
     /**
      * Returns a {@link Supplier} that supplies the first present {@link Optional} supplied by given suppliers in order,
-     * or an empty {@link Optional} if none of the suppliers return a present {@link Optional}.
+     * or an empty {@link Optional} if none of the suppliers return a present {@link Optional}.<br>
+     * The suppliers following the first one that supplies a present {@link Optional} are not called.
      *
      * @param suppliers The suppliers to call in order
      * @param <T>       The type of the {@link Optional}
@@ -24,10 +44,15 @@ public class SupplierUtils {
      */
     @SafeVarargs
     public static <T> Supplier<Optional<T>> firstPresent(Supplier<Optional<T>>... suppliers) {
-        return () -> Arrays.stream(suppliers)
-                .map(Supplier::get)
-                .filter(Optional::isPresent)
-                .findFirst().orElse(Optional.empty());
+        final Supplier<Optional<T>>[] chain = suppliers.clone();
+        return () -> {
+            for (Supplier<Optional<T>> supplier : chain) {
+                final Optional<T> result = supplier.get();
+                if (result.isPresent())
+                    return result;
+            }
+            return Optional.empty();
+        };
     }
 
     /**
@@ -42,12 +67,129 @@ public class SupplierUtils {
      */
     @SafeVarargs
     public static <T> Supplier<T> firstPresent(Supplier<T> fallback, Supplier<Optional<T>>... suppliers) {
-        return () -> Arrays.stream(suppliers)
-                .map(Supplier::get)
-                .filter(Optional::isPresent)
-                .findFirst().orElseGet(() ->
-                        Optional.of(fallback.get())
-                ).get();
+        final Supplier<Optional<T>>[] chain = suppliers.clone();
+        return () -> {
+            for (Supplier<Optional<T>> supplier : chain) {
+                final Optional<T> result = supplier.get();
+                if (result.isPresent())
+                    return result.get();
+            }
+            return Objects.requireNonNull(fallback.get());
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} like {@link #firstPresent(Supplier[])} that reports each call to given listener.<br>
+     * The index of the supplier that supplied the first present {@link Optional} is passed to
+     * {@link CallListener#onHit(int)}, and {@link CallListener#onFallback()} is called if none did. A
+     * {@link RuntimeException} thrown by a supplier is reported as a failure and rethrown.
+     *
+     * @param listener  The {@link CallListener} to report calls to, or {@link CallListener#NONE} to disable reporting
+     * @param suppliers The suppliers to call in order
+     * @param <T>       The type of the {@link Optional}
+     * @return The {@link Supplier} that supplies the first present {@link Optional}
+     */
+    @SafeVarargs
+    public static <T> Supplier<Optional<T>> firstPresent(
+            CallListener listener,
+            Supplier<Optional<T>>... suppliers) {
+        if (listener == CallListener.NONE)
+            return firstPresent(suppliers);
+
+        final Supplier<Optional<T>>[] chain = suppliers.clone();
+        return () -> {
+            final long start = System.nanoTime();
+            Optional<T> result = Optional.empty();
+            int hit = -1;
+            try {
+                for (int i = 0; i < chain.length && hit < 0; i++) {
+                    result = chain[i].get();
+                    if (result.isPresent())
+                        hit = i;
+                }
+            } catch (RuntimeException e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            if (hit < 0)
+                listener.onFallback();
+            else
+                listener.onHit(hit);
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} like {@link #firstPresent(Supplier, Supplier[])} that reports each call to given
+     * listener.<br>
+     * The index of the supplier that supplied the first present {@link Optional} is passed to
+     * {@link CallListener#onHit(int)}, and {@link CallListener#onFallback()} is called if the fallback supplier was
+     * called. A {@link RuntimeException} thrown by a supplier is reported as a failure and rethrown.
+     *
+     * @param fallback  The fallback supplier
+     * @param listener  The {@link CallListener} to report calls to, or {@link CallListener#NONE} to disable reporting
+     * @param suppliers The suppliers to call in order
+     * @param <T>       The type of the {@link Optional} content or fallback object
+     * @return The {@link Supplier} that supplies the first present {@link Optional}
+     */
+    @SafeVarargs
+    public static <T> Supplier<T> firstPresent(
+            Supplier<T> fallback,
+            CallListener listener,
+            Supplier<Optional<T>>... suppliers) {
+        if (listener == CallListener.NONE)
+            return firstPresent(fallback, suppliers);
+
+        final Supplier<Optional<T>>[] chain = suppliers.clone();
+        return () -> {
+            final long start = System.nanoTime();
+            T result = null;
+            int hit = -1;
+            try {
+                for (int i = 0; i < chain.length && hit < 0; i++) {
+                    final Optional<T> optional = chain[i].get();
+                    if (optional.isPresent()) {
+                        result = optional.get();
+                        hit = i;
+                    }
+                }
+                if (hit < 0)
+                    result = Objects.requireNonNull(fallback.get());
+            } catch (RuntimeException e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            if (hit < 0)
+                listener.onFallback();
+            else
+                listener.onHit(hit);
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that concurrently calls given suppliers on given executor and supplies a
+     * {@link CompletableFuture} of the first present {@link Optional} in order of the suppliers, or an empty
+     * {@link Optional} if none of the suppliers return a present {@link Optional}.<br>
+     * The {@link CompletableFuture} completes as soon as all suppliers preceding the first one that supplies a present
+     * {@link Optional} have supplied an empty {@link Optional}. The suppliers that are still running at that point are
+     * cancelled and interrupted. If a supplier throws before a present {@link Optional} preceding it is known, the
+     * {@link CompletableFuture} completes exceptionally.
+     *
+     * @param executor  The {@link Executor} to call the suppliers on
+     * @param suppliers The suppliers to call, in order of priority
+     * @param <T>       The type of the {@link Optional}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the first present {@link Optional}
+     * @see #firstPresent(Supplier[])
+     */
+    @SafeVarargs
+    public static <T> Supplier<CompletableFuture<Optional<T>>> firstPresentAsync(
+            Executor executor,
+            Supplier<Optional<T>>... suppliers) {
+        final List<Supplier<Optional<T>>> chain = Arrays.asList(suppliers.clone());
+        return () -> FirstPresentRace.start(chain, executor);
     }
 
     /**
@@ -68,6 +210,28 @@ public class SupplierUtils {
         };
     }
 
+    /**
+     * Returns a {@link Supplier} that delegates calls to given throwingSupplier and returns a successful
+     * {@link Result} of the result or a failed {@link Result} of the {@link Exception} if given throwingSupplier threw
+     * one.<br>
+     * If the {@link Exception} is a {@link StacklessException}, neither throwing nor handling it captures a stack
+     * trace.
+     *
+     * @param throwingSupplier The {@link Supplier} to delegate to
+     * @param <R>              The return type of the {@link Supplier}
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     * @see #trying(ThrowingSupplier)
+     */
+    public static <R> Supplier<Result<R>> attempting(ThrowingSupplier<R, ?> throwingSupplier) {
+        return () -> {
+            try {
+                return Result.success(throwingSupplier.get());
+            } catch (Exception e) {
+                return Result.failure(e);
+            }
+        };
+    }
+
     /**
      * Returns a {@link Supplier} that delegates calls to given throwingSupplier and throws a new
      * {@link RuntimeException} if given throwingSupplier threw an {@link Exception}.<br>
@@ -107,4 +271,618 @@ public class SupplierUtils {
         };
     }
 
+    /**
+     * Returns a {@link Supplier} that delegates calls to given throwingSupplier and returns an {@link OptionalInt}
+     * of the result or an empty {@link OptionalInt} if given throwingSupplier threw an {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingSupplier)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingSupplier The {@link IntSupplier} to delegate to
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     */
+    public static Supplier<OptionalInt> tryingAsInt(ThrowingIntSupplier<?> throwingSupplier) {
+        return () -> {
+            try {
+                return OptionalInt.of(throwingSupplier.getAsInt());
+            } catch (Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link IntSupplier} that delegates calls to given throwingSupplier and returns the result or given
+     * defaultValue if given throwingSupplier threw an {@link Exception}.<br>
+     * Since the result does not need to be wrapped, calls do not allocate.
+     *
+     * @param throwingSupplier The {@link IntSupplier} to delegate to
+     * @param defaultValue     The value to return if throwingSupplier threw an {@link Exception}
+     * @return The {@link IntSupplier} that delegates calls to throwingSupplier
+     * @see #tryingAsInt(ThrowingIntSupplier)
+     */
+    public static IntSupplier tryingAsInt(ThrowingIntSupplier<?> throwingSupplier, int defaultValue) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsInt();
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link IntSupplier} that delegates calls to given throwingSupplier and throws a new
+     * {@link RuntimeException} if given throwingSupplier threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingSupplier The {@link IntSupplier} to delegate to
+     * @return The {@link IntSupplier} that delegates calls to throwingSupplier
+     */
+    public static IntSupplier rethrowingAsInt(ThrowingIntSupplier<?> throwingSupplier) {
+        return rethrowingAsInt(throwingSupplier, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link IntSupplier} that delegates calls to given throwingSupplier and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingSupplier threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingSupplier The {@link IntSupplier} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @return The {@link IntSupplier} that delegates calls to throwingSupplier
+     */
+    public static IntSupplier rethrowingAsInt(
+            ThrowingIntSupplier<?> throwingSupplier,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsInt();
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that delegates calls to given throwingSupplier and returns an {@link OptionalLong}
+     * of the result or an empty {@link OptionalLong} if given throwingSupplier threw an {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingSupplier)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingSupplier The {@link LongSupplier} to delegate to
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     */
+    public static Supplier<OptionalLong> tryingAsLong(ThrowingLongSupplier<?> throwingSupplier) {
+        return () -> {
+            try {
+                return OptionalLong.of(throwingSupplier.getAsLong());
+            } catch (Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link LongSupplier} that delegates calls to given throwingSupplier and returns the result or given
+     * defaultValue if given throwingSupplier threw an {@link Exception}.<br>
+     * Since the result does not need to be wrapped, calls do not allocate.
+     *
+     * @param throwingSupplier The {@link LongSupplier} to delegate to
+     * @param defaultValue     The value to return if throwingSupplier threw an {@link Exception}
+     * @return The {@link LongSupplier} that delegates calls to throwingSupplier
+     * @see #tryingAsLong(ThrowingLongSupplier)
+     */
+    public static LongSupplier tryingAsLong(ThrowingLongSupplier<?> throwingSupplier, long defaultValue) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsLong();
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link LongSupplier} that delegates calls to given throwingSupplier and throws a new
+     * {@link RuntimeException} if given throwingSupplier threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingSupplier The {@link LongSupplier} to delegate to
+     * @return The {@link LongSupplier} that delegates calls to throwingSupplier
+     */
+    public static LongSupplier rethrowingAsLong(ThrowingLongSupplier<?> throwingSupplier) {
+        return rethrowingAsLong(throwingSupplier, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link LongSupplier} that delegates calls to given throwingSupplier and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingSupplier threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingSupplier The {@link LongSupplier} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @return The {@link LongSupplier} that delegates calls to throwingSupplier
+     */
+    public static LongSupplier rethrowingAsLong(
+            ThrowingLongSupplier<?> throwingSupplier,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsLong();
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that delegates calls to given throwingSupplier and returns an {@link OptionalDouble}
+     * of the result or an empty {@link OptionalDouble} if given throwingSupplier threw an {@link Exception}.<br>
+     * Unlike {@link #trying(ThrowingSupplier)}, the result is not boxed before being wrapped.
+     *
+     * @param throwingSupplier The {@link DoubleSupplier} to delegate to
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     */
+    public static Supplier<OptionalDouble> tryingAsDouble(ThrowingDoubleSupplier<?> throwingSupplier) {
+        return () -> {
+            try {
+                return OptionalDouble.of(throwingSupplier.getAsDouble());
+            } catch (Exception e) {
+                return OptionalDouble.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link DoubleSupplier} that delegates calls to given throwingSupplier and returns the result or given
+     * defaultValue if given throwingSupplier threw an {@link Exception}.<br>
+     * Since the result does not need to be wrapped, calls do not allocate.
+     *
+     * @param throwingSupplier The {@link DoubleSupplier} to delegate to
+     * @param defaultValue     The value to return if throwingSupplier threw an {@link Exception}
+     * @return The {@link DoubleSupplier} that delegates calls to throwingSupplier
+     * @see #tryingAsDouble(ThrowingDoubleSupplier)
+     */
+    public static DoubleSupplier tryingAsDouble(ThrowingDoubleSupplier<?> throwingSupplier, double defaultValue) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsDouble();
+            } catch (Exception e) {
+                return defaultValue;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link DoubleSupplier} that delegates calls to given throwingSupplier and throws a new
+     * {@link RuntimeException} if given throwingSupplier threw an {@link Exception}.<br>
+     * The {@link RuntimeException} has the original {@link Exception} as its {@link Throwable#getCause() cause}.
+     *
+     * @param throwingSupplier The {@link DoubleSupplier} to delegate to
+     * @return The {@link DoubleSupplier} that delegates calls to throwingSupplier
+     */
+    public static DoubleSupplier rethrowingAsDouble(ThrowingDoubleSupplier<?> throwingSupplier) {
+        return rethrowingAsDouble(throwingSupplier, RuntimeException::new);
+    }
+
+    /**
+     * Returns a {@link DoubleSupplier} that delegates calls to given throwingSupplier and throws a
+     * {@link RuntimeException} created by given exceptionMapper if given throwingSupplier threw an
+     * {@link Exception}.<br>
+     * The original {@link Exception} is passed as the argument to given exceptionMapper.
+     *
+     * @param throwingSupplier The {@link DoubleSupplier} to delegate to
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @return The {@link DoubleSupplier} that delegates calls to throwingSupplier
+     */
+    public static DoubleSupplier rethrowingAsDouble(
+            ThrowingDoubleSupplier<?> throwingSupplier,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return () -> {
+            try {
+                return throwingSupplier.getAsDouble();
+            } catch (Exception e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that delegates calls to given throwingSupplier if given circuitBreaker permits them
+     * and returns the result, or returns the result of given fallback if the call was not permitted or
+     * throwingSupplier threw an {@link Exception}.<br>
+     * The outcomes of permitted calls are recorded to circuitBreaker, so while it is open, throwingSupplier is not
+     * called at all and calls cost little more than those to fallback.
+     *
+     * @param fallback         The {@link Supplier} whose result to return if throwingSupplier was not called or failed
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param circuitBreaker   The {@link CircuitBreaker} guarding throwingSupplier, usually shared by all its callers
+     * @param <R>              The return type of the {@link Supplier}
+     * @return The {@link Supplier} that delegates calls to throwingSupplier or fallback
+     * @see #firstPresent(Supplier, Supplier[])
+     * @see CircuitBreaker#execute(ThrowingSupplier, Supplier)
+     */
+    public static <R> Supplier<R> circuitBreaking(
+            Supplier<R> fallback,
+            ThrowingSupplier<R, ?> throwingSupplier,
+            CircuitBreaker circuitBreaker) {
+        return () -> {
+            if (!circuitBreaker.tryAcquirePermission())
+                return fallback.get();
+
+            final R result;
+            try {
+                result = throwingSupplier.get();
+            } catch (Exception e) {
+                circuitBreaker.recordFailure();
+                return fallback.get();
+            }
+            circuitBreaker.recordSuccess();
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that delegates calls to given throwingSupplier if given rateLimiter has a
+     * permit available, or returns the result of given fallback otherwise.<br>
+     * Calls never wait for a permit, so callers exceeding the rate are served by fallback at the cost of a single
+     * compare-and-set.
+     *
+     * @param fallback         The {@link Supplier} whose result to return if no permit is available
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param rateLimiter      The {@link RateLimiter} guarding throwingSupplier, usually shared by all its callers
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that delegates calls to throwingSupplier or fallback
+     * @see #rateLimitingAsync(ThrowingSupplier, RateLimiter, ScheduledExecutorService)
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> rateLimiting(
+            Supplier<R> fallback,
+            ThrowingSupplier<R, E> throwingSupplier,
+            RateLimiter rateLimiter) {
+        return () -> rateLimiter.tryAcquire() ? throwingSupplier.get() : fallback.get();
+    }
+
+    /**
+     * Returns a {@link Supplier} that reserves a permit of given rateLimiter, calls given throwingSupplier on given
+     * scheduler once the permit may be used and supplies a {@link CompletableFuture} of its result.<br>
+     * Calls exceeding the rate are queued by scheduling them after their delay, so no thread is blocked while they
+     * wait.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param rateLimiter      The {@link RateLimiter} guarding throwingSupplier, usually shared by all its callers
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> rateLimitingAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            RateLimiter rateLimiter,
+            ScheduledExecutorService scheduler) {
+        return () -> rateLimiter.executeAsync(throwingSupplier, scheduler);
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that delegates calls to given throwingSupplier if given bulkhead has a permit
+     * available and releases it afterwards, or returns the result of given fallback otherwise.<br>
+     * Calls never wait for a permit, so callers exceeding the concurrency limit are served by fallback instead of
+     * piling up on the resource.
+     *
+     * @param fallback         The {@link Supplier} whose result to return if no permit is available
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param bulkhead         The {@link Bulkhead} guarding throwingSupplier, usually shared by all its callers
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that delegates calls to throwingSupplier or fallback
+     * @see #bulkheadingAsync(ThrowingSupplier, Bulkhead, Executor)
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> bulkheading(
+            Supplier<R> fallback,
+            ThrowingSupplier<R, E> throwingSupplier,
+            Bulkhead bulkhead) {
+        return () -> bulkhead.execute(throwingSupplier, fallback);
+    }
+
+    /**
+     * Returns a {@link Supplier} that acquires a permit of given bulkhead asynchronously, calls given throwingSupplier
+     * on given executor once acquired and supplies a {@link CompletableFuture} of its result.<br>
+     * Calls exceeding the concurrency limit wait in the queue of bulkhead without occupying a thread. If the queue is
+     * full, the {@link CompletableFuture} completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param bulkhead         The {@link Bulkhead} guarding throwingSupplier, usually shared by all its callers
+     * @param executor         The {@link Executor} to call throwingSupplier on
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> bulkheadingAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            Bulkhead bulkhead,
+            Executor executor) {
+        return () -> bulkhead.executeAsync(throwingSupplier, executor);
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that delegates calls to given throwingSupplier and reports their latency and
+     * outcome to given listener.<br>
+     * {@link Exception}s thrown by throwingSupplier are reported and rethrown, so the result can be passed to
+     * {@link #trying(ThrowingSupplier)} to count the {@link Exception}s it swallows. If listener is
+     * {@link CallListener#NONE}, throwingSupplier itself is returned.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param listener         The {@link CallListener} to report calls to, e.g. a shared {@link CallMetrics}
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that delegates calls to throwingSupplier
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> instrumenting(
+            ThrowingSupplier<R, E> throwingSupplier,
+            CallListener listener) {
+        if (listener == CallListener.NONE)
+            return throwingSupplier;
+
+        return () -> {
+            final long start = System.nanoTime();
+            final R result;
+            try {
+                result = throwingSupplier.get();
+            } catch (Exception e) {
+                listener.onFailure(e, System.nanoTime() - start);
+                throw e;
+            }
+            listener.onSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given throwingSupplier on given scheduler and returns an {@link Optional}
+     * of the result, or an empty {@link Optional} if given throwingSupplier returned null, threw an
+     * {@link Exception} or did not return within given timeout.<br>
+     * A call that times out is cancelled and interrupted. The calling thread waits for the result with the timeout,
+     * so the timeout holds even if scheduler has no thread to spare.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param timeout          The time after which to give up on a call
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     * @see #trying(ThrowingSupplier)
+     */
+    public static <R> Supplier<Optional<R>> timingOut(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            Duration timeout,
+            ScheduledExecutorService scheduler) {
+        return () -> {
+            final CompletableFuture<R> future = TimedCall.call(throwingSupplier, scheduler);
+            try {
+                return Optional.ofNullable(TimedCall.await(future, timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } catch (ExecutionException | CancellationException | TimeoutException e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given throwingSupplier on given scheduler and returns the result, or throws
+     * a {@link RuntimeException} created by given exceptionMapper if given throwingSupplier threw an
+     * {@link Exception} or did not return within given timeout.<br>
+     * The original {@link Exception}, or a {@link TimeoutException} if the call timed out, is passed as the argument
+     * to given exceptionMapper. A call that times out is cancelled and interrupted. If the calling thread is
+     * interrupted while waiting, the call is cancelled as well and the {@link InterruptedException} is passed to
+     * exceptionMapper with the interrupt status set. The calling thread waits for the result with the timeout, so the
+     * timeout holds even if scheduler has no thread to spare.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param timeout          The time after which to give up on a call
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param exceptionMapper  The original {@link Exception} to rethrown {@link RuntimeException} mapper
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that delegates calls to throwingSupplier
+     * @see #rethrowing(ThrowingSupplier, Function)
+     */
+    public static <R> Supplier<R> timingOut(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            Duration timeout,
+            ScheduledExecutorService scheduler,
+            Function<Exception, ? extends RuntimeException> exceptionMapper) {
+        return () -> {
+            final CompletableFuture<R> future = TimedCall.call(throwingSupplier, scheduler);
+            try {
+                return TimedCall.await(future, timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw exceptionMapper.apply(e);
+            } catch (ExecutionException e) {
+                throw exceptionMapper.apply(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            } catch (TimeoutException e) {
+                throw exceptionMapper.apply(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given throwingSupplier on given scheduler and supplies a
+     * {@link CompletableFuture} of its result, which completes exceptionally with a {@link TimeoutException} if given
+     * throwingSupplier did not return within given timeout.<br>
+     * The deadline is scheduled on scheduler, so no thread waits for it. A call that times out is cancelled and
+     * interrupted, and so is a call whose {@link CompletableFuture} is cancelled.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param timeout          The time after which to give up on a call
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on, which needs a thread
+     *                         to spare for the deadline while throwingSupplier is running
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> timingOutAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            Duration timeout,
+            ScheduledExecutorService scheduler) {
+        return () -> TimedCall.start(throwingSupplier, timeout, scheduler);
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given throwingSupplier on given scheduler and, if the call has not
+     * succeeded after given delay, calls it a second time concurrently, supplying a {@link CompletableFuture} of the
+     * first successful result.<br>
+     * Hedging a slow call with a second one cuts the tail latency caused by occasional slow calls at the cost of
+     * duplicate work for the calls slower than delay. If the first call fails before the delay, the second one is
+     * started right away. As soon as one call succeeds, the other is cancelled and interrupted. If both fail, the
+     * {@link CompletableFuture} completes exceptionally with the first {@link Exception}, unchanged, and the second
+     * one is dropped.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to, which must be safe to call twice
+     * @param delay            The time after which to start the second call
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on, which needs two
+     *                         threads to run both calls concurrently
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> hedgingAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            Duration delay,
+            ScheduledExecutorService scheduler) {
+        final long delayNanos = delay.toNanos();
+        return () -> HedgedCall.start(throwingSupplier, delayNanos, scheduler, null);
+    }
+
+    /**
+     * Returns a {@link Supplier} like {@link #hedgingAsync(ThrowingSupplier, Duration, ScheduledExecutorService)}
+     * whose delay is given percentile of the latencies of its previous successful calls.<br>
+     * The latencies are recorded into a {@link LatencyHistogram} per returned {@link Supplier}. Until enough of them
+     * have been recorded, given initialDelay is used. With a percentile of {@code .95}, roughly the slowest 5% of
+     * calls are hedged.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to, which must be safe to call twice
+     * @param percentile       The percentile between 0 and 1 exclusively of previous latencies to use as the delay
+     * @param initialDelay     The delay to use until enough latencies have been recorded
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on, which needs two
+     *                         threads to run both calls concurrently
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> hedgingAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            double percentile,
+            Duration initialDelay,
+            ScheduledExecutorService scheduler) {
+        final HedgedCall.AdaptiveDelay delay = new HedgedCall.AdaptiveDelay(percentile, initialDelay.toNanos());
+        return () -> HedgedCall.start(throwingSupplier, delay.getAsLong(), scheduler, delay.latencies);
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that delegates calls to given throwingSupplier and retries them as described
+     * by given policy if given throwingSupplier threw an {@link Exception}.<br>
+     * The calling thread is blocked during the delays between attempts. If no further retry is allowed, the
+     * {@link Exception} thrown by the last attempt is thrown, so the result can be passed to
+     * {@link #rethrowing(ThrowingSupplier)} or {@link #trying(ThrowingSupplier)}.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code rethrowing(retrying(() -> lock(file), maxAttempts(3).withBackoff(ofMillis(10), ofSeconds(1))))}
+     * </p>
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param policy           The {@link RetryPolicy} describing when to retry
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that retries calls to throwingSupplier
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> retrying(
+            ThrowingSupplier<R, E> throwingSupplier,
+            RetryPolicy policy) {
+        return () -> policy.execute(throwingSupplier);
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given throwingSupplier on given scheduler and supplies a
+     * {@link CompletableFuture} of its result, retrying the call as described by given policy if given
+     * throwingSupplier threw an {@link Exception}.<br>
+     * Retries are scheduled after their delay, so no thread is blocked in between attempts. If no further retry is
+     * allowed, the {@link CompletableFuture} completes exceptionally with the {@link Exception} thrown by the last
+     * attempt.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param policy           The {@link RetryPolicy} describing when to retry
+     * @param scheduler        The {@link ScheduledExecutorService} to call throwingSupplier on
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @return The {@link Supplier} that supplies a {@link CompletableFuture} of the result of throwingSupplier
+     */
+    public static <R> Supplier<CompletableFuture<R>> retryingAsync(
+            ThrowingSupplier<R, ?> throwingSupplier,
+            RetryPolicy policy,
+            ScheduledExecutorService scheduler) {
+        return () -> policy.executeAsync(throwingSupplier, scheduler);
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given supplier once and then keeps supplying the same result.<br>
+     * Concurrent calls during the first call wait for its result instead of calling given supplier again. After that,
+     * calls do not acquire any lock. If given supplier throws, the exception is not cached, so the next call tries
+     * again.
+     *
+     * @param supplier The {@link Supplier} to delegate to
+     * @param <R>      The return type of the {@link Supplier}
+     * @return The {@link Supplier} that caches the result of supplier
+     */
+    public static <R> Supplier<R> memoizing(Supplier<R> supplier) {
+        return new MemoizingSupplier<R, RuntimeException>(supplier::get, MemoizingSupplier.NO_TTL)::get;
+    }
+
+    /**
+     * Returns a {@link Supplier} that calls given supplier and then keeps supplying the same result until given time to
+     * live has passed, after which it calls given supplier again.<br>
+     * Concurrent calls while the result is being computed wait for it instead of calling given supplier again. If given
+     * supplier throws, the exception is not cached, so the next call tries again.
+     *
+     * @param supplier The {@link Supplier} to delegate to
+     * @param ttl      The time after which a result expires
+     * @param <R>      The return type of the {@link Supplier}
+     * @return The {@link Supplier} that caches the result of supplier
+     * @throws IllegalArgumentException if ttl is negative
+     */
+    public static <R> Supplier<R> memoizing(Supplier<R> supplier, Duration ttl) {
+        return new MemoizingSupplier<R, RuntimeException>(supplier::get, MemoizingFunction.checkTtl(ttl))::get;
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that calls given throwingSupplier once and then keeps supplying the same
+     * result.<br>
+     * Concurrent calls during the first call wait for its result instead of calling given throwingSupplier again. After
+     * that, calls do not acquire any lock. If given throwingSupplier throws, the exception is not cached, so the next
+     * call tries again.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that caches the result of throwingSupplier
+     * @see #memoizing(Supplier)
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> memoizingThrowing(
+            ThrowingSupplier<R, E> throwingSupplier) {
+        return new MemoizingSupplier<>(throwingSupplier, MemoizingSupplier.NO_TTL);
+    }
+
+    /**
+     * Returns a {@link ThrowingSupplier} that calls given throwingSupplier and then keeps supplying the same result
+     * until given time to live has passed, after which it calls given throwingSupplier again.
+     *
+     * @param throwingSupplier The {@link ThrowingSupplier} to delegate to
+     * @param ttl              The time after which a result expires
+     * @param <R>              The return type of the {@link ThrowingSupplier}
+     * @param <E>              The type of the {@link Exception} thrown by the {@link ThrowingSupplier}
+     * @return The {@link ThrowingSupplier} that caches the result of throwingSupplier
+     * @throws IllegalArgumentException if ttl is negative
+     * @see #memoizing(Supplier, Duration)
+     */
+    public static <R, E extends Exception> ThrowingSupplier<R, E> memoizingThrowing(
+            ThrowingSupplier<R, E> throwingSupplier,
+            Duration ttl) {
+        return new MemoizingSupplier<>(throwingSupplier, MemoizingFunction.checkTtl(ttl));
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.DoubleFunction;
+
+/**
+ * A modified version of {@link DoubleFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingDouble(ThrowingDoubleFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingDoubleFunction<R, E extends Exception> {
+    R apply(double param) throws E;
+}
@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A modified version of {@link DoubleSupplier} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see SupplierUtils#tryingAsDouble(ThrowingDoubleSupplier)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingDoubleSupplier<E extends Exception> {
+    double getAsDouble() throws E;
+}
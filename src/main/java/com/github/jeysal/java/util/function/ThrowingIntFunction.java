@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.IntFunction;
+
+/**
+ * A modified version of {@link IntFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingInt(ThrowingIntFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingIntFunction<R, E extends Exception> {
+    R apply(int param) throws E;
+}
@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A modified version of {@link IntSupplier} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see SupplierUtils#tryingAsInt(ThrowingIntSupplier)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingIntSupplier<E extends Exception> {
+    int getAsInt() throws E;
+}
@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.LongFunction;
+
+/**
+ * A modified version of {@link LongFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingLong(ThrowingLongFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingLongFunction<R, E extends Exception> {
+    R apply(long param) throws E;
+}
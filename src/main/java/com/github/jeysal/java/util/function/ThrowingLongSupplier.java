@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A modified version of {@link LongSupplier} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see SupplierUtils#tryingAsLong(ThrowingLongSupplier)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingLongSupplier<E extends Exception> {
+    long getAsLong() throws E;
+}
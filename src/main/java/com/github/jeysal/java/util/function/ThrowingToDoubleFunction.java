@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A modified version of {@link ToDoubleFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingToDouble(ThrowingToDoubleFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingToDoubleFunction<T, E extends Exception> {
+    double applyAsDouble(T param) throws E;
+}
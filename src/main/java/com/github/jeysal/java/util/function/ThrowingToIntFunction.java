@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A modified version of {@link ToIntFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingToInt(ThrowingToIntFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingToIntFunction<T, E extends Exception> {
+    int applyAsInt(T param) throws E;
+}
@@ -0,0 +1,15 @@
+package com.github.jeysal.java.util.function;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * A modified version of {@link ToLongFunction} that can throw an {@link Exception}.
+ *
+ * @author Tim Seckinger
+ * @see FunctionUtils#tryingToLong(ThrowingToLongFunction)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ThrowingToLongFunction<T, E extends Exception> {
+    long applyAsLong(T param) throws E;
+}
@@ -0,0 +1,117 @@
+package com.github.jeysal.java.util.function;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Calls a supplier on a scheduler and gives up on it after a timeout.
+ * <p>
+ * Callers that block anyway wait for the result with a timeout on their own thread, so the timeout holds even if the
+ * scheduler has no thread to spare. Otherwise, the deadline is a task scheduled on the same scheduler, so no thread
+ * waits for it. Whichever of the call and the deadline completes the result first wins, and the other is cancelled,
+ * interrupting the call if it is still running.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@UtilityClass
+class TimedCall {
+
+    /**
+     * Starts calling given supplier on given scheduler.
+     *
+     * @param supplier  The supplier to call
+     * @param scheduler The {@link ScheduledExecutorService} to call supplier on
+     * @param <R>       The return type of the supplier
+     * @return A {@link CompletableFuture} of the result of supplier, cancelling or completing it cancels the call
+     */
+    static <R> CompletableFuture<R> call(ThrowingSupplier<R, ?> supplier, ScheduledExecutorService scheduler) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final Future<?> call;
+        try {
+            call = scheduler.submit(() -> {
+                if (result.isDone())
+                    return;
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.whenComplete((r, e) -> call.cancel(true));
+        return result;
+    }
+
+    /**
+     * Starts calling given supplier on given scheduler and schedules its deadline on the same scheduler, which thus
+     * needs a thread to spare for the deadline while supplier is running.
+     *
+     * @param supplier  The supplier to call
+     * @param timeout   The time after which to give up on the call
+     * @param scheduler The {@link ScheduledExecutorService} to call supplier and schedule the deadline on
+     * @param <R>       The return type of the supplier
+     * @return A {@link CompletableFuture} of the result of supplier, completing exceptionally with a
+     * {@link TimeoutException} if the deadline passes first, cancelling it cancels the call
+     */
+    static <R> CompletableFuture<R> start(
+            ThrowingSupplier<R, ?> supplier,
+            Duration timeout,
+            ScheduledExecutorService scheduler) {
+        final CompletableFuture<R> result = call(supplier, scheduler);
+        if (result.isDone())
+            return result;
+
+        try {
+            final Future<?> deadline = scheduler.schedule(
+                    () -> result.completeExceptionally(timeoutException(timeout)), timeout.toNanos(), NANOSECONDS);
+            result.whenComplete((r, e) -> deadline.cancel(false));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Waits on the calling thread for the result of a call started by {@link #call} until given timeout has passed,
+     * cancelling the call if it has not completed by then.
+     *
+     * @param call    The {@link CompletableFuture} of the call
+     * @param timeout The time after which to give up on the call
+     * @param <R>     The return type of the call
+     * @return The result of the call
+     * @throws InterruptedException if the calling thread was interrupted while waiting, after cancelling the call
+     * @throws ExecutionException   if the call threw
+     * @throws TimeoutException     if the call did not complete within timeout, after cancelling it
+     */
+    static <R> R await(CompletableFuture<R> call, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            return call.get(timeout.toNanos(), NANOSECONDS);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            throw timeoutException(timeout);
+        }
+    }
+
+    private static TimeoutException timeoutException(Duration timeout) {
+        return new TimeoutException("Timed out after " + timeout);
+    }
+
+}
@@ -0,0 +1,284 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A mutable result container that groups values into batches of a fixed size while they are being accumulated, only
+ * the last of which may be smaller.
+ * <p>
+ * A batch is closed as soon as it is full, so the values are held once rather than buffered and partitioned at the
+ * end. Combining with the container of a later segment is free if the batch being filled is empty; otherwise, the
+ * values of the later segment are shifted into batches starting with the one being filled, discarding each of its
+ * batches once it has been copied.
+ * </p>
+ *
+ * @param <B> the type of the batches
+ * @author Tim Seckinger
+ * @see BatchSpliterator
+ * @since 17.10.2026
+ */
+abstract class BatchAccumulator<B> {
+
+    private static final int BATCH_UNIT = 1 << 10;
+
+    final int size;
+    private final List<B> batches = new ArrayList<>();
+
+    /**
+     * @param size the number of values in each batch but the last
+     */
+    BatchAccumulator(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return the number of values in the batch being filled
+     */
+    abstract int count();
+
+    /**
+     * @return the batch being filled, trimmed to its values, after which a new one is started
+     */
+    abstract B take();
+
+    /**
+     * @param batch the batch to append values of to the batch being filled
+     * @param from  the index of the first value to append, inclusive
+     * @param to    the index of the last value to append, exclusive
+     */
+    abstract void append(B batch, int from, int to);
+
+    /**
+     * @param batch a batch
+     * @return the number of values in given batch
+     */
+    abstract int length(B batch);
+
+    /**
+     * Closes the batch being filled if it is full.
+     */
+    final void closeIfFull() {
+        if (count() == size)
+            batches.add(take());
+    }
+
+    /**
+     * Appends the values of the container of a later segment, which must not be used afterwards.
+     *
+     * @param other the container to append
+     */
+    final void combine(BatchAccumulator<B> other) {
+        if (count() == 0)
+            batches.addAll(other.batches);
+        else
+            for (int i = 0; i < other.batches.size(); i++) {
+                refill(other.batches.get(i));
+                other.batches.set(i, null);
+            }
+        if (other.count() > 0)
+            refill(other.take());
+    }
+
+    /**
+     * @return the batches, closing the one being filled
+     */
+    final List<B> finish() {
+        if (count() > 0)
+            batches.add(take());
+        return batches;
+    }
+
+    private void refill(B batch) {
+        for (int from = 0, to, length = length(batch); from < length; from = to) {
+            to = Math.min(length, from + size - count());
+            append(batch, from, to);
+            closeIfFull();
+        }
+    }
+
+    /**
+     * @param length the number of values in the batch being filled
+     * @return the capacity to grow the batch being filled to
+     */
+    final int grow(int length) {
+        return (int) Math.min(size, Math.max(BATCH_UNIT, (long) length << 1));
+    }
+
+    static final class OfRef<T> extends BatchAccumulator<List<T>> {
+
+        private List<T> batch = new ArrayList<>();
+
+        OfRef(int size) {
+            super(size);
+        }
+
+        void add(T value) {
+            batch.add(value);
+            closeIfFull();
+        }
+
+        @Override
+        int count() {
+            return batch.size();
+        }
+
+        @Override
+        List<T> take() {
+            final List<T> taken = batch;
+            batch = new ArrayList<>();
+            return taken;
+        }
+
+        @Override
+        void append(List<T> other, int from, int to) {
+            batch.addAll(other.subList(from, to));
+        }
+
+        @Override
+        int length(List<T> other) {
+            return other.size();
+        }
+
+    }
+
+    static final class OfInt extends BatchAccumulator<int[]> implements IntConsumer {
+
+        private int[] batch = new int[0];
+        private int count;
+
+        OfInt(int size) {
+            super(size);
+        }
+
+        @Override
+        public void accept(int value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, grow(count));
+            batch[count++] = value;
+            closeIfFull();
+        }
+
+        @Override
+        int count() {
+            return count;
+        }
+
+        @Override
+        int[] take() {
+            final int[] taken = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = new int[0];
+            count = 0;
+            return taken;
+        }
+
+        @Override
+        void append(int[] other, int from, int to) {
+            if (count + to - from > batch.length)
+                batch = Arrays.copyOf(batch, Math.max(count + to - from, grow(count)));
+            System.arraycopy(other, from, batch, count, to - from);
+            count += to - from;
+        }
+
+        @Override
+        int length(int[] other) {
+            return other.length;
+        }
+
+    }
+
+    static final class OfLong extends BatchAccumulator<long[]> implements LongConsumer {
+
+        private long[] batch = new long[0];
+        private int count;
+
+        OfLong(int size) {
+            super(size);
+        }
+
+        @Override
+        public void accept(long value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, grow(count));
+            batch[count++] = value;
+            closeIfFull();
+        }
+
+        @Override
+        int count() {
+            return count;
+        }
+
+        @Override
+        long[] take() {
+            final long[] taken = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = new long[0];
+            count = 0;
+            return taken;
+        }
+
+        @Override
+        void append(long[] other, int from, int to) {
+            if (count + to - from > batch.length)
+                batch = Arrays.copyOf(batch, Math.max(count + to - from, grow(count)));
+            System.arraycopy(other, from, batch, count, to - from);
+            count += to - from;
+        }
+
+        @Override
+        int length(long[] other) {
+            return other.length;
+        }
+
+    }
+
+    static final class OfDouble extends BatchAccumulator<double[]> implements DoubleConsumer {
+
+        private double[] batch = new double[0];
+        private int count;
+
+        OfDouble(int size) {
+            super(size);
+        }
+
+        @Override
+        public void accept(double value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, grow(count));
+            batch[count++] = value;
+            closeIfFull();
+        }
+
+        @Override
+        int count() {
+            return count;
+        }
+
+        @Override
+        double[] take() {
+            final double[] taken = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = new double[0];
+            count = 0;
+            return taken;
+        }
+
+        @Override
+        void append(double[] other, int from, int to) {
+            if (count + to - from > batch.length)
+                batch = Arrays.copyOf(batch, Math.max(count + to - from, grow(count)));
+            System.arraycopy(other, from, batch, count, to - from);
+            count += to - from;
+        }
+
+        @Override
+        int length(double[] other) {
+            return other.length;
+        }
+
+    }
+
+}
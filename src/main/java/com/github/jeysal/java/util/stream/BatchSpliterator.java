@@ -0,0 +1,229 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator} that lazily groups the values yielded by a source {@link Spliterator} into batches of a fixed
+ * size, only the last of which may be smaller.
+ * <p>
+ * Only the batch being filled is kept as state. Since splitting the source at arbitrary positions would break up
+ * batches, splitting instead fills a number of whole batches from the front of the source into an array, which can
+ * then be traversed in parallel with the remainder.
+ * </p>
+ *
+ * @param <B> the type of the batches
+ * @author Tim Seckinger
+ * @see IntPrefixSumSpliterator
+ * @since 17.10.2026
+ */
+abstract class BatchSpliterator<B> implements Spliterator<B> {
+
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator<?> source;
+    final int size;
+    private int batches;
+
+    /**
+     * @param source the {@link Spliterator} yielding the values to group
+     * @param size   the number of values in each batch but the last
+     */
+    BatchSpliterator(Spliterator<?> source, int size) {
+        this.source = source;
+        this.size = size;
+    }
+
+    /**
+     * @param size the batch size to validate
+     * @return given batch size
+     * @throws IllegalArgumentException if size is not positive
+     */
+    static int checkSize(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("Batch size must be positive: " + size);
+        return size;
+    }
+
+    /**
+     * @return the next batch, or {@code null} if the source is exhausted
+     */
+    abstract B next();
+
+    /**
+     * @return the exact size of the next batch if the source is sized, otherwise a capacity to start filling it with
+     */
+    int initialCapacity() {
+        final long estimate = source.hasCharacteristics(SIZED) ? source.estimateSize() : BATCH_UNIT;
+        return (int) Math.min(size, estimate);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super B> action) {
+        final B batch = next();
+        if (batch == null)
+            return false;
+        action.accept(batch);
+        return true;
+    }
+
+    @Override
+    public Spliterator<B> trySplit() {
+        final long estimate = estimateSize();
+        if (estimate <= 1)
+            return null;
+
+        final int unit = Math.max(1, BATCH_UNIT / size);
+        final int n = (int) Math.min(estimate, Math.min(batches + unit, Math.max(1, MAX_BATCH / size)));
+        final Object[] buffer = new Object[n];
+        int count = 0;
+        for (B batch; count < n && (batch = next()) != null; )
+            buffer[count++] = batch;
+        if (count == 0)
+            return null;
+
+        batches = count;
+        return Spliterators.spliterator(buffer, 0, count, characteristics());
+    }
+
+    @Override
+    public long estimateSize() {
+        final long estimate = source.estimateSize();
+        return estimate == Long.MAX_VALUE ? estimate : (estimate + size - 1) / size;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & CHARACTERISTICS | NONNULL;
+    }
+
+    static final class OfRef<T> extends BatchSpliterator<List<T>> implements Consumer<T> {
+
+        private final Spliterator<T> source;
+        private List<T> batch;
+
+        OfRef(Spliterator<T> source, int size) {
+            super(source, size);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(T value) {
+            batch.add(value);
+        }
+
+        @Override
+        List<T> next() {
+            batch = new ArrayList<>(initialCapacity());
+            while (batch.size() < size && source.tryAdvance(this)) {
+            }
+            final List<T> next = batch;
+            batch = null;
+            return next.isEmpty() ? null : next;
+        }
+
+    }
+
+    static final class OfInt extends BatchSpliterator<int[]> implements IntConsumer {
+
+        private final Spliterator.OfInt source;
+        private int[] batch;
+        private int count;
+
+        OfInt(Spliterator.OfInt source, int size) {
+            super(source, size);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(int value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, (int) Math.min(size, Math.max(BATCH_UNIT, (long) batch.length << 1)));
+            batch[count++] = value;
+        }
+
+        @Override
+        int[] next() {
+            batch = new int[initialCapacity()];
+            count = 0;
+            while (count < size && source.tryAdvance(this)) {
+            }
+            final int[] next = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = null;
+            return count == 0 ? null : next;
+        }
+
+    }
+
+    static final class OfLong extends BatchSpliterator<long[]> implements LongConsumer {
+
+        private final Spliterator.OfLong source;
+        private long[] batch;
+        private int count;
+
+        OfLong(Spliterator.OfLong source, int size) {
+            super(source, size);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(long value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, (int) Math.min(size, Math.max(BATCH_UNIT, (long) batch.length << 1)));
+            batch[count++] = value;
+        }
+
+        @Override
+        long[] next() {
+            batch = new long[initialCapacity()];
+            count = 0;
+            while (count < size && source.tryAdvance(this)) {
+            }
+            final long[] next = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = null;
+            return count == 0 ? null : next;
+        }
+
+    }
+
+    static final class OfDouble extends BatchSpliterator<double[]> implements DoubleConsumer {
+
+        private final Spliterator.OfDouble source;
+        private double[] batch;
+        private int count;
+
+        OfDouble(Spliterator.OfDouble source, int size) {
+            super(source, size);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (count == batch.length)
+                batch = Arrays.copyOf(batch, (int) Math.min(size, Math.max(BATCH_UNIT, (long) batch.length << 1)));
+            batch[count++] = value;
+        }
+
+        @Override
+        double[] next() {
+            batch = new double[initialCapacity()];
+            count = 0;
+            while (count < size && source.tryAdvance(this)) {
+            }
+            final double[] next = count == batch.length ? batch : Arrays.copyOf(batch, count);
+            batch = null;
+            return count == 0 ? null : next;
+        }
+
+    }
+
+}
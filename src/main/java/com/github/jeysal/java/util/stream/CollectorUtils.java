@@ -4,6 +4,18 @@ import lombok.experimental.UtilityClass;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
@@ -36,9 +48,13 @@ public class CollectorUtils {
         return Collector.of(
                 ArrayList::new,
                 (l, i) -> l.add(mapper.applyAsInt(i) + (l.isEmpty() ? 0 : l.get(l.size() - 1))),
-                (l, r) -> l.isEmpty() ? r : Stream.concat(
-                        l.stream(),
-                        r.stream().map(i -> i + l.get(l.size() - 1))).collect(Collectors.toList()));
+                (l, r) -> {
+                    if (l.isEmpty())
+                        return r;
+                    final int offset = l.get(l.size() - 1);
+                    r.forEach(i -> l.add(i + offset));
+                    return l;
+                });
     }
 
     /**
@@ -57,9 +73,13 @@ public class CollectorUtils {
         return Collector.of(
                 ArrayList::new,
                 (l, i) -> l.add(mapper.applyAsLong(i) + (l.isEmpty() ? 0 : l.get(l.size() - 1))),
-                (l, r) -> l.isEmpty() ? r : Stream.concat(
-                        l.stream(),
-                        r.stream().map(i -> i + l.get(l.size() - 1))).collect(Collectors.toList()));
+                (l, r) -> {
+                    if (l.isEmpty())
+                        return r;
+                    final long offset = l.get(l.size() - 1);
+                    r.forEach(i -> l.add(i + offset));
+                    return l;
+                });
     }
 
     /**
@@ -78,9 +98,924 @@ public class CollectorUtils {
         return Collector.of(
                 ArrayList::new,
                 (l, i) -> l.add(mapper.applyAsDouble(i) + (l.isEmpty() ? 0 : l.get(l.size() - 1))),
-                (l, r) -> l.isEmpty() ? r : Stream.concat(
-                        l.stream(),
-                        r.stream().map(i -> i + l.get(l.size() - 1))).collect(Collectors.toList()));
+                (l, r) -> {
+                    if (l.isEmpty())
+                        return r;
+                    final double offset = l.get(l.size() - 1);
+                    r.forEach(i -> l.add(i + offset));
+                    return l;
+                });
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative sum of an integer-valued function
+     * applied to the input elements as a primitive array. If no elements are present, the result is an empty array.
+     * <p>
+     * Unlike {@link #cumulativelySummingInt(ToIntFunction)}, the sums are accumulated in a growable
+     * {@code int[]} buffer, so no boxed object is allocated per input element. When collecting a parallel
+     * stream, partial results are combined without copying and offset in a single final pass, so the work stays
+     * linear in the input size.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, -3).collect(cumulativelySummingIntToArray(i -> i))} yields {@code {1, 3, 0}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to be cumulatively summed
+     * @return a {@link Collector} that produces the cumulative sum of a derived property
+     */
+    public static <T> Collector<T, ?, int[]> cumulativelySummingIntToArray(ToIntFunction<T> mapper) {
+        return scanningInt(0, mapper, Integer::sum);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative sum of a long-valued function
+     * applied to the input elements as a primitive array. If no elements are present, the result is an empty array.
+     * <p>
+     * Unlike {@link #cumulativelySummingLong(ToLongFunction)}, the sums are accumulated in a growable
+     * {@code long[]} buffer, so no boxed object is allocated per input element. When collecting a parallel
+     * stream, partial results are combined without copying and offset in a single final pass, so the work stays
+     * linear in the input size.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, -3L).collect(cumulativelySummingLongToArray(l -> l))} yields {@code {1L, 3L, 0L}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to be cumulatively summed
+     * @return a {@link Collector} that produces the cumulative sum of a derived property
+     */
+    public static <T> Collector<T, ?, long[]> cumulativelySummingLongToArray(ToLongFunction<T> mapper) {
+        return scanningLong(0, mapper, Long::sum);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative sum of a double-valued function
+     * applied to the input elements as a primitive array. If no elements are present, the result is an empty array.
+     * <p>
+     * Unlike {@link #cumulativelySummingDouble(ToDoubleFunction)}, the sums are accumulated in a growable
+     * {@code double[]} buffer, so no boxed object is allocated per input element. When collecting a parallel
+     * stream, partial results are combined without copying and offset in a single final pass, so the work stays
+     * linear in the input size.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., -3.).collect(cumulativelySummingDoubleToArray(d -> d))} yields {@code {1., 3., 0.}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to be cumulatively summed
+     * @return a {@link Collector} that produces the cumulative sum of a derived property
+     */
+    public static <T> Collector<T, ?, double[]> cumulativelySummingDoubleToArray(ToDoubleFunction<T> mapper) {
+        return scanningDouble(0, mapper, Double::sum);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative sum of a double-valued function
+     * applied to the input elements as a primitive array, compensating for floating-point rounding errors.
+     * If no elements are present, the result is an empty array.
+     * <p>
+     * The sums are computed using Neumaier's variant of Kahan summation, so the error of each sum does not grow with
+     * the number of input elements like it does for {@link #cumulativelySummingDoubleToArray(ToDoubleFunction)}.
+     * Partial results of a parallel stream are combined together with their compensation terms.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1e100, 1., -1e100).collect(cumulativelySummingDoubleCompensated(d -> d))} yields
+     * {@code {1e100, 1e100, 1.}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to be cumulatively summed
+     * @return a {@link Collector} that produces the compensated cumulative sum of a derived property
+     */
+    public static <T> Collector<T, ?, double[]> cumulativelySummingDoubleCompensated(ToDoubleFunction<T> mapper) {
+        return Collector.of(
+                CompensatedPrefixSums::new,
+                (s, t) -> s.accept(mapper.applyAsDouble(t)),
+                CompensatedPrefixSums::combine,
+                CompensatedPrefixSums::toArray);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative results of applying given associative operator to the
+     * input elements, starting from given identity value. If no elements are present, the result is an empty list.
+     * <p>
+     * The i-th element of the result is {@code op.apply(...op.apply(op.apply(identity, t0), t1)..., ti)}.
+     * When collecting a parallel stream, partial results are combined without copying and completed in a single final
+     * pass, which is why op must be associative.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code assert asList(1, 3, 3).equals(Stream.of(1, 3, 2).collect(scanning(Integer.MIN_VALUE, Math::max)))}
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param identity the identity value of op
+     * @param op       an associative operator to cumulatively apply to the input elements
+     * @return a {@link Collector} that produces the cumulative results of op
+     */
+    public static <T> Collector<T, ?, List<T>> scanning(T identity, BinaryOperator<T> op) {
+        return scanning(identity, Function.identity(), op);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative results of applying given associative operator to the
+     * values of a function applied to the input elements, starting from given identity value.
+     * If no elements are present, the result is an empty list.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of("a", "abc", "ab").collect(scanning(0, String::length, Math::max))} yields {@code [1, 3, 3]}
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param <U>      the type of the mapped values
+     * @param identity the identity value of op
+     * @param mapper   a function extracting the property to cumulatively apply op to
+     * @param op       an associative operator to cumulatively apply to the mapped values
+     * @return a {@link Collector} that produces the cumulative results of op on a derived property
+     * @see #scanning(Object, BinaryOperator)
+     */
+    public static <T, U> Collector<T, ?, List<U>> scanning(
+            U identity,
+            Function<? super T, ? extends U> mapper,
+            BinaryOperator<U> op) {
+        return Collector.<T, Scan<U>, List<U>>of(
+                () -> new Scan<>(identity, op),
+                (s, t) -> s.accept(mapper.apply(t)),
+                Scan::combine,
+                Scan::toList);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative results of applying given associative operator to the
+     * values of an integer-valued function applied to the input elements as a primitive array, starting from given
+     * identity value. If no elements are present, the result is an empty array.
+     * <p>
+     * The results are accumulated in a growable {@code int[]} buffer without boxing. When collecting a parallel
+     * stream, partial results are combined without copying and completed in a single final pass, which is why op
+     * must be associative.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 3, 2).collect(scanningInt(Integer.MIN_VALUE, i -> i, Math::max))} yields {@code {1, 3, 3}}
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param identity the identity value of op
+     * @param mapper   a function extracting the property to cumulatively apply op to
+     * @param op       an associative operator to cumulatively apply to the mapped values
+     * @return a {@link Collector} that produces the cumulative results of op on a derived property
+     */
+    public static <T> Collector<T, ?, int[]> scanningInt(
+            int identity,
+            ToIntFunction<T> mapper,
+            IntBinaryOperator op) {
+        return Collector.of(
+                () -> new IntScan(identity, op),
+                (s, t) -> s.accept(mapper.applyAsInt(t)),
+                IntScan::combine,
+                IntScan::toArray);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative results of applying given associative operator to the
+     * values of a long-valued function applied to the input elements as a primitive array, starting from given
+     * identity value. If no elements are present, the result is an empty array.
+     * <p>
+     * The results are accumulated in a growable {@code long[]} buffer without boxing. When collecting a parallel
+     * stream, partial results are combined without copying and completed in a single final pass, which is why op
+     * must be associative.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 3L, 2L).collect(scanningLong(1L, l -> l, (a, b) -> a * b))} yields {@code {1L, 3L, 6L}}
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param identity the identity value of op
+     * @param mapper   a function extracting the property to cumulatively apply op to
+     * @param op       an associative operator to cumulatively apply to the mapped values
+     * @return a {@link Collector} that produces the cumulative results of op on a derived property
+     */
+    public static <T> Collector<T, ?, long[]> scanningLong(
+            long identity,
+            ToLongFunction<T> mapper,
+            LongBinaryOperator op) {
+        return Collector.of(
+                () -> new LongScan(identity, op),
+                (s, t) -> s.accept(mapper.applyAsLong(t)),
+                LongScan::combine,
+                LongScan::toArray);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the cumulative results of applying given associative operator to the
+     * values of a double-valued function applied to the input elements as a primitive array, starting from given
+     * identity value. If no elements are present, the result is an empty array.
+     * <p>
+     * The results are accumulated in a growable {@code double[]} buffer without boxing. When collecting a parallel
+     * stream, partial results are combined without copying and completed in a single final pass, which is why op
+     * must be associative.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(3., 1., 2.).collect(scanningDouble(Double.POSITIVE_INFINITY, d -> d, Math::min))}
+     * yields {@code {3., 1., 1.}}
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param identity the identity value of op
+     * @param mapper   a function extracting the property to cumulatively apply op to
+     * @param op       an associative operator to cumulatively apply to the mapped values
+     * @return a {@link Collector} that produces the cumulative results of op on a derived property
+     */
+    public static <T> Collector<T, ?, double[]> scanningDouble(
+            double identity,
+            ToDoubleFunction<T> mapper,
+            DoubleBinaryOperator op) {
+        return Collector.of(
+                () -> new DoubleScan(identity, op),
+                (s, t) -> s.accept(mapper.applyAsDouble(t)),
+                DoubleScan::combine,
+                DoubleScan::toArray);
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the sum of an integer-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * The sums are computed in {@code long} arithmetic and narrowed, so they overflow like {@code int} sums.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4).collect(slidingSummingInt(2, i -> i))} yields {@code {3, 5, 7}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding sum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, int[]> slidingSummingInt(int window, ToIntFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsInt,
+                values -> SlidingWindows.toIntArray(SlidingWindows.sums(values, window)));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the sum of a long-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, 3L, 4L).collect(slidingSummingLong(2, l -> l))} yields {@code {3L, 5L, 7L}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding sum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, long[]> slidingSummingLong(int window, ToLongFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsLong, values -> SlidingWindows.sums(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the sum of a double-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * The sums are compensated, so rounding errors do not accumulate as values enter and leave the window.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., 3., 4.).collect(slidingSummingDouble(2, d -> d))} yields {@code {3., 5., 7.}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding sum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingSummingDouble(int window, ToDoubleFunction<T> mapper) {
+        return slidingDouble(window, mapper::applyAsDouble, values -> SlidingWindows.sums(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the arithmetic mean of an integer-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4).collect(slidingAveragingInt(2, i -> i))} yields {@code {1.5, 2.5, 3.5}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding arithmetic mean of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingAveragingInt(int window, ToIntFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsInt, values -> SlidingWindows.means(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the arithmetic mean of a long-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, 3L, 4L).collect(slidingAveragingLong(2, l -> l))} yields {@code {1.5, 2.5, 3.5}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding arithmetic mean of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingAveragingLong(int window, ToLongFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsLong, values -> SlidingWindows.means(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the arithmetic mean of a double-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., 3., 4.).collect(slidingAveragingDouble(2, d -> d))} yields {@code {1.5, 2.5, 3.5}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding arithmetic mean of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingAveragingDouble(int window, ToDoubleFunction<T> mapper) {
+        return slidingDouble(window, mapper::applyAsDouble, values -> SlidingWindows.means(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the minimum of an integer-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4).collect(slidingMinInt(2, i -> i))} yields {@code {1, 2, 3}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding minimum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, int[]> slidingMinInt(int window, ToIntFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsInt,
+                values -> SlidingWindows.toIntArray(SlidingWindows.minima(values, window)));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the minimum of a long-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, 3L, 4L).collect(slidingMinLong(2, l -> l))} yields {@code {1L, 2L, 3L}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding minimum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, long[]> slidingMinLong(int window, ToLongFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsLong, values -> SlidingWindows.minima(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the minimum of a double-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * Values are ordered as by {@link Double#compare(double, double)}.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., 3., 4.).collect(slidingMinDouble(2, d -> d))} yields {@code {1., 2., 3.}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding minimum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingMinDouble(int window, ToDoubleFunction<T> mapper) {
+        return slidingDouble(window, mapper::applyAsDouble, values -> SlidingWindows.minima(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the maximum of an integer-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4).collect(slidingMaxInt(2, i -> i))} yields {@code {2, 3, 4}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding maximum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, int[]> slidingMaxInt(int window, ToIntFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsInt,
+                values -> SlidingWindows.toIntArray(SlidingWindows.maxima(values, window)));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the maximum of a long-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, 3L, 4L).collect(slidingMaxLong(2, l -> l))} yields {@code {2L, 3L, 4L}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding maximum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, long[]> slidingMaxLong(int window, ToLongFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsLong, values -> SlidingWindows.maxima(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the maximum of a double-valued function applied to the input elements
+     * over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * Values are ordered as by {@link Double#compare(double, double)}.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., 3., 4.).collect(slidingMaxDouble(2, d -> d))} yields {@code {2., 3., 4.}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding maximum of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingMaxDouble(int window, ToDoubleFunction<T> mapper) {
+        return slidingDouble(window, mapper::applyAsDouble, values -> SlidingWindows.maxima(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the population variance of an integer-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4).collect(slidingVarianceInt(2, i -> i))} yields {@code {.25, .25, .25}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding population variance of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingVarianceInt(int window, ToIntFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsInt, values -> SlidingWindows.variances(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the population variance of a long-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1L, 2L, 3L, 4L).collect(slidingVarianceLong(2, l -> l))} yields {@code {.25, .25, .25}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding population variance of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingVarianceLong(int window, ToLongFunction<T> mapper) {
+        return slidingLong(window, mapper::applyAsLong, values -> SlidingWindows.variances(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that produces the population variance of a double-valued function applied to the
+     * input elements over each window of given size sliding over them, as a primitive array.
+     * The i-th result covers the input elements i to i + window - 1, so there are {@code max(0, n - window + 1)}
+     * results for n input elements.
+     * Windows containing non-finite values have a variance of NaN.
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1., 2., 3., 4.).collect(slidingVarianceDouble(2, d -> d))} yields {@code {.25, .25, .25}}
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param window the number of consecutive input elements in each window
+     * @param mapper a function extracting the property to aggregate
+     * @return a {@link Collector} that produces the sliding population variance of a derived property
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public static <T> Collector<T, ?, double[]> slidingVarianceDouble(int window, ToDoubleFunction<T> mapper) {
+        return slidingDouble(window, mapper::applyAsDouble, values -> SlidingWindows.variances(values, window));
+    }
+
+    /**
+     * Returns a {@link Collector} that summarizes the values of a double-valued function applied to the input
+     * elements in a {@link QuantileSketch} with the default accuracy, approximating their quantiles in bounded memory.
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to summarize
+     * @return a {@link Collector} that produces a {@link QuantileSketch} of a derived property
+     * @see #summarizingQuantiles(int, ToDoubleFunction)
+     */
+    public static <T> Collector<T, ?, QuantileSketch> summarizingQuantiles(ToDoubleFunction<T> mapper) {
+        return summarizingQuantiles(QuantileSketch.DEFAULT_K, mapper);
+    }
+
+    /**
+     * Returns a {@link Collector} that summarizes the values of a double-valued function applied to the input
+     * elements in a {@link QuantileSketch}, approximating their quantiles in bounded memory.
+     * <p>
+     * The collector is unordered. When collecting a parallel stream, the partial sketches are combined, so the
+     * result is as accurate as that of a sequential stream.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code latencies.stream().collect(summarizingQuantiles(200, Request::getLatency)).quantile(.99)}
+     * approximates the 99th percentile latency
+     * </p>
+     *
+     * @param <T>    the type of the input elements
+     * @param k      the accuracy parameter of the sketch, the rank error of a quantile is roughly {@code 1.7 / k}
+     * @param mapper a function extracting the property to summarize
+     * @return a {@link Collector} that produces a {@link QuantileSketch} of a derived property
+     * @throws IllegalArgumentException if k is less than 8
+     */
+    public static <T> Collector<T, ?, QuantileSketch> summarizingQuantiles(int k, ToDoubleFunction<T> mapper) {
+        QuantileSketch.checkK(k);
+        return Collector.of(
+                () -> new QuantileSketch(k),
+                (s, t) -> s.accept(mapper.applyAsDouble(t)),
+                (s1, s2) -> {
+                    s1.combine(s2);
+                    return s1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@link Collector} that summarizes the values of a function applied to the input elements in a
+     * {@link DistinctCountSketch} with the default precision, estimating their number of distinct values in bounded
+     * memory.
+     *
+     * @param <T>    the type of the input elements
+     * @param mapper a function extracting the property to summarize
+     * @return a {@link Collector} that produces a {@link DistinctCountSketch} of a derived property
+     * @see #summarizingDistinctCount(int, Function)
+     */
+    public static <T> Collector<T, ?, DistinctCountSketch> summarizingDistinctCount(Function<T, ?> mapper) {
+        return summarizingDistinctCount(DistinctCountSketch.DEFAULT_PRECISION, mapper);
+    }
+
+    /**
+     * Returns a {@link Collector} that summarizes the values of a function applied to the input elements in a
+     * {@link DistinctCountSketch}, estimating their number of distinct values in bounded memory.
+     * <p>
+     * The collector is unordered. When collecting a parallel stream, the partial sketches are combined, so the
+     * result is as accurate as that of a sequential stream.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code events.stream().collect(summarizingDistinctCount(14, Event::getUserId)).estimate()}
+     * estimates the number of distinct users
+     * </p>
+     *
+     * @param <T>       the type of the input elements
+     * @param precision the precision of the sketch, between 4 and 18
+     * @param mapper    a function extracting the property to summarize
+     * @return a {@link Collector} that produces a {@link DistinctCountSketch} of a derived property
+     * @throws IllegalArgumentException if precision is out of range
+     */
+    public static <T> Collector<T, ?, DistinctCountSketch> summarizingDistinctCount(
+            int precision,
+            Function<T, ?> mapper) {
+        DistinctCountSketch.checkPrecision(precision);
+        return Collector.of(
+                () -> new DistinctCountSketch(precision),
+                (s, t) -> s.accept(mapper.apply(t)),
+                (s1, s2) -> {
+                    s1.combine(s2);
+                    return s1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@link Collector} that summarizes the values of a function applied to the input elements in a
+     * {@link TopKSketch}, finding the most frequent values in bounded memory.
+     * <p>
+     * The collector is unordered. When collecting a parallel stream, the partial sketches are combined, which may
+     * overestimate counts by the sum of the errors of the partial sketches.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code words.stream().collect(summarizingTopK(1000, String::toLowerCase)).top(10)}
+     * finds the ten most frequent words
+     * </p>
+     *
+     * @param <T>      the type of the input elements
+     * @param <K>      the type of the summarized values
+     * @param capacity the maximum number of values monitored by the sketch
+     * @param mapper   a function extracting the property to summarize
+     * @return a {@link Collector} that produces a {@link TopKSketch} of a derived property
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public static <T, K> Collector<T, ?, TopKSketch<K>> summarizingTopK(
+            int capacity,
+            Function<? super T, ? extends K> mapper) {
+        TopKSketch.checkCapacity(capacity);
+        return Collector.of(
+                () -> new TopKSketch<>(capacity),
+                (s, t) -> s.accept(mapper.apply(t)),
+                (s1, s2) -> {
+                    s1.combine(s2);
+                    return s1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a concurrent {@link Collector} that groups the input elements by a classifier function and sums the
+     * values of an integer-valued function applied to the elements of each group.
+     * <p>
+     * The collector is concurrent and unordered, so a parallel stream accumulates all elements into a single
+     * {@link ConcurrentHashMap} of {@link LongAdder}s instead of merging a map per thread. Adding to an existing group
+     * neither boxes nor locks, which pays off for high-cardinality keys and contended groups alike. Sums are
+     * {@code long}s, so they do not overflow like those of {@link Collectors#summingInt(ToIntFunction)}.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code orders.parallelStream().collect(groupingSummingInt(Order::getCustomer, Order::getQuantity))}
+     * yields the total quantity ordered per customer
+     * </p>
+     *
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @param classifier a function mapping input elements to keys
+     * @param mapper     a function extracting the property to be summed
+     * @return a {@link Collector} that produces a {@link ConcurrentMap} from keys to the sums of their elements
+     * @throws NullPointerException when collecting an element mapped to a null key
+     * @see Collectors#groupingByConcurrent(Function, Collector)
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Long>> groupingSummingInt(
+            Function<? super T, ? extends K> classifier,
+            ToIntFunction<? super T> mapper) {
+        return groupingConcurrent(
+                classifier,
+                LongAdder::new,
+                (a, t) -> a.add(mapper.applyAsInt(t)),
+                (a1, a2) -> a1.add(a2.sum()),
+                LongAdder::sum);
+    }
+
+    /**
+     * Returns a concurrent {@link Collector} that groups the input elements by a classifier function and sums the
+     * values of a long-valued function applied to the elements of each group.
+     * <p>
+     * The collector is concurrent and unordered, like {@link #groupingSummingInt(Function, ToIntFunction)}.
+     * </p>
+     *
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @param classifier a function mapping input elements to keys
+     * @param mapper     a function extracting the property to be summed
+     * @return a {@link Collector} that produces a {@link ConcurrentMap} from keys to the sums of their elements
+     * @throws NullPointerException when collecting an element mapped to a null key
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Long>> groupingSummingLong(
+            Function<? super T, ? extends K> classifier,
+            ToLongFunction<? super T> mapper) {
+        return groupingConcurrent(
+                classifier,
+                LongAdder::new,
+                (a, t) -> a.add(mapper.applyAsLong(t)),
+                (a1, a2) -> a1.add(a2.sum()),
+                LongAdder::sum);
+    }
+
+    /**
+     * Returns a concurrent {@link Collector} that groups the input elements by a classifier function and sums the
+     * values of a double-valued function applied to the elements of each group.
+     * <p>
+     * The collector is concurrent and unordered, like {@link #groupingSummingInt(Function, ToIntFunction)}, summing
+     * into {@link DoubleAdder}s. Since the order of additions varies between runs of a parallel stream, so may the
+     * rounding error of the sums.
+     * </p>
+     *
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @param classifier a function mapping input elements to keys
+     * @param mapper     a function extracting the property to be summed
+     * @return a {@link Collector} that produces a {@link ConcurrentMap} from keys to the sums of their elements
+     * @throws NullPointerException when collecting an element mapped to a null key
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Double>> groupingSummingDouble(
+            Function<? super T, ? extends K> classifier,
+            ToDoubleFunction<? super T> mapper) {
+        return groupingConcurrent(
+                classifier,
+                DoubleAdder::new,
+                (a, t) -> a.add(mapper.applyAsDouble(t)),
+                (a1, a2) -> a1.add(a2.sum()),
+                DoubleAdder::sum);
+    }
+
+    /**
+     * Returns a {@link Collector} that groups the input elements into batches of given size, only the last of which
+     * may be smaller. If no elements are present, the result is an empty list.
+     * <p>
+     * Each batch is closed as soon as it is full, so the elements are not buffered in addition to the batches. To
+     * process batches without collecting all elements first, see {@link StreamUtils#batched(Stream, int)}.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code Stream.of(1, 2, 3, 4, 5).collect(batching(2))} yields {@code [[1, 2], [3, 4], [5]]}
+     * </p>
+     *
+     * @param <T>  the type of the input elements
+     * @param size the number of elements in each batch but the last
+     * @return a {@link Collector} that produces a list of batches, each a new mutable {@link List}
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static <T> Collector<T, ?, List<List<T>>> batching(int size) {
+        BatchSpliterator.checkSize(size);
+        return Collector.of(
+                () -> new BatchAccumulator.OfRef<T>(size),
+                BatchAccumulator.OfRef::add,
+                (a1, a2) -> {
+                    a1.combine(a2);
+                    return a1;
+                },
+                BatchAccumulator.OfRef::finish);
+    }
+
+    /**
+     * Returns a {@link Collector} that groups the values of an integer-valued function applied to the input elements
+     * into primitive arrays of given size, only the last of which may be smaller.
+     *
+     * @param <T>    the type of the input elements
+     * @param size   the number of values in each batch but the last
+     * @param mapper a function extracting the property to batch
+     * @return a {@link Collector} that produces a list of batches of a derived property
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batching(int)
+     */
+    public static <T> Collector<T, ?, List<int[]>> batchingInt(int size, ToIntFunction<T> mapper) {
+        BatchSpliterator.checkSize(size);
+        return Collector.of(
+                () -> new BatchAccumulator.OfInt(size),
+                (a, t) -> a.accept(mapper.applyAsInt(t)),
+                (a1, a2) -> {
+                    a1.combine(a2);
+                    return a1;
+                },
+                BatchAccumulator.OfInt::finish);
+    }
+
+    /**
+     * Returns a {@link Collector} that groups the values of a long-valued function applied to the input elements
+     * into primitive arrays of given size, only the last of which may be smaller.
+     *
+     * @param <T>    the type of the input elements
+     * @param size   the number of values in each batch but the last
+     * @param mapper a function extracting the property to batch
+     * @return a {@link Collector} that produces a list of batches of a derived property
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batching(int)
+     */
+    public static <T> Collector<T, ?, List<long[]>> batchingLong(int size, ToLongFunction<T> mapper) {
+        BatchSpliterator.checkSize(size);
+        return Collector.of(
+                () -> new BatchAccumulator.OfLong(size),
+                (a, t) -> a.accept(mapper.applyAsLong(t)),
+                (a1, a2) -> {
+                    a1.combine(a2);
+                    return a1;
+                },
+                BatchAccumulator.OfLong::finish);
+    }
+
+    /**
+     * Returns a {@link Collector} that groups the values of a double-valued function applied to the input elements
+     * into primitive arrays of given size, only the last of which may be smaller.
+     *
+     * @param <T>    the type of the input elements
+     * @param size   the number of values in each batch but the last
+     * @param mapper a function extracting the property to batch
+     * @return a {@link Collector} that produces a list of batches of a derived property
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batching(int)
+     */
+    public static <T> Collector<T, ?, List<double[]>> batchingDouble(int size, ToDoubleFunction<T> mapper) {
+        BatchSpliterator.checkSize(size);
+        return Collector.of(
+                () -> new BatchAccumulator.OfDouble(size),
+                (a, t) -> a.accept(mapper.applyAsDouble(t)),
+                (a1, a2) -> {
+                    a1.combine(a2);
+                    return a1;
+                },
+                BatchAccumulator.OfDouble::finish);
+    }
+
+    private static <T, R> Collector<T, ?, R> slidingLong(
+            int window,
+            ToLongFunction<T> mapper,
+            Function<long[], R> finisher) {
+        SlidingWindows.checkWindow(window);
+        return Collector.of(
+                LongArrayBuilder::new,
+                (b, t) -> b.add(mapper.applyAsLong(t)),
+                LongArrayBuilder::addAll,
+                b -> finisher.apply(b.toArray()));
+    }
+
+    private static <T, R> Collector<T, ?, R> slidingDouble(
+            int window,
+            ToDoubleFunction<T> mapper,
+            Function<double[], R> finisher) {
+        SlidingWindows.checkWindow(window);
+        return Collector.of(
+                DoubleArrayBuilder::new,
+                (b, t) -> b.add(mapper.applyAsDouble(t)),
+                DoubleArrayBuilder::addAll,
+                b -> finisher.apply(b.toArray()));
+    }
+
+    private static <T, K, A, V> Collector<T, ?, ConcurrentMap<K, V>> groupingConcurrent(
+            Function<? super T, ? extends K> classifier,
+            Supplier<A> cellFactory,
+            BiConsumer<A, ? super T> accumulator,
+            BiConsumer<A, A> merger,
+            Function<A, V> finisher) {
+        return Collector.<T, ConcurrentMap<K, A>, ConcurrentMap<K, V>>of(
+                ConcurrentHashMap::new,
+                (m, t) -> {
+                    final K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+                    // get first, since computeIfAbsent locks the bin even if the key is present
+                    A cell = m.get(key);
+                    if (cell == null)
+                        cell = m.computeIfAbsent(key, k -> cellFactory.get());
+                    accumulator.accept(cell, t);
+                },
+                (m1, m2) -> {
+                    m2.forEach((k, a2) -> {
+                        final A a1 = m1.putIfAbsent(k, a2);
+                        if (a1 != null)
+                            merger.accept(a1, a2);
+                    });
+                    return m1;
+                },
+                m -> {
+                    final ConcurrentMap<K, V> result = new ConcurrentHashMap<>(m.size());
+                    m.forEach((k, a) -> result.put(k, finisher.apply(a)));
+                    return result;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
     }
 
 }
@@ -0,0 +1,116 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates the cumulative sums of {@code double} values using Neumaier's variant of Kahan summation.
+ * <p>
+ * Like {@link DoubleScan}, values are accumulated in chunks that are only offset in a final pass, but each chunk
+ * also keeps the running compensation term next to every sum. Chunk offsets are themselves summed with compensation,
+ * so combining partial results does not lose the accuracy gained within each chunk.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class CompensatedPrefixSums {
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private Chunk current = new Chunk();
+    private int size;
+
+    {
+        chunks.add(current);
+    }
+
+    /**
+     * Returns the rounding error of a floating-point addition.
+     *
+     * @param a   the first summand
+     * @param b   the second summand
+     * @param sum the rounded result of {@code a + b}
+     * @return the value that has to be added to sum to get the exact result of {@code a + b}
+     */
+    static double error(double a, double b, double sum) {
+        return Math.abs(a) >= Math.abs(b) ? (a - sum) + b : (b - sum) + a;
+    }
+
+    /**
+     * @param value the value to add to the running sum
+     */
+    void accept(double value) {
+        current.accept(value);
+        size++;
+    }
+
+    /**
+     * Appends the chunks of given instance to this one, without touching their values.
+     *
+     * @param other the instance accumulating the elements that follow the elements of this one
+     * @return this instance
+     */
+    CompensatedPrefixSums combine(CompensatedPrefixSums other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+
+        chunks.addAll(other.chunks);
+        current = other.current;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @return the compensated cumulative sums of all accumulated values in order
+     */
+    double[] toArray() {
+        final int count = chunks.size();
+        final int[] positions = new int[count];
+        final double[] offsets = new double[count];
+        final double[] offsetCompensations = new double[count];
+        for (int k = 1; k < count; k++) {
+            final Chunk previous = chunks.get(k - 1);
+            final double sum = offsets[k - 1] + previous.running;
+            positions[k] = positions[k - 1] + previous.sums.size();
+            offsetCompensations[k] = offsetCompensations[k - 1] + previous.compensation
+                    + error(offsets[k - 1], previous.running, sum);
+            offsets[k] = sum;
+        }
+
+        final double[] result = new double[size];
+        final IntStream indices = IntStream.range(0, count);
+        (count > 1 ? indices.parallel() : indices)
+                .forEach(k -> chunks.get(k).copyTo(result, positions[k], offsets[k], offsetCompensations[k]));
+        return result;
+    }
+
+    private static final class Chunk {
+
+        private final DoubleArrayBuilder sums = new DoubleArrayBuilder();
+        private final DoubleArrayBuilder compensations = new DoubleArrayBuilder();
+        private double running;
+        private double compensation;
+
+        private void accept(double value) {
+            final double sum = running + value;
+            compensation += error(running, value, sum);
+            running = sum;
+
+            sums.add(running);
+            compensations.add(compensation);
+        }
+
+        private void copyTo(double[] dest, int destPos, double offset, double offsetCompensation) {
+            for (int i = 0; i < sums.size(); i++) {
+                final double partial = sums.get(i);
+                final double sum = partial + offset;
+                dest[destPos + i] = sum + (compensations.get(i) + offsetCompensation + error(partial, offset, sum));
+            }
+        }
+
+    }
+
+}
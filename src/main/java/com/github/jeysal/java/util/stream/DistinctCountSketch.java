@@ -0,0 +1,150 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.Objects;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct values in a stream in bounded memory.
+ * <p>
+ * Each value is hashed to 64 bits. The first p bits select one of 2^p registers, which keeps the maximum number of
+ * leading zeros plus one seen in the remaining bits. The harmonic mean of the registers estimates the cardinality with
+ * a relative standard error of about {@code 1.04 / sqrt(2^p)}, e.g. 0.8% for the default precision of 14, which takes
+ * 16KB of memory. Small cardinalities are estimated by linear counting on the empty registers instead.
+ * </p>
+ * <p>
+ * Objects are hashed using their {@link Object#hashCode()}, spread over 64 bits. Since {@link Object#hashCode()} has
+ * only 32 bits, values with colliding hash codes are counted once, which noticeably lowers estimates in the billions;
+ * {@code long} keys such as IDs can be recorded with {@link #acceptLong(long)} to use all 64 bits.
+ * </p>
+ * <p>
+ * Like {@link java.util.DoubleSummaryStatistics}, instances are mutable and not thread-safe, but two sketches can be
+ * combined into one that summarizes the values of both, which makes them suitable for parallel streams.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see CollectorUtils#summarizingDistinctCount(int, java.util.function.Function)
+ * @since 17.10.2026
+ */
+public final class DistinctCountSketch {
+
+    /**
+     * The precision used by default.
+     */
+    public static final int DEFAULT_PRECISION = 14;
+
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch with a precision of {@value #DEFAULT_PRECISION}.
+     */
+    public DistinctCountSketch() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param precision the number of hash bits selecting a register, between 4 and 18
+     * @throws IllegalArgumentException if precision is out of range
+     */
+    public DistinctCountSketch(int precision) {
+        this.precision = checkPrecision(precision);
+        registers = new byte[1 << precision];
+    }
+
+    static int checkPrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+            throw new IllegalArgumentException(
+                    "Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        return precision;
+    }
+
+    /**
+     * Records a value, {@code null} being a value like any other.
+     *
+     * @param value the value to record
+     */
+    public void accept(Object value) {
+        acceptHash(mix(Objects.hashCode(value)));
+    }
+
+    /**
+     * Records a {@code long} value, using all of its 64 bits.
+     *
+     * @param value the value to record
+     */
+    public void acceptLong(long value) {
+        acceptHash(mix(value));
+    }
+
+    /**
+     * Combines the values summarized by another sketch into this one.
+     *
+     * @param other the other sketch, which is not modified
+     * @throws IllegalArgumentException if the other sketch has a different precision
+     */
+    public void combine(DistinctCountSketch other) {
+        if (other.precision != precision)
+            throw new IllegalArgumentException("Precisions differ: " + precision + ", " + other.precision);
+
+        for (int i = 0; i < registers.length; i++)
+            if (other.registers[i] > registers[i])
+                registers[i] = other.registers[i];
+    }
+
+    /**
+     * @return the estimated number of distinct recorded values
+     */
+    public long estimate() {
+        final int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Double.longBitsToDouble((1023L - register) << 52);
+            if (register == 0)
+                zeros++;
+        }
+
+        final double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0)
+            return Math.round(m * Math.log((double) m / zeros));
+        return Math.round(estimate);
+    }
+
+    /**
+     * Spreads the bits of a hash code using the finalizer of MurmurHash3, so that every input bit affects every output
+     * bit.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return .673;
+            case 32:
+                return .697;
+            case 64:
+                return .709;
+            default:
+                return .7213 / (1 + 1.079 / m);
+        }
+    }
+
+    private void acceptHash(long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - precision));
+        final byte rank = (byte) (Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1);
+        if (rank > registers[index])
+            registers[index] = rank;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator} that lazily yields the cumulative sums of the values yielded by a source {@link Spliterator}.
+ * <p>
+ * Only the running sum is kept as state, along with a compensation term if the sums are computed using Neumaier's
+ * variant of Kahan summation. Since every sum depends on all preceding values, splitting scans a batch of
+ * values from the front of the source into an array, which can then be traversed in parallel with the remainder.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class DoublePrefixSumSpliterator implements Spliterator.OfDouble, DoubleConsumer {
+
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator.OfDouble source;
+    private final boolean compensated;
+    private double sum;
+    private double compensation;
+    private DoubleConsumer action;
+    private int batch;
+
+    DoublePrefixSumSpliterator(Spliterator.OfDouble source, boolean compensated) {
+        this.source = source;
+        this.compensated = compensated;
+    }
+
+    @Override
+    public void accept(double value) {
+        if (!compensated) {
+            action.accept(sum += value);
+            return;
+        }
+
+        final double next = sum + value;
+        compensation += CompensatedPrefixSums.error(sum, value, next);
+        sum = next;
+        action.accept(sum + compensation);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        this.action = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        this.action = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        final long size = source.estimateSize();
+        if (size <= 1)
+            return null;
+
+        final int n = (int) Math.min(size, Math.min(batch + BATCH_UNIT, MAX_BATCH));
+        final double[] buffer = new double[n];
+        final double[] holder = new double[1];
+        final DoubleConsumer hold = value -> holder[0] = value;
+        int count = 0;
+        while (count < n && tryAdvance(hold))
+            buffer[count++] = holder[0];
+        if (count == 0)
+            return null;
+
+        batch = count;
+        return Spliterators.spliterator(buffer, 0, batch, characteristics());
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & CHARACTERISTICS;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates the cumulative results of an associative operator on {@code double} values in chunks to support an
+ * efficient parallel scan.
+ * <p>
+ * Each chunk only contains the cumulative results of the values accumulated into it, so combining two instances
+ * merely concatenates their chunk lists. The result of all preceding chunks is applied to each chunk once, in a final
+ * pass that processes chunks in parallel when there is more than one.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class DoubleScan {
+
+    private final double identity;
+    private final DoubleBinaryOperator op;
+    private final List<DoubleArrayBuilder> chunks = new ArrayList<>();
+    private DoubleArrayBuilder current = new DoubleArrayBuilder();
+    private int size;
+
+    /**
+     * @param identity the identity value of op
+     * @param op       the associative operator to cumulatively apply
+     */
+    DoubleScan(double identity, DoubleBinaryOperator op) {
+        this.identity = identity;
+        this.op = op;
+        chunks.add(current);
+    }
+
+    /**
+     * @param value the value to apply the operator to
+     */
+    void accept(double value) {
+        current.add(current.isEmpty() ? value : op.applyAsDouble(current.last(), value));
+        size++;
+    }
+
+    /**
+     * Appends the chunks of given instance to this one, without touching their values.
+     *
+     * @param other the instance accumulating the elements that follow the elements of this one
+     * @return this instance
+     */
+    DoubleScan combine(DoubleScan other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+
+        chunks.addAll(other.chunks);
+        current = other.current;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @return the cumulative results of all accumulated values in order
+     */
+    double[] toArray() {
+        final int count = chunks.size();
+        final int[] positions = new int[count];
+        final double[] offsets = new double[count];
+        offsets[0] = identity;
+        for (int k = 1; k < count; k++) {
+            final DoubleArrayBuilder previous = chunks.get(k - 1);
+            positions[k] = positions[k - 1] + previous.size();
+            offsets[k] = op.applyAsDouble(offsets[k - 1], previous.last());
+        }
+
+        final double[] result = new double[size];
+        final IntStream indices = IntStream.range(0, count);
+        (count > 1 ? indices.parallel() : indices).forEach(k -> {
+            final DoubleArrayBuilder chunk = chunks.get(k);
+            // the offset of the first chunk is the identity, which leaves its values unchanged
+            if (k == 0)
+                chunk.copyTo(result, 0);
+            else
+                for (int i = 0; i < chunk.size(); i++)
+                    result[positions[k] + i] = op.applyAsDouble(offsets[k], chunk.get(i));
+        });
+        return result;
+    }
+
+}
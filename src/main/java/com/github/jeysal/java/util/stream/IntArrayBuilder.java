@@ -0,0 +1,92 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of {@code int} values, used to accumulate primitive results without boxing each element.
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class IntArrayBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Appends a value, growing the underlying array if necessary.
+     *
+     * @param value the value to append
+     */
+    void add(int value) {
+        if (size == values.length)
+            values = Arrays.copyOf(values, size << 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Appends all values of another buffer, growing the underlying array at most once.
+     *
+     * @param other the buffer whose values to append
+     * @return this buffer
+     */
+    IntArrayBuilder addAll(IntArrayBuilder other) {
+        if (size + other.size > values.length)
+            values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at given index
+     */
+    int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return the most recently appended value
+     */
+    int last() {
+        return values[size - 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the appended values into given array.
+     *
+     * @param dest    the array to copy the values into
+     * @param destPos the index in dest to copy the first value to
+     */
+    void copyTo(int[] dest, int destPos) {
+        System.arraycopy(values, 0, dest, destPos, size);
+    }
+
+    /**
+     * @return a new array containing the appended values in order
+     */
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @param from the index of the first value to copy, inclusive
+     * @param to   the index of the last value to copy, exclusive
+     * @return a new array containing the appended values in given range in order
+     */
+    int[] toArray(int from, int to) {
+        return Arrays.copyOfRange(values, from, to);
+    }
+
+}
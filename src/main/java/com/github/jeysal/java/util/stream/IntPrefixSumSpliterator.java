@@ -0,0 +1,79 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator} that lazily yields the cumulative sums of the values yielded by a source {@link Spliterator}.
+ * <p>
+ * Only the running sum is kept as state. Since every sum depends on all preceding values, splitting scans a batch of
+ * values from the front of the source into an array, which can then be traversed in parallel with the remainder.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class IntPrefixSumSpliterator implements Spliterator.OfInt, IntConsumer {
+
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator.OfInt source;
+    private int sum;
+    private IntConsumer action;
+    private int batch;
+
+    IntPrefixSumSpliterator(Spliterator.OfInt source) {
+        this.source = source;
+    }
+
+    @Override
+    public void accept(int value) {
+        action.accept(sum += value);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        this.action = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        this.action = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        final long size = source.estimateSize();
+        if (size <= 1)
+            return null;
+
+        final int n = (int) Math.min(size, Math.min(batch + BATCH_UNIT, MAX_BATCH));
+        final int[] buffer = new int[n];
+        final int[] holder = new int[1];
+        final IntConsumer hold = value -> holder[0] = value;
+        int count = 0;
+        while (count < n && tryAdvance(hold))
+            buffer[count++] = holder[0];
+        if (count == 0)
+            return null;
+
+        batch = count;
+        return Spliterators.spliterator(buffer, 0, batch, characteristics());
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & CHARACTERISTICS;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates the cumulative results of an associative operator on {@code int} values in chunks to support an
+ * efficient parallel scan.
+ * <p>
+ * Each chunk only contains the cumulative results of the values accumulated into it, so combining two instances
+ * merely concatenates their chunk lists. The result of all preceding chunks is applied to each chunk once, in a final
+ * pass that processes chunks in parallel when there is more than one.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class IntScan {
+
+    private final int identity;
+    private final IntBinaryOperator op;
+    private final List<IntArrayBuilder> chunks = new ArrayList<>();
+    private IntArrayBuilder current = new IntArrayBuilder();
+    private int size;
+
+    /**
+     * @param identity the identity value of op
+     * @param op       the associative operator to cumulatively apply
+     */
+    IntScan(int identity, IntBinaryOperator op) {
+        this.identity = identity;
+        this.op = op;
+        chunks.add(current);
+    }
+
+    /**
+     * @param value the value to apply the operator to
+     */
+    void accept(int value) {
+        current.add(current.isEmpty() ? value : op.applyAsInt(current.last(), value));
+        size++;
+    }
+
+    /**
+     * Appends the chunks of given instance to this one, without touching their values.
+     *
+     * @param other the instance accumulating the elements that follow the elements of this one
+     * @return this instance
+     */
+    IntScan combine(IntScan other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+
+        chunks.addAll(other.chunks);
+        current = other.current;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @return the cumulative results of all accumulated values in order
+     */
+    int[] toArray() {
+        final int count = chunks.size();
+        final int[] positions = new int[count];
+        final int[] offsets = new int[count];
+        offsets[0] = identity;
+        for (int k = 1; k < count; k++) {
+            final IntArrayBuilder previous = chunks.get(k - 1);
+            positions[k] = positions[k - 1] + previous.size();
+            offsets[k] = op.applyAsInt(offsets[k - 1], previous.last());
+        }
+
+        final int[] result = new int[size];
+        final IntStream indices = IntStream.range(0, count);
+        (count > 1 ? indices.parallel() : indices).forEach(k -> {
+            final IntArrayBuilder chunk = chunks.get(k);
+            // the offset of the first chunk is the identity, which leaves its values unchanged
+            if (k == 0)
+                chunk.copyTo(result, 0);
+            else
+                for (int i = 0; i < chunk.size(); i++)
+                    result[positions[k] + i] = op.applyAsInt(offsets[k], chunk.get(i));
+        });
+        return result;
+    }
+
+}
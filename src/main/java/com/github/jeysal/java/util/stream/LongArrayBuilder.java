@@ -0,0 +1,92 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of {@code long} values, used to accumulate primitive results without boxing each element.
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+final class LongArrayBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Appends a value, growing the underlying array if necessary.
+     *
+     * @param value the value to append
+     */
+    void add(long value) {
+        if (size == values.length)
+            values = Arrays.copyOf(values, size << 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Appends all values of another buffer, growing the underlying array at most once.
+     *
+     * @param other the buffer whose values to append
+     * @return this buffer
+     */
+    LongArrayBuilder addAll(LongArrayBuilder other) {
+        if (size + other.size > values.length)
+            values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at given index
+     */
+    long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return the most recently appended value
+     */
+    long last() {
+        return values[size - 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the appended values into given array.
+     *
+     * @param dest    the array to copy the values into
+     * @param destPos the index in dest to copy the first value to
+     */
+    void copyTo(long[] dest, int destPos) {
+        System.arraycopy(values, 0, dest, destPos, size);
+    }
+
+    /**
+     * @return a new array containing the appended values in order
+     */
+    long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @param from the index of the first value to copy, inclusive
+     * @param to   the index of the last value to copy, exclusive
+     * @return a new array containing the appended values in given range in order
+     */
+    long[] toArray(int from, int to) {
+        return Arrays.copyOfRange(values, from, to);
+    }
+
+}
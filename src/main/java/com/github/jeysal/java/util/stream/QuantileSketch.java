@@ -0,0 +1,239 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A KLL sketch approximating the quantiles of a stream of {@code double} values in bounded memory.
+ * <p>
+ * Values are kept in a hierarchy of compactors, where each value at level h stands for 2^h input values. When the
+ * sketch exceeds its capacity, the first full compactor is sorted and every other value, starting at a random offset,
+ * is promoted to the next level while the rest are discarded. Lower levels are given geometrically smaller capacities,
+ * so the sketch holds {@code O(k)} values in total, and the rank error of a quantile is roughly {@code 1.7 / k}
+ * with high probability.
+ * </p>
+ * <p>
+ * Like {@link java.util.DoubleSummaryStatistics}, instances are mutable and not thread-safe, but two sketches can be
+ * combined into one that summarizes the values of both, which makes them suitable for parallel streams.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @see CollectorUtils#summarizingQuantiles(int, java.util.function.ToDoubleFunction)
+ * @since 17.10.2026
+ */
+public final class QuantileSketch {
+
+    /**
+     * The accuracy parameter used by default, which keeps the rank error around 1%.
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_RATIO = 2. / 3;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final List<Compactor> levels = new ArrayList<>();
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private int size;
+    private int capacity;
+
+    /**
+     * Creates an empty sketch with an accuracy parameter of {@value #DEFAULT_K}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param k the accuracy parameter, the rank error of a quantile is roughly {@code 1.7 / k}
+     * @throws IllegalArgumentException if k is less than 8
+     */
+    public QuantileSketch(int k) {
+        this.k = checkK(k);
+        levels.add(new Compactor());
+        capacity = capacity(0);
+    }
+
+    static int checkK(int k) {
+        if (k < 8)
+            throw new IllegalArgumentException("Accuracy parameter must be at least 8: " + k);
+        return k;
+    }
+
+    /**
+     * Records a value. NaN values are ignored.
+     *
+     * @param value the value to record
+     */
+    public void accept(double value) {
+        if (Double.isNaN(value))
+            return;
+
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        levels.get(0).add(value);
+        if (++size >= capacity)
+            compress();
+    }
+
+    /**
+     * Combines the values summarized by another sketch into this one.
+     *
+     * @param other the other sketch, which is not modified
+     * @throws IllegalArgumentException if the other sketch has a different accuracy parameter
+     */
+    public void combine(QuantileSketch other) {
+        if (other.k != k)
+            throw new IllegalArgumentException("Accuracy parameters differ: " + k + ", " + other.k);
+
+        while (levels.size() < other.levels.size())
+            addLevel();
+        for (int h = 0; h < other.levels.size(); h++)
+            levels.get(h).addAll(other.levels.get(h));
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        size += other.size;
+        while (size >= capacity)
+            compress();
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the exact minimum of the recorded values, or positive infinity if none have been recorded
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the exact maximum of the recorded values, or negative infinity if none have been recorded
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an approximation of the value at given quantile of the recorded values, i.e. of the smallest value that
+     * is greater than or equal to the given fraction of the recorded values.
+     * The quantiles 0 and 1 are the exact minimum and maximum.
+     *
+     * @param quantile the quantile between 0 and 1, e.g. {@code .99} for the 99th percentile
+     * @return the approximate value at given quantile, or NaN if no values have been recorded
+     * @throws IllegalArgumentException if quantile is not between 0 and 1
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1))
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        if (count == 0)
+            return Double.NaN;
+        if (quantile == 0)
+            return min;
+        if (quantile == 1)
+            return max;
+
+        final double[] values = new double[size];
+        final long[] weights = new long[size];
+        int i = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            final Compactor level = levels.get(h);
+            for (int j = 0; j < level.size; j++, i++) {
+                values[i] = level.values[j];
+                weights[i] = 1L << h;
+            }
+        }
+        final Integer[] order = new Integer[size];
+        for (i = 0; i < size; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        final long totalWeight = Arrays.stream(weights).sum();
+        final double rank = quantile * totalWeight;
+        long cumulative = 0;
+        for (Integer index : order) {
+            cumulative += weights[index];
+            if (cumulative >= rank)
+                return values[index];
+        }
+        return max;
+    }
+
+    private int capacity(int level) {
+        final int depth = levels.size() - 1 - level;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void addLevel() {
+        levels.add(new Compactor());
+        capacity = 0;
+        for (int h = 0; h < levels.size(); h++)
+            capacity += capacity(h);
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            final Compactor level = levels.get(h);
+            if (level.size >= capacity(h)) {
+                if (h + 1 == levels.size())
+                    addLevel();
+                size -= level.compactInto(levels.get(h + 1));
+                return;
+            }
+        }
+    }
+
+    private static final class Compactor {
+
+        private double[] values = new double[MIN_CAPACITY];
+        private int size;
+
+        private void add(double value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size << 1);
+            values[size++] = value;
+        }
+
+        private void addAll(Compactor other) {
+            if (size + other.size > values.length)
+                values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        /**
+         * Promotes every other value of this compactor to given next level, keeping one value back if the number of
+         * values is odd.
+         *
+         * @return the number of values removed from the sketch
+         */
+        private int compactInto(Compactor next) {
+            Arrays.sort(values, 0, size);
+            final boolean keepLast = (size & 1) == 1;
+            final int pairs = size >> 1;
+            final int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+            for (int i = 0; i < pairs; i++)
+                next.add(values[2 * i + offset]);
+
+            final double last = values[size - 1];
+            size = 0;
+            if (keepLast)
+                add(last);
+            return pairs;
+        }
+
+    }
+
+}
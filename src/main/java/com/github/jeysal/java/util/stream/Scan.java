@@ -0,0 +1,87 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates the cumulative results of an associative operator in chunks to support an efficient parallel scan.
+ *
+ * @param <U> the type of the values to apply the operator to
+ * @author Tim Seckinger
+ * @see IntScan
+ * @since 17.10.2026
+ */
+final class Scan<U> {
+
+    private final U identity;
+    private final BinaryOperator<U> op;
+    private final List<ArrayList<U>> chunks = new ArrayList<>();
+    private ArrayList<U> current = new ArrayList<>();
+    private int size;
+
+    /**
+     * @param identity the identity value of op
+     * @param op       the associative operator to cumulatively apply
+     */
+    Scan(U identity, BinaryOperator<U> op) {
+        this.identity = identity;
+        this.op = op;
+        chunks.add(current);
+    }
+
+    /**
+     * @param value the value to apply the operator to
+     */
+    void accept(U value) {
+        current.add(current.isEmpty() ? value : op.apply(current.get(current.size() - 1), value));
+        size++;
+    }
+
+    /**
+     * Appends the chunks of given instance to this one, without touching their values.
+     *
+     * @param other the instance accumulating the elements that follow the elements of this one
+     * @return this instance
+     */
+    Scan<U> combine(Scan<U> other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+
+        chunks.addAll(other.chunks);
+        current = other.current;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Applies the result of all preceding chunks to each chunk but the first in place, in parallel when there is more
+     * than one, and then appends them to the first chunk.
+     *
+     * @return the cumulative results of all accumulated values in order
+     */
+    @SuppressWarnings("unchecked")
+    List<U> toList() {
+        final int count = chunks.size();
+        final ArrayList<U> first = chunks.get(0);
+        if (count == 1)
+            return first;
+
+        final Object[] offsets = new Object[count];
+        offsets[0] = identity;
+        for (int k = 1; k < count; k++) {
+            final List<U> previous = chunks.get(k - 1);
+            offsets[k] = op.apply((U) offsets[k - 1], previous.get(previous.size() - 1));
+        }
+
+        IntStream.range(1, count).parallel().forEach(k -> chunks.get(k).replaceAll(u -> op.apply((U) offsets[k], u)));
+        first.ensureCapacity(size);
+        for (int k = 1; k < count; k++)
+            first.addAll(chunks.get(k));
+        return first;
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.github.jeysal.java.util.stream;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Computes aggregates over all windows of a fixed size sliding over an array of values, in a single pass.
+ * <p>
+ * The i-th result aggregates the values at indices i to i + window - 1, so there are
+ * {@code max(0, values.length - window + 1)} results. Sums, means and variances are updated by adding the value
+ * entering the window and removing the one leaving it. Minima and maxima are read from a monotonic deque of value
+ * indices, held in a ring buffer with one slot per window position. Every value is thus processed in amortized
+ * constant time, independent of the window size.
+ * </p>
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@UtilityClass
+class SlidingWindows {
+
+    /**
+     * @param window the window size to validate
+     * @return given window size
+     * @throws IllegalArgumentException if window is not positive
+     */
+    static int checkWindow(int window) {
+        if (window < 1)
+            throw new IllegalArgumentException("Window size must be positive: " + window);
+        return window;
+    }
+
+    static long[] sums(long[] values, int window) {
+        final long[] result = new long[count(values.length, window)];
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if (i >= window)
+                sum -= values[i - window];
+            if (i >= window - 1)
+                result[i - window + 1] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the sums of {@code double} values with compensation, like {@link CompensatedPrefixSums}, so that
+     * rounding errors do not accumulate as values enter and leave the window. Non-finite values are kept out of the
+     * running sum and counted instead, so a window containing any NaN or infinities of both signs sums to NaN, and one
+     * containing infinities of a single sign sums to that infinity.
+     */
+    static double[] sums(double[] values, int window) {
+        final double[] result = new double[count(values.length, window)];
+        double sum = 0;
+        double compensation = 0;
+        int nan = 0;
+        int positiveInfinite = 0;
+        int negativeInfinite = 0;
+        for (int i = 0; i < values.length; i++) {
+            final double entering = values[i];
+            if (Double.isFinite(entering)) {
+                final double next = sum + entering;
+                compensation += CompensatedPrefixSums.error(sum, entering, next);
+                sum = next;
+            } else if (Double.isNaN(entering))
+                nan++;
+            else if (entering > 0)
+                positiveInfinite++;
+            else
+                negativeInfinite++;
+
+            if (i >= window) {
+                final double leaving = values[i - window];
+                if (Double.isFinite(leaving)) {
+                    final double next = sum - leaving;
+                    compensation += CompensatedPrefixSums.error(sum, -leaving, next);
+                    sum = next;
+                } else if (Double.isNaN(leaving))
+                    nan--;
+                else if (leaving > 0)
+                    positiveInfinite--;
+                else
+                    negativeInfinite--;
+            }
+
+            if (i >= window - 1)
+                result[i - window + 1] = nan > 0 || positiveInfinite > 0 && negativeInfinite > 0 ? Double.NaN
+                        : positiveInfinite > 0 ? Double.POSITIVE_INFINITY
+                        : negativeInfinite > 0 ? Double.NEGATIVE_INFINITY
+                        : sum + compensation;
+        }
+        return result;
+    }
+
+    static double[] means(long[] values, int window) {
+        final long[] sums = sums(values, window);
+        final double[] result = new double[sums.length];
+        for (int i = 0; i < sums.length; i++)
+            result[i] = (double) sums[i] / window;
+        return result;
+    }
+
+    static double[] means(double[] values, int window) {
+        final double[] result = sums(values, window);
+        for (int i = 0; i < result.length; i++)
+            result[i] /= window;
+        return result;
+    }
+
+    static long[] minima(long[] values, int window) {
+        return extrema(values, window, false);
+    }
+
+    static long[] maxima(long[] values, int window) {
+        return extrema(values, window, true);
+    }
+
+    /**
+     * Computes the minima of {@code double} values, ordered as by {@link Double#compare(double, double)}.
+     */
+    static double[] minima(double[] values, int window) {
+        return extrema(values, window, false);
+    }
+
+    /**
+     * Computes the maxima of {@code double} values, ordered as by {@link Double#compare(double, double)}.
+     */
+    static double[] maxima(double[] values, int window) {
+        return extrema(values, window, true);
+    }
+
+    /**
+     * Computes the population variances using Welford's algorithm, extended to replace the value leaving the window
+     * with the one entering it in a single update.
+     */
+    static double[] variances(long[] values, int window) {
+        final double[] converted = new double[values.length];
+        for (int i = 0; i < values.length; i++)
+            converted[i] = values[i];
+        return variances(converted, window);
+    }
+
+    /**
+     * Computes the population variances using Welford's algorithm, extended to replace the value leaving the window
+     * with the one entering it in a single update. Windows containing non-finite values have a variance of NaN.
+     */
+    static double[] variances(double[] values, int window) {
+        final double[] result = new double[count(values.length, window)];
+        double mean = 0;
+        double m2 = 0;
+        int nonFinite = 0;
+        int finite = 0;
+        for (int i = 0; i < values.length; i++) {
+            final double entering = values[i];
+            final double leaving = i >= window ? values[i - window] : 0;
+            final boolean enters = Double.isFinite(entering);
+            final boolean leaves = i >= window && Double.isFinite(leaving);
+            if (!enters)
+                nonFinite++;
+            if (i >= window && !leaves)
+                nonFinite--;
+
+            if (enters && leaves) {
+                final double nextMean = mean + (entering - leaving) / finite;
+                m2 += (entering - leaving) * (entering - nextMean + leaving - mean);
+                mean = nextMean;
+            } else if (enters) {
+                final double delta = entering - mean;
+                mean += delta / ++finite;
+                m2 += delta * (entering - mean);
+            } else if (leaves) {
+                if (--finite == 0) {
+                    mean = 0;
+                    m2 = 0;
+                } else {
+                    final double delta = leaving - mean;
+                    mean -= delta / finite;
+                    m2 -= delta * (leaving - mean);
+                }
+            }
+
+            if (i >= window - 1)
+                result[i - window + 1] = nonFinite == 0 ? Math.max(0, m2 / window) : Double.NaN;
+        }
+        return result;
+    }
+
+    static int[] toIntArray(long[] values) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (int) values[i];
+        return result;
+    }
+
+    private static int count(int length, int window) {
+        return Math.max(0, length - window + 1);
+    }
+
+    private static long[] extrema(long[] values, int window, boolean max) {
+        final long[] result = new long[count(values.length, window)];
+        final int[] deque = new int[window];
+        int head = 0;
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (size > 0 && deque[head] <= i - window) {
+                head = head + 1 == window ? 0 : head + 1;
+                size--;
+            }
+            while (size > 0) {
+                final long last = values[deque[(head + size - 1) % window]];
+                if (max ? last > values[i] : last < values[i])
+                    break;
+                size--;
+            }
+            deque[(head + size++) % window] = i;
+
+            if (i >= window - 1)
+                result[i - window + 1] = values[deque[head]];
+        }
+        return result;
+    }
+
+    private static double[] extrema(double[] values, int window, boolean max) {
+        final double[] result = new double[count(values.length, window)];
+        final int[] deque = new int[window];
+        int head = 0;
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (size > 0 && deque[head] <= i - window) {
+                head = head + 1 == window ? 0 : head + 1;
+                size--;
+            }
+            while (size > 0) {
+                final int comparison = Double.compare(values[deque[(head + size - 1) % window]], values[i]);
+                if (max ? comparison > 0 : comparison < 0)
+                    break;
+                size--;
+            }
+            deque[(head + size++) % window] = i;
+
+            if (i >= window - 1)
+                result[i - window + 1] = values[deque[head]];
+        }
+        return result;
+    }
+
+}
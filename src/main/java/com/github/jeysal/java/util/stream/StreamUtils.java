@@ -0,0 +1,273 @@
+package com.github.jeysal.java.util.stream;
+
+import com.github.jeysal.java.util.function.ThrowingFunction;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides useful lazy operations on {@link Stream}s in addition to those offered by the {@link Stream} interfaces.
+ *
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class StreamUtils {
+
+    /**
+     * Returns a lazy {@link IntStream} of the cumulative sums of the values of given stream.
+     * <p>
+     * Unlike {@link CollectorUtils#cumulativelySummingIntToArray(java.util.function.ToIntFunction)}, the sums are
+     * computed as the returned stream is consumed, keeping only the running sum in memory. If the returned stream is
+     * parallel, the sums are still computed sequentially, but batches of them are handed off to be processed by
+     * subsequent operations in parallel.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code cumulativeSums(IntStream.of(1, 2, -3))} yields {@code 1, 3, 0}
+     * </p>
+     *
+     * @param stream the stream of values to be cumulatively summed
+     * @return an {@link IntStream} of the cumulative sums
+     */
+    public static IntStream cumulativeSums(IntStream stream) {
+        return StreamSupport.intStream(new IntPrefixSumSpliterator(stream.spliterator()), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link LongStream} of the cumulative sums of the values of given stream.
+     * <p>
+     * Unlike {@link CollectorUtils#cumulativelySummingLongToArray(java.util.function.ToLongFunction)}, the sums are
+     * computed as the returned stream is consumed, keeping only the running sum in memory. If the returned stream is
+     * parallel, the sums are still computed sequentially, but batches of them are handed off to be processed by
+     * subsequent operations in parallel.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code cumulativeSums(LongStream.of(1L, 2L, -3L))} yields {@code 1L, 3L, 0L}
+     * </p>
+     *
+     * @param stream the stream of values to be cumulatively summed
+     * @return a {@link LongStream} of the cumulative sums
+     */
+    public static LongStream cumulativeSums(LongStream stream) {
+        return StreamSupport.longStream(new LongPrefixSumSpliterator(stream.spliterator()), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link DoubleStream} of the cumulative sums of the values of given stream.
+     * <p>
+     * Unlike {@link CollectorUtils#cumulativelySummingDoubleToArray(java.util.function.ToDoubleFunction)}, the sums
+     * are computed as the returned stream is consumed, keeping only the running sum in memory. If the returned stream
+     * is parallel, the sums are still computed sequentially, but batches of them are handed off to be processed by
+     * subsequent operations in parallel.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code cumulativeSums(DoubleStream.of(1., 2., -3.))} yields {@code 1., 3., 0.}
+     * </p>
+     *
+     * @param stream the stream of values to be cumulatively summed
+     * @return a {@link DoubleStream} of the cumulative sums
+     */
+    public static DoubleStream cumulativeSums(DoubleStream stream) {
+        return StreamSupport.doubleStream(new DoublePrefixSumSpliterator(stream.spliterator(), false),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link DoubleStream} of the cumulative sums of the values of given stream, compensating for
+     * floating-point rounding errors like
+     * {@link CollectorUtils#cumulativelySummingDoubleCompensated(java.util.function.ToDoubleFunction)}.
+     * <p>
+     * Only the running sum and its compensation term are kept in memory.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code compensatedCumulativeSums(DoubleStream.of(1e100, 1., -1e100))} yields {@code 1e100, 1e100, 1.}
+     * </p>
+     *
+     * @param stream the stream of values to be cumulatively summed
+     * @return a {@link DoubleStream} of the compensated cumulative sums
+     */
+    public static DoubleStream compensatedCumulativeSums(DoubleStream stream) {
+        return StreamSupport.doubleStream(new DoublePrefixSumSpliterator(stream.spliterator(), true),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of the values of given stream grouped into batches of given size, only the last of
+     * which may be smaller.
+     * <p>
+     * Only the batch being filled is kept in memory, so the values can be handed to bulk operations without collecting
+     * the whole stream first. If the returned stream is parallel, batches are still filled sequentially, but groups of
+     * them are handed off to be processed by subsequent operations in parallel.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code batched(Stream.of(1, 2, 3, 4, 5), 2)} yields {@code [1, 2], [3, 4], [5]}
+     * </p>
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @param <T>    the type of the values
+     * @return a {@link Stream} of the batches, each a new mutable {@link List}
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static <T> Stream<List<T>> batched(Stream<T> stream, int size) {
+        return StreamSupport.stream(
+                new BatchSpliterator.OfRef<>(stream.spliterator(), BatchSpliterator.checkSize(size)),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of the values of given stream grouped into primitive arrays of given size, only the
+     * last of which may be smaller.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @return a {@link Stream} of the batches
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batched(Stream, int)
+     */
+    public static Stream<int[]> batched(IntStream stream, int size) {
+        return StreamSupport.stream(new BatchSpliterator.OfInt(stream.spliterator(), BatchSpliterator.checkSize(size)),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of the values of given stream grouped into primitive arrays of given size, only the
+     * last of which may be smaller.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @return a {@link Stream} of the batches
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batched(Stream, int)
+     */
+    public static Stream<long[]> batched(LongStream stream, int size) {
+        return StreamSupport.stream(new BatchSpliterator.OfLong(stream.spliterator(), BatchSpliterator.checkSize(size)),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of the values of given stream grouped into primitive arrays of given size, only the
+     * last of which may be smaller.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @return a {@link Stream} of the batches
+     * @throws IllegalArgumentException if size is not positive
+     * @see #batched(Stream, int)
+     */
+    public static Stream<double[]> batched(DoubleStream stream, int size) {
+        return StreamSupport.stream(
+                new BatchSpliterator.OfDouble(stream.spliterator(), BatchSpliterator.checkSize(size)),
+                stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Passes the values of given stream to given sink in batches of given size, only the last of which may be smaller,
+     * in encounter order and on the calling thread.
+     * <p>
+     * Only the batch being filled is kept in memory. The result of the sink is ignored, so bulk operations returning
+     * e.g. the number of written records can be passed directly. If the sink throws, the {@link Exception} is
+     * propagated as is and no further batches are filled.
+     * </p>
+     * <p>
+     * <b>Example:</b><br>
+     * {@code forEachBatch(rows, 500, repository::insertAll)} inserts the rows 500 at a time
+     * </p>
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @param sink   the {@link ThrowingFunction} to pass each batch to
+     * @param <T>    the type of the values
+     * @param <E>    the type of the {@link Exception} thrown by the sink
+     * @throws E                        the {@link Exception} thrown by the sink
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static <T, E extends Exception> void forEachBatch(
+            Stream<T> stream,
+            int size,
+            ThrowingFunction<? super List<T>, ?, E> sink) throws E {
+        final BatchSpliterator<List<T>> batches = new BatchSpliterator.OfRef<>(
+                stream.sequential().spliterator(), BatchSpliterator.checkSize(size));
+        for (List<T> batch = batches.next(); batch != null; batch = batches.next())
+            sink.apply(batch);
+    }
+
+    /**
+     * Passes the values of given stream to given sink in primitive arrays of given size, only the last of which may be
+     * smaller, in encounter order and on the calling thread.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @param sink   the {@link ThrowingFunction} to pass each batch to
+     * @param <E>    the type of the {@link Exception} thrown by the sink
+     * @throws E                        the {@link Exception} thrown by the sink
+     * @throws IllegalArgumentException if size is not positive
+     * @see #forEachBatch(Stream, int, ThrowingFunction)
+     */
+    public static <E extends Exception> void forEachBatch(
+            IntStream stream,
+            int size,
+            ThrowingFunction<? super int[], ?, E> sink) throws E {
+        final BatchSpliterator<int[]> batches = new BatchSpliterator.OfInt(
+                stream.sequential().spliterator(), BatchSpliterator.checkSize(size));
+        for (int[] batch = batches.next(); batch != null; batch = batches.next())
+            sink.apply(batch);
+    }
+
+    /**
+     * Passes the values of given stream to given sink in primitive arrays of given size, only the last of which may be
+     * smaller, in encounter order and on the calling thread.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @param sink   the {@link ThrowingFunction} to pass each batch to
+     * @param <E>    the type of the {@link Exception} thrown by the sink
+     * @throws E                        the {@link Exception} thrown by the sink
+     * @throws IllegalArgumentException if size is not positive
+     * @see #forEachBatch(Stream, int, ThrowingFunction)
+     */
+    public static <E extends Exception> void forEachBatch(
+            LongStream stream,
+            int size,
+            ThrowingFunction<? super long[], ?, E> sink) throws E {
+        final BatchSpliterator<long[]> batches = new BatchSpliterator.OfLong(
+                stream.sequential().spliterator(), BatchSpliterator.checkSize(size));
+        for (long[] batch = batches.next(); batch != null; batch = batches.next())
+            sink.apply(batch);
+    }
+
+    /**
+     * Passes the values of given stream to given sink in primitive arrays of given size, only the last of which may be
+     * smaller, in encounter order and on the calling thread.
+     *
+     * @param stream the stream of values to be batched
+     * @param size   the number of values in each batch but the last
+     * @param sink   the {@link ThrowingFunction} to pass each batch to
+     * @param <E>    the type of the {@link Exception} thrown by the sink
+     * @throws E                        the {@link Exception} thrown by the sink
+     * @throws IllegalArgumentException if size is not positive
+     * @see #forEachBatch(Stream, int, ThrowingFunction)
+     */
+    public static <E extends Exception> void forEachBatch(
+            DoubleStream stream,
+            int size,
+            ThrowingFunction<? super double[], ?, E> sink) throws E {
+        final BatchSpliterator<double[]> batches = new BatchSpliterator.OfDouble(
+                stream.sequential().spliterator(), BatchSpliterator.checkSize(size));
+        for (double[] batch = batches.next(); batch != null; batch = batches.next())
+            sink.apply(batch);
+    }
+
+}
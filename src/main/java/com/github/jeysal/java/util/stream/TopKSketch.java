@@ -0,0 +1,223 @@
+package com.github.jeysal.java.util.stream;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Space-Saving sketch finding the most frequent values of a stream in bounded memory.
+ * <p>
+ * The sketch monitors up to a fixed number of values with a counter each. A value that is not monitored while all
+ * counters are taken replaces the value with the lowest count, inheriting that count as its overestimation error.
+ * Counts are therefore never underestimated, and any value occurring more than {@code n / capacity} times among n
+ * recorded values is guaranteed to be monitored. Counters are kept in a min-heap indexed by a {@link HashMap}, so
+ * recording a value takes {@code O(log capacity)} time.
+ * </p>
+ * <p>
+ * Like {@link java.util.DoubleSummaryStatistics}, instances are mutable and not thread-safe, but two sketches can be
+ * combined into one that summarizes the values of both, which makes them suitable for parallel streams.
+ * </p>
+ *
+ * @param <T> the type of the values
+ * @author Tim Seckinger
+ * @see CollectorUtils#summarizingTopK(int, java.util.function.Function)
+ * @since 17.10.2026
+ */
+public final class TopKSketch<T> {
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+    private final Counter<T>[] heap;
+    private int size;
+    private long count;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param capacity the maximum number of monitored values, which should be a few times larger than the number of
+     *                 most frequent values to be queried
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public TopKSketch(int capacity) {
+        this.capacity = checkCapacity(capacity);
+        counters = new HashMap<>(capacity * 4 / 3 + 1);
+        @SuppressWarnings("unchecked")
+        final Counter<T>[] heap = (Counter<T>[]) new Counter<?>[capacity];
+        this.heap = heap;
+    }
+
+    static int checkCapacity(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        return capacity;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value to record
+     */
+    public void accept(T value) {
+        count++;
+        final Counter<T> counter = counters.get(value);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+        } else if (size < capacity)
+            add(new Counter<>(value, 1, 0));
+        else {
+            final Counter<T> min = heap[0];
+            counters.remove(min.value);
+            min.value = value;
+            min.error = min.count;
+            min.count++;
+            counters.put(value, min);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Combines the values summarized by another sketch into this one.
+     * <p>
+     * The count of each value is the sum of its counts in both sketches, where a value not monitored by a full sketch
+     * is assumed to have occurred as often as that sketch's least frequent value, keeping counts overestimated. The
+     * values with the highest combined counts remain monitored.
+     * </p>
+     *
+     * @param other the other sketch, which is not modified
+     * @throws IllegalArgumentException if the other sketch has a different capacity
+     */
+    public void combine(TopKSketch<T> other) {
+        if (other.capacity != capacity)
+            throw new IllegalArgumentException("Capacities differ: " + capacity + ", " + other.capacity);
+
+        final long thisMin = minCount();
+        final long otherMin = other.minCount();
+        final Set<T> values = new HashSet<>(counters.keySet());
+        values.addAll(other.counters.keySet());
+
+        final List<Counter<T>> combined = new ArrayList<>(values.size());
+        for (T value : values) {
+            final Counter<T> thisCounter = counters.get(value);
+            final Counter<T> otherCounter = other.counters.get(value);
+            combined.add(new Counter<>(value,
+                    (thisCounter == null ? thisMin : thisCounter.count)
+                            + (otherCounter == null ? otherMin : otherCounter.count),
+                    (thisCounter == null ? thisMin : thisCounter.error)
+                            + (otherCounter == null ? otherMin : otherCounter.error)));
+        }
+        combined.sort(Comparator.comparingLong((Counter<T> c) -> c.count).reversed());
+
+        counters.clear();
+        Arrays.fill(heap, null);
+        size = 0;
+        for (Counter<T> counter : combined.subList(0, Math.min(capacity, combined.size())))
+            add(counter);
+        count += other.count;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an upper bound of the number of times given value has been recorded. The number of times it has been
+     * recorded at least is the returned estimate minus {@link #error(Object)}.
+     *
+     * @param value the value to estimate the count of
+     * @return the estimated count
+     */
+    public long estimate(T value) {
+        final Counter<T> counter = counters.get(value);
+        return counter == null ? minCount() : counter.count;
+    }
+
+    /**
+     * @param value the value to get the error of
+     * @return the maximum amount by which {@link #estimate(Object)} overestimates the count of given value
+     */
+    public long error(T value) {
+        final Counter<T> counter = counters.get(value);
+        return counter == null ? minCount() : counter.error;
+    }
+
+    /**
+     * Returns the most frequent values with their estimated counts, ordered by descending count.
+     *
+     * @param k the maximum number of values to return
+     * @return a list of up to k entries mapping a value to its estimated count
+     */
+    public List<Map.Entry<T, Long>> top(int k) {
+        final List<Map.Entry<T, Long>> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            top.add(new AbstractMap.SimpleImmutableEntry<>(heap[i].value, heap[i].count));
+        top.sort(Map.Entry.<T, Long>comparingByValue().reversed());
+        return top.subList(0, Math.min(k, top.size()));
+    }
+
+    private long minCount() {
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    private void add(Counter<T> counter) {
+        counters.put(counter.value, counter);
+        counter.index = size;
+        heap[size++] = counter;
+        siftUp(counter.index);
+    }
+
+    private void siftUp(int index) {
+        final Counter<T> counter = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count)
+                break;
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        final Counter<T> counter = heap[index];
+        for (int child = 2 * index + 1; child < size; child = 2 * index + 1) {
+            if (child + 1 < size && heap[child + 1].count < heap[child].count)
+                child++;
+            if (counter.count <= heap[child].count)
+                break;
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter<T> counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter<T> {
+
+        private T value;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(T value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.github.jeysal.java.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class BulkheadTest {
+
+    @Test
+    public void testTryAcquire() {
+        final Bulkhead bulkhead = new Bulkhead(2);
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    public void testAcquireAsyncQueues() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        assertTrue(bulkhead.acquireAsync().isDone());
+        final CompletableFuture<Void> waiter = bulkhead.acquireAsync();
+        assertFalse(waiter.isDone());
+        assertEquals(1, bulkhead.getQueued());
+        bulkhead.release();
+        assertTrue(waiter.isDone());
+        assertEquals(0, bulkhead.getQueued());
+        assertEquals(0, bulkhead.availablePermits());
+    }
+
+    @Test
+    public void testQueueFull() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 0);
+        bulkhead.tryAcquire();
+        try {
+            bulkhead.acquireAsync().get();
+            fail("Acquiring did not fail");
+        } catch (ExecutionException e) {
+            assertEquals(RejectedExecutionException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void testCancelledWaiterPassesPermit() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        bulkhead.tryAcquire();
+        final CompletableFuture<Void> cancelled = bulkhead.acquireAsync();
+        final CompletableFuture<Void> waiter = bulkhead.acquireAsync();
+        cancelled.cancel(false);
+        bulkhead.release();
+        assertTrue(waiter.isDone() && !waiter.isCompletedExceptionally());
+        bulkhead.release();
+        assertEquals(1, bulkhead.availablePermits());
+    }
+
+    @Test
+    public void testExecute() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        try {
+            bulkhead.execute(() -> {
+                throw new Exception();
+            }, () -> 0);
+            fail("Exception was not rethrown");
+        } catch (Exception e) {
+            assertEquals(1, bulkhead.availablePermits());
+        }
+        bulkhead.tryAcquire();
+        assertEquals(0, bulkhead.execute(() -> 1, () -> 0));
+    }
+
+    @Test
+    public void testExecuteAsyncLimitsConcurrency() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Bulkhead bulkhead = new Bulkhead(2);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final int value = i;
+                results.add(bulkhead.executeAsync(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    parkNanos(MILLISECONDS.toNanos(1));
+                    running.decrementAndGet();
+                    return value;
+                }, executor));
+            }
+            for (int i = 0; i < 20; i++)
+                assertEquals(i, results.get(i).get(10, SECONDS));
+            assertTrue(maxRunning.get() <= 2);
+            assertEquals(2, bulkhead.availablePermits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncError() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Bulkhead bulkhead = new Bulkhead(1);
+            final CompletableFuture<Object> result = bulkhead.executeAsync(() -> {
+                throw new AssertionError();
+            }, executor);
+            assertEquals(AssertionError.class, result.handle((r, e) -> e.getClass()).get(10, SECONDS));
+            assertEquals(1, bulkhead.availablePermits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxConcurrent() {
+        new Bulkhead(0);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.github.jeysal.java.util.concurrent;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class CircuitBreakerTest {
+
+    private static final Duration LONG = Duration.ofHours(1);
+
+    @Test
+    public void testStaysClosedUntilWindowFull() {
+        final CircuitBreaker breaker = new CircuitBreaker(.5, 4, LONG);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.recordFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1., breaker.getFailureRate());
+    }
+
+    @Test
+    public void testOpensAtThreshold() {
+        final CircuitBreaker breaker = new CircuitBreaker(.5, 4, LONG);
+        breaker.recordSuccess();
+        breaker.recordSuccess();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.recordFailure();
+        assertEquals(.5, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testWindowSlides() {
+        final CircuitBreaker breaker = new CircuitBreaker(.75, 4, LONG);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordSuccess();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        assertEquals(.25, breaker.getFailureRate());
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenTrialSucceeds() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 1, Duration.ZERO);
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0., breaker.getFailureRate());
+    }
+
+    @Test
+    public void testHalfOpenTrialFails() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 1, Duration.ZERO);
+        breaker.recordFailure();
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testOpenRejects() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 1, LONG);
+        breaker.recordFailure();
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 1, LONG);
+        assertEquals(1, breaker.execute(() -> 1, () -> 0));
+        try {
+            breaker.execute(() -> {
+                throw new Exception("asdf");
+            }, () -> 0);
+            fail("Exception was not rethrown");
+        } catch (Exception e) {
+            assertEquals("asdf", e.getMessage());
+        }
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(0, breaker.execute(calls::incrementAndGet, () -> 0));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 64, LONG);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Callable<Void>> tasks = IntStream.range(0, 4).mapToObj(t -> (Callable<Void>) () -> {
+                for (int i = 0; i < 10_000; i++)
+                    if (i % 2 == 0)
+                        breaker.recordSuccess();
+                    else
+                        breaker.recordFailure();
+                return null;
+            }).collect(Collectors.toList());
+            for (Future<Void> future : executor.invokeAll(tasks))
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        final double failures = breaker.getFailureRate() * 64;
+        assertEquals(Math.rint(failures), failures);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new CircuitBreaker(0, 1, LONG);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindowSize() {
+        new CircuitBreaker(.5, 0, LONG);
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.github.jeysal.java.util.concurrent;
+
+import com.github.jeysal.java.util.function.ThrowingRunnable;
+import com.github.jeysal.java.util.function.ThrowingSupplier;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class ConcurrentUtilsTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testMapAll() throws Exception {
+        final BulkResult<Integer> result = ConcurrentUtils.mapAll(asList(1, 2, 3), i -> i * 2);
+        assertTrue(result.isSuccess());
+        assertEquals(asList(2, 4, 6), result.getAllOrThrow());
+    }
+
+    @Test
+    public void testMapAllEmpty() throws Exception {
+        final BulkResult<Object> result = ConcurrentUtils.mapAll(Collections.emptyList(), i -> i, executor, 4);
+        assertEquals(0, result.size());
+        assertTrue(result.isSuccess());
+    }
+
+    @Test
+    public void testMapAllFailures() throws Exception {
+        final List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        final BulkResult<Integer> result = ConcurrentUtils.mapAll(items, i -> {
+            if (i % 1_000 == 0)
+                throw new IOException(String.valueOf(i));
+            return i;
+        }, executor, 8);
+
+        assertFalse(result.isSuccess());
+        assertEquals(100, result.getFailureCount());
+        assertEquals(99_900, result.getSuccessCount());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 1_000 != 0).boxed().collect(Collectors.toList()),
+                result.getSuccesses());
+        assertEquals("5000", result.getFailures().get(5_000).getMessage());
+        assertTrue(result.get(5_000).isFailure());
+        assertEquals(5_001, (int) result.get(5_001).get());
+    }
+
+    @Test
+    public void testMapAllBoundedParallelism() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        ConcurrentUtils.mapAll(IntStream.range(0, 200).boxed().collect(Collectors.toList()), i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.yield();
+            running.decrementAndGet();
+            return i;
+        }, executor, 3);
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testGetAllOrThrow() throws Exception {
+        final BulkResult<Integer> result = ConcurrentUtils.mapAll(asList(1, 2, 3), i -> {
+            if (i > 1)
+                throw new IOException(String.valueOf(i));
+            return i;
+        }, executor, 2);
+        try {
+            result.getAllOrThrow();
+            fail("Expected BulkException");
+        } catch (BulkException e) {
+            assertEquals("2 of 3 items failed", e.getMessage());
+            assertEquals("2", e.getCause().getMessage());
+            assertEquals(1, e.getSuppressed().length);
+            assertEquals(asList(1, 2), new ArrayList<>(e.getFailures().keySet()));
+        }
+    }
+
+    @Test
+    public void testMapAllAsyncCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<BulkResult<Integer>> future = ConcurrentUtils.mapAllAsync(
+                IntStream.range(0, 1_000).boxed().collect(Collectors.toList()), i -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                    return i;
+                }, executor, 1);
+
+        started.await();
+        future.cancel(false);
+        release.countDown();
+        assertTrue(future.isCancelled());
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+        assertTrue(calls.get() < 1_000);
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        assertThrows(RejectedExecutionException.class, () -> ConcurrentUtils.mapAll(asList(1, 2), i -> i, r -> {
+            throw new RejectedExecutionException();
+        }, 2));
+    }
+
+    @Test
+    public void testInvalidParallelism() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentUtils.mapAll(asList(1), i -> i, executor, 0));
+    }
+
+    @Test
+    public void testRunAll() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final List<ThrowingRunnable<IOException>> tasks = asList(
+                runs::incrementAndGet,
+                () -> {
+                    throw new IOException("failed");
+                },
+                runs::incrementAndGet);
+        final BulkResult<Void> result = ConcurrentUtils.runAll(tasks, executor, 2);
+        assertEquals(2, runs.get());
+        assertEquals(1, result.getFailureCount());
+        assertEquals("failed", result.getFailures().get(1).getMessage());
+    }
+
+    @Test
+    public void testAllOf() throws Exception {
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            parkNanos(MILLISECONDS.toNanos(20));
+            return 1;
+        }, () -> 2, () -> 3);
+        assertEquals(asList(1, 2, 3), ConcurrentUtils.allOf(suppliers, executor, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testAllOfDefaultExecutor() throws Exception {
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> 1, () -> 2);
+        assertEquals(asList(1, 2), ConcurrentUtils.allOf(suppliers, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testAllOfEmpty() throws Exception {
+        assertEquals(Collections.emptyList(),
+                ConcurrentUtils.allOf(Collections.<ThrowingSupplier<Integer, IOException>>emptyList(),
+                        executor, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testAllOfFailureCancelsStragglers() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        }, () -> {
+            throw new IOException("failed");
+        });
+        try {
+            ConcurrentUtils.allOf(suppliers, executor, Duration.ofSeconds(5));
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals("failed", e.getCause().getMessage());
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAllOfTimeout() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = singletonList(() -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        });
+        assertThrows(TimeoutException.class,
+                () -> ConcurrentUtils.allOf(suppliers, executor, Duration.ofMillis(20)));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAnyOf() throws Exception {
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            throw new IOException("failed");
+        }, () -> {
+            new CountDownLatch(1).await();
+            return 1;
+        }, () -> 2);
+        assertEquals(2, (int) ConcurrentUtils.anyOf(suppliers, executor, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testAnyOfAllFail() throws Exception {
+        final CountDownLatch firstDone = new CountDownLatch(1);
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            throw new IOException("first");
+        }, () -> {
+            firstDone.await();
+            throw new IOException("second");
+        });
+        try {
+            ConcurrentUtils.anyOf(suppliers, countingDown(firstDone), Duration.ofSeconds(5));
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals("first", e.getCause().getMessage());
+            assertEquals(0, e.getCause().getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void testAnyOfAllFailSharedException() throws Exception {
+        final IOException shared = new IOException("shared");
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            throw shared;
+        }, () -> {
+            throw shared;
+        });
+        try {
+            ConcurrentUtils.anyOfAsync(suppliers, executor).get(5, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertSame(shared, e.getCause());
+            assertEquals(0, shared.getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void testFirstSuccessful() throws Exception {
+        final CountDownLatch othersDone = new CountDownLatch(2);
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> {
+            othersDone.await();
+            return 1;
+        }, () -> 2, () -> {
+            throw new IOException("failed");
+        }, () -> {
+            new CountDownLatch(1).await();
+            return 4;
+        });
+        assertEquals(asList(2, 1),
+                ConcurrentUtils.firstSuccessful(2, suppliers, countingDown(othersDone), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testFirstSuccessfulUnreachable() throws Exception {
+        final List<ThrowingSupplier<Integer, Exception>> suppliers = asList(() -> 1, () -> {
+            throw new IOException("failed");
+        });
+        assertThrows(ExecutionException.class,
+                () -> ConcurrentUtils.firstSuccessful(2, suppliers, executor, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testFirstSuccessfulInvalidCount() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> ConcurrentUtils.firstSuccessfulAsync(2, singletonList(() -> 1), executor));
+    }
+
+    /**
+     * @return an {@link Executor} that counts down given latch whenever a task has completed, including its
+     * completion callbacks
+     */
+    private Executor countingDown(CountDownLatch latch) {
+        return task -> executor.execute(() -> {
+            task.run();
+            latch.countDown();
+        });
+    }
+
+}
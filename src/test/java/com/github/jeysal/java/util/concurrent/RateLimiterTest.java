@@ -0,0 +1,115 @@
+package com.github.jeysal.java.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class RateLimiterTest {
+
+    private static final double SLOW = 1e-3;
+
+    @Test
+    public void testBurst() {
+        final RateLimiter limiter = new RateLimiter(SLOW, 3);
+        assertEquals(3L, limiter.availablePermits());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0L, limiter.availablePermits());
+    }
+
+    @Test
+    public void testRefill() {
+        final RateLimiter limiter = new RateLimiter(1000, 1);
+        assertTrue(limiter.tryAcquire());
+        parkNanos(MILLISECONDS.toNanos(10));
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testReserve() {
+        final RateLimiter limiter = new RateLimiter(1, 1);
+        assertEquals(0L, limiter.reserve());
+        final long delay = limiter.reserve();
+        assertTrue(delay > SECONDS.toNanos(1) / 2 && delay <= SECONDS.toNanos(1));
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void testAcquireInterrupted() throws InterruptedException {
+        final RateLimiter limiter = new RateLimiter(SLOW, 1);
+        limiter.acquire();
+        Thread.currentThread().interrupt();
+        limiter.acquire();
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        final RateLimiter limiter = new RateLimiter(SLOW, 1);
+        assertEquals(1, limiter.execute(() -> 1, () -> 0));
+        assertEquals(0, limiter.execute(() -> 1, () -> 0));
+    }
+
+    @Test
+    public void testExecuteAsync() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final RateLimiter limiter = new RateLimiter(SLOW, 1);
+            assertEquals(1, limiter.executeAsync(() -> 1, scheduler).get(10, SECONDS));
+            final CompletableFuture<Integer> queued = limiter.executeAsync(() -> 2, scheduler);
+            assertFalse(queued.isDone());
+            queued.cancel(false);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncFailure() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CompletableFuture<Object> result = new RateLimiter(SLOW, 1).executeAsync(() -> {
+                throw new IllegalStateException();
+            }, scheduler);
+            assertEquals(IllegalStateException.class, result.handle((r, e) -> e.getClass()).get(10, SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncError() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CompletableFuture<Object> result = new RateLimiter(SLOW, 1).executeAsync(() -> {
+                throw new AssertionError();
+            }, scheduler);
+            assertEquals(AssertionError.class, result.handle((r, e) -> e.getClass()).get(10, SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new RateLimiter(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBurst() {
+        new RateLimiter(1, 0);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.github.jeysal.java.util.concurrent;
+
+import org.junit.Test;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class RetryBudgetTest {
+
+    @Test
+    public void testReserve() {
+        final RetryBudget budget = new RetryBudget(.1, 2);
+        assertEquals(2L, budget.availableRetries());
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+    }
+
+    @Test
+    public void testRecordCall() {
+        final RetryBudget budget = new RetryBudget(.5, 2);
+        budget.tryAcquireRetry();
+        budget.tryAcquireRetry();
+        budget.recordCall();
+        assertFalse(budget.tryAcquireRetry());
+        budget.recordCall();
+        assertTrue(budget.tryAcquireRetry());
+    }
+
+    @Test
+    public void testRecordCallCapped() {
+        final RetryBudget budget = new RetryBudget(1, 2);
+        for (int i = 0; i < 10; i++)
+            budget.recordCall();
+        assertEquals(2L, budget.availableRetries());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRatio() {
+        new RetryBudget(-1, 2);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.github.jeysal.java.util.concurrent;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class RetryPolicyTest {
+
+    @Test
+    public void testDelayNanos() {
+        final RetryPolicy policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofNanos(100), Duration.ofNanos(500));
+        assertEquals(100L, policy.delayNanos(1));
+        assertEquals(200L, policy.delayNanos(2));
+        assertEquals(400L, policy.delayNanos(3));
+        assertEquals(500L, policy.delayNanos(4));
+    }
+
+    @Test
+    public void testDelayNanosMultiplier() {
+        final RetryPolicy policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofNanos(100), Duration.ofNanos(10_000))
+                .withMultiplier(3);
+        assertEquals(900L, policy.delayNanos(3));
+    }
+
+    @Test
+    public void testDelayNanosJitter() {
+        final RetryPolicy policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofNanos(1_000), Duration.ofNanos(1_000))
+                .withJitter(.5);
+        for (int i = 0; i < 100; i++) {
+            final long delay = policy.delayNanos(1);
+            assertTrue(delay >= 500 && delay <= 1_000);
+        }
+    }
+
+    @Test
+    public void testDelayNanosWithoutBackoff() {
+        assertEquals(0L, RetryPolicy.maxAttempts(10).delayNanos(5));
+    }
+
+    @Test
+    public void testBudget() {
+        final RetryBudget budget = new RetryBudget(0, 1);
+        final RetryPolicy policy = RetryPolicy.maxAttempts(10).withBudget(budget);
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            policy.execute(() -> {
+                calls.incrementAndGet();
+                throw new Exception();
+            });
+        } catch (Exception e) {
+            assertEquals(2, calls.get());
+            assertEquals(0L, budget.availableRetries());
+            return;
+        }
+
+        fail("Policy did not throw");
+    }
+
+    @Test
+    public void testInterrupted() {
+        final AtomicInteger calls = new AtomicInteger();
+        Thread.currentThread().interrupt();
+        try {
+            RetryPolicy.maxAttempts(10).withBackoff(Duration.ofSeconds(1), Duration.ofSeconds(1)).execute(() -> {
+                calls.incrementAndGet();
+                throw new Exception();
+            });
+        } catch (Exception e) {
+            assertTrue(Thread.interrupted());
+            assertEquals(1, calls.get());
+            return;
+        }
+
+        fail("Policy did not throw");
+    }
+
+    @Test
+    public void testExecuteAsyncError() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CompletableFuture<Object> result = RetryPolicy.maxAttempts(3).executeAsync(() -> {
+                throw new AssertionError();
+            }, scheduler);
+            assertEquals(AssertionError.class, result.handle((r, e) -> e.getClass()).get(10, SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncRetryConditionThrows() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CompletableFuture<Object> result = RetryPolicy.maxAttempts(3).withRetryCondition(e -> {
+                throw new IllegalStateException();
+            }).executeAsync(() -> {
+                throw new Exception();
+            }, scheduler);
+            assertEquals(IllegalStateException.class, result.handle((r, e) -> e.getClass()).get(10, SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveMaxAttempts() {
+        RetryPolicy.maxAttempts(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidJitter() {
+        RetryPolicy.maxAttempts(1).withJitter(2);
+    }
+
+}
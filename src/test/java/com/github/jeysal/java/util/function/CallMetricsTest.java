@@ -0,0 +1,88 @@
+package com.github.jeysal.java.util.function;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class CallMetricsTest {
+
+    @Test
+    public void testCounters() {
+        final CallMetrics metrics = new CallMetrics();
+        metrics.onSuccess(100);
+        metrics.onSuccess(200);
+        metrics.onFailure(new Exception(), 300);
+        metrics.onFallback();
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(3L, snapshot.getCalls());
+        assertEquals(2L, snapshot.getSuccesses());
+        assertEquals(1L, snapshot.getFailures());
+        assertEquals(1. / 3, snapshot.getFailureRate());
+        assertEquals(1L, snapshot.getFallbacks());
+        assertEquals(300L, snapshot.getLatency().getMax());
+    }
+
+    @Test
+    public void testHits() {
+        final CallMetrics metrics = new CallMetrics();
+        metrics.onHit(0);
+        metrics.onHit(5);
+        metrics.onHit(5);
+        metrics.onSuccess(0);
+        metrics.onSuccess(0);
+        metrics.onSuccess(0);
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1L, snapshot.getHits(0));
+        assertEquals(0L, snapshot.getHits(1));
+        assertEquals(2L, snapshot.getHits(5));
+        assertEquals(0L, snapshot.getHits(100));
+        assertEquals(2. / 3, snapshot.getHitRate(5));
+    }
+
+    @Test
+    public void testSnapshotIsDetached() {
+        final CallMetrics metrics = new CallMetrics();
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        metrics.onSuccess(1);
+        metrics.onHit(0);
+        assertEquals(0L, snapshot.getCalls());
+        assertEquals(0L, snapshot.getHits(0));
+        assertEquals(0L, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    public void testAndThen() {
+        final List<String> events = new ArrayList<>();
+        final CallListener listener = new CallListener() {
+            @Override
+            public void onHit(int index) {
+                events.add("first " + index);
+            }
+        }.andThen(new CallListener() {
+            @Override
+            public void onHit(int index) {
+                events.add("second " + index);
+            }
+        });
+        listener.onHit(1);
+        listener.onFallback();
+        assertEquals(2, events.size());
+        assertEquals("first 1", events.get(0));
+        assertEquals("second 1", events.get(1));
+    }
+
+    @Test
+    public void testAndThenNone() {
+        final CallMetrics metrics = new CallMetrics();
+        assertSame(metrics, CallListener.NONE.andThen(metrics));
+        assertSame(metrics, metrics.andThen(CallListener.NONE));
+    }
+
+}
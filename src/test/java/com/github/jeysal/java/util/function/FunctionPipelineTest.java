@@ -0,0 +1,121 @@
+package com.github.jeysal.java.util.function;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.api.Assertions.fail;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class FunctionPipelineTest {
+
+    @Test
+    public void testToOptional() {
+        final Function<String, Optional<Integer>> function = FunctionPipeline.<String, Integer>trying(Integer::parseInt)
+                .orTrying(s -> s.isEmpty() ? 0 : null)
+                .toOptional();
+        assertEquals(Optional.of(1), function.apply("1"));
+        assertEquals(Optional.of(0), function.apply(""));
+        assertEquals(Optional.empty(), function.apply("a"));
+    }
+
+    @Test
+    public void testShortCircuits() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Optional<Integer>> function = FunctionPipeline.<String, Integer>trying(Integer::parseInt)
+                .orTrying(s -> calls.incrementAndGet())
+                .toOptional();
+        assertEquals(Optional.of(1), function.apply("1"));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testOrTryingDoesNotModify() {
+        final FunctionPipeline<String, Integer> pipeline = FunctionPipeline.trying(s -> null);
+        pipeline.orTrying(s -> 1);
+        assertEquals(Optional.empty(), pipeline.toOptional().apply(""));
+    }
+
+    @Test
+    public void testOrElse() {
+        final Function<String, Integer> function = FunctionPipeline.<String, Integer>trying(Integer::parseInt)
+                .orTrying(s -> null)
+                .orElse(String::length);
+        assertEquals(1, function.apply("1"));
+        assertEquals(3, function.apply("abc"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOrElseNull() {
+        FunctionPipeline.<String, Integer>trying(s -> null).orElse(s -> null).apply("");
+    }
+
+    @Test
+    public void testRethrowing() {
+        assertEquals(2, FunctionPipeline.<String, Integer>trying(FunctionPipelineTest::throwing)
+                .orTrying(s -> 2)
+                .rethrowing()
+                .apply("a"));
+    }
+
+    @Test
+    public void testRethrowingFailure() {
+        try {
+            FunctionPipeline.<String, Integer>trying(FunctionPipelineTest::throwing)
+                    .orTrying(s -> null)
+                    .orTrying(s -> throwing(s + s))
+                    .rethrowing(IllegalStateException::new)
+                    .apply("a");
+        } catch (IllegalStateException e) {
+            assertEquals("a", e.getCause().getMessage());
+            assertEquals(0, e.getCause().getSuppressed().length);
+            return;
+        }
+
+        fail("Pipeline did not throw");
+    }
+
+    @Test
+    public void testRethrowingSharedException() {
+        final Exception shared = new Exception("shared");
+        final Function<String, Integer> function = FunctionPipeline.<String, Integer>trying(s -> {
+            throw shared;
+        }).orTrying(s -> {
+            throw shared;
+        }).rethrowing(IllegalStateException::new);
+        for (int i = 0; i < 2; i++)
+            try {
+                function.apply("");
+                fail("Pipeline did not throw");
+            } catch (IllegalStateException e) {
+                assertSame(shared, e.getCause());
+            }
+        assertEquals(0, shared.getSuppressed().length);
+    }
+
+    @Test
+    public void testRethrowingNoResult() {
+        try {
+            FunctionPipeline.<String, Integer>trying(s -> null).rethrowing().apply("");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof NoSuchElementException);
+            return;
+        }
+
+        fail("Pipeline did not throw");
+    }
+
+    private static Integer throwing(String s) throws Exception {
+        throw new Exception(s);
+    }
+
+}
@@ -1,12 +1,45 @@
 package com.github.jeysal.java.util.function;
 
+import com.github.jeysal.java.util.concurrent.Bulkhead;
+import com.github.jeysal.java.util.concurrent.CircuitBreaker;
+import com.github.jeysal.java.util.concurrent.RateLimiter;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
+import org.junit.After;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import static com.github.jeysal.java.util.function.FunctionUtils.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
 import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
 import static org.junit.gen5.api.Assertions.fail;
 
 /**
@@ -15,6 +48,15 @@ import static org.junit.gen5.api.Assertions.fail;
  */
 public class FunctionUtilsTest {
 
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void shutdownExecutors() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
     @Test
     public void testFirstPresent() {
         assertEquals(Optional.of(1),
@@ -35,6 +77,18 @@ public class FunctionUtilsTest {
         );
     }
 
+    @Test
+    public void testFirstPresentShortCircuit() {
+        assertEquals(Optional.of(0),
+                firstPresent(
+                        (Function<Object, Optional<Integer>>) o -> Optional.of(0),
+                        (Function<Object, Optional<Integer>>) o -> {
+                            throw new AssertionError();
+                        }
+                ).apply(null)
+        );
+    }
+
     @Test
     public void testFirstPresentNoMatch() {
         assertEquals(Optional.empty(),
@@ -84,6 +138,137 @@ public class FunctionUtilsTest {
                 o -> Optional.empty()
         ).apply(null);
     }
+    @Test
+    public void testFirstPresentInstrumented() {
+        final CallMetrics metrics = new CallMetrics();
+        final Function<Integer, Optional<Integer>> function = firstPresent(metrics,
+                i -> i == 0 ? Optional.of(0) : Optional.empty(),
+                i -> i == 1 ? Optional.of(1) : Optional.empty());
+        assertEquals(Optional.of(0), function.apply(0));
+        assertEquals(Optional.of(1), function.apply(1));
+        assertEquals(Optional.of(1), function.apply(1));
+        assertEquals(Optional.empty(), function.apply(2));
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(4L, snapshot.getCalls());
+        assertEquals(1L, snapshot.getHits(0));
+        assertEquals(2L, snapshot.getHits(1));
+        assertEquals(1L, snapshot.getFallbacks());
+    }
+
+    @Test
+    public void testFirstPresentFallbackInstrumented() {
+        final CallMetrics metrics = new CallMetrics();
+        final Function<Integer, Integer> function = firstPresent(i -> -1, metrics,
+                i -> i == 0 ? Optional.of(0) : Optional.empty(),
+                i -> {
+                    if (i < 0)
+                        throw new IllegalArgumentException();
+                    return Optional.empty();
+                });
+        assertEquals(0, function.apply(0));
+        assertEquals(-1, function.apply(1));
+        try {
+            function.apply(-1);
+            fail("Exception was not rethrown");
+        } catch (IllegalArgumentException e) {
+            final CallMetrics.Snapshot snapshot = metrics.snapshot();
+            assertEquals(1L, snapshot.getHits(0));
+            assertEquals(1L, snapshot.getFallbacks());
+            assertEquals(1L, snapshot.getFailures());
+            assertEquals(3L, snapshot.getLatency().getCount());
+        }
+    }
+
+
+
+    @Test
+    public void testFirstPresentAsync() throws Exception {
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        (Function<Object, Optional<Integer>>) o -> {
+                            parkNanos(MILLISECONDS.toNanos(100));
+                            return Optional.of(0);
+                        },
+                        o -> Optional.of(1)
+                ).apply(null).get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testFirstPresentAsyncCancels() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        (Function<Object, Optional<Integer>>) o -> Optional.empty(),
+                        o -> {
+                            awaitUninterruptibly(started);
+                            return Optional.of(0);
+                        },
+                        o -> {
+                            started.countDown();
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return Optional.of(1);
+                        }
+                ).apply(null).get(1, SECONDS)
+        );
+        assertTrue(interrupted.await(1, SECONDS));
+    }
+
+    @Test
+    public void testFirstPresentAsyncNoMatch() throws Exception {
+        assertEquals(Optional.empty(),
+                firstPresentAsync(
+                        executor,
+                        (Function<Object, Optional<Integer>>) o -> Optional.empty(),
+                        o -> Optional.empty()
+                ).apply(null).get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testFirstPresentAsyncEmpty() throws Exception {
+        assertEquals(Optional.empty(),
+                FunctionUtils.<Object, Integer>firstPresentAsync(executor).apply(null).get(1, SECONDS));
+    }
+
+    @Test
+    public void testFirstPresentAsyncThrows() throws Exception {
+        try {
+            firstPresentAsync(
+                    executor,
+                    (Function<Object, Optional<Integer>>) o -> {
+                        throw new IllegalStateException("asdf");
+                    },
+                    o -> Optional.of(1)
+            ).apply(null).get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testFirstPresentAsyncThrowsAfterMatch() throws Exception {
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        (Function<Object, Optional<Integer>>) o -> Optional.of(0),
+                        o -> {
+                            throw new IllegalStateException();
+                        }
+                ).apply(null).get(1, SECONDS)
+        );
+    }
 
 
     @Test
@@ -113,6 +298,34 @@ public class FunctionUtilsTest {
         );
     }
 
+    @Test
+    public void testAttempting() {
+        assertEquals(Result.success(1),
+                attempting(
+                        o -> 1
+                ).apply(null)
+        );
+    }
+
+    @Test
+    public void testAttemptingThrows() {
+        final Exception failure = new StacklessException("asdf");
+        assertEquals(Result.failure(failure),
+                attempting(o -> {
+                    throw failure;
+                }).apply(null)
+        );
+    }
+
+    @Test
+    public void testAttemptingNull() {
+        assertEquals(Result.success(null),
+                attempting(
+                        o -> null
+                ).apply(null)
+        );
+    }
+
     @Test
     public void testRethrowing() {
         assertEquals(1,
@@ -153,5 +366,526 @@ public class FunctionUtilsTest {
 
         fail("Rethrowing function did not throw");
     }
+    @Test
+    public void testTryingToInt() {
+        final Function<String, OptionalInt> parse = tryingToInt(Integer::parseInt);
+        assertEquals(OptionalInt.of(42), parse.apply("42"));
+        assertEquals(OptionalInt.empty(), parse.apply("x"));
+    }
+
+    @Test
+    public void testTryingToIntDefault() {
+        final ToIntFunction<String> parse = tryingToInt(Integer::parseInt, -1);
+        assertEquals(42, parse.applyAsInt("42"));
+        assertEquals(-1, parse.applyAsInt("x"));
+    }
+
+    @Test
+    public void testTryingToLong() {
+        final Function<String, OptionalLong> parse = tryingToLong(Long::parseLong);
+        assertEquals(OptionalLong.of(1L << 40), parse.apply("1099511627776"));
+        assertEquals(OptionalLong.empty(), parse.apply("x"));
+        final ToLongFunction<String> parseOrDefault = tryingToLong(Long::parseLong, -1);
+        assertEquals(-1L, parseOrDefault.applyAsLong("x"));
+    }
+
+    @Test
+    public void testTryingToDouble() {
+        final Function<String, OptionalDouble> parse = tryingToDouble(Double::parseDouble);
+        assertEquals(OptionalDouble.of(.5), parse.apply(".5"));
+        assertEquals(OptionalDouble.empty(), parse.apply("x"));
+        final ToDoubleFunction<String> parseOrDefault = tryingToDouble(Double::parseDouble, .5);
+        assertEquals(.5, parseOrDefault.applyAsDouble("x"));
+    }
+
+    @Test
+    public void testTryingInt() {
+        final IntFunction<Optional<String>> function = tryingInt(i -> {
+            if (i < 0)
+                throw new Exception();
+            return i == 0 ? null : Integer.toString(i);
+        });
+        assertEquals(Optional.of("1"), function.apply(1));
+        assertEquals(Optional.empty(), function.apply(0));
+        assertEquals(Optional.empty(), function.apply(-1));
+        assertEquals(Optional.of("1"), tryingLong(Long::toString).apply(1));
+        assertEquals(Optional.of("1.0"), tryingDouble(Double::toString).apply(1));
+    }
+
+    @Test
+    public void testRethrowingToInt() {
+        final ToIntFunction<String> parse = rethrowingToInt(Integer::parseInt);
+        assertEquals(42, parse.applyAsInt("42"));
+        try {
+            rethrowingToInt(o -> {
+                throw new Exception("asdf");
+            }).applyAsInt(null);
+        } catch (RuntimeException e) {
+            assertEquals(RuntimeException.class, e.getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Rethrowing function did not throw");
+    }
+
+    @Test
+    public void testRethrowingToLongMapper() {
+        final ToLongFunction<String> parse = rethrowingToLong(Long::parseLong, IllegalStateException::new);
+        assertEquals(42L, parse.applyAsLong("42"));
+        try {
+            rethrowingToDouble(o -> {
+                throw new Exception("asdf");
+            }, IllegalArgumentException::new).applyAsDouble(null);
+        } catch (RuntimeException e) {
+            assertEquals(IllegalArgumentException.class, e.getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Rethrowing function did not throw");
+    }
+
+    @Test
+    public void testRethrowingInt() {
+        assertEquals("1", rethrowingInt(Integer::toString).apply(1));
+        assertEquals("1", rethrowingLong(Long::toString).apply(1));
+        try {
+            rethrowingDouble(d -> {
+                throw new Exception("asdf");
+            }, IllegalArgumentException::new).apply(1);
+        } catch (RuntimeException e) {
+            assertEquals(IllegalArgumentException.class, e.getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Rethrowing function did not throw");
+    }
+
+
+    @Test
+    public void testCircuitBreaking() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 2, Duration.ofHours(1));
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = circuitBreaking(i -> -i, i -> {
+            calls.incrementAndGet();
+            if (i > 0)
+                throw new Exception();
+            return i;
+        }, breaker);
+        assertEquals(0, function.apply(0));
+        assertEquals(-1, function.apply(1));
+        assertEquals(-2, function.apply(2));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(3, calls.get());
+        assertEquals(-3, function.apply(3));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testRateLimiting() throws Exception {
+        final ThrowingFunction<Integer, Integer, RuntimeException> function =
+                rateLimiting(i -> -i, i -> i, new RateLimiter(1e-3, 2));
+        assertEquals(1, function.apply(1));
+        assertEquals(2, function.apply(2));
+        assertEquals(-3, function.apply(3));
+    }
+
+    @Test
+    public void testRateLimitingAsync() throws Exception {
+        assertEquals(1, rateLimitingAsync(i -> i, new RateLimiter(1e-3, 1), scheduler).apply(1).get(10, SECONDS));
+    }
+
+    @Test
+    public void testBulkheading() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        final ThrowingFunction<Integer, Integer, RuntimeException> function = bulkheading(i -> -i, i -> i, bulkhead);
+        assertEquals(1, function.apply(1));
+        bulkhead.tryAcquire();
+        assertEquals(-2, function.apply(2));
+    }
+
+    @Test
+    public void testBulkheadingAsync() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        bulkhead.tryAcquire();
+        final CompletableFuture<Integer> result = bulkheadingAsync((Integer i) -> i, bulkhead, executor).apply(1);
+        assertFalse(result.isDone());
+        bulkhead.release();
+        assertEquals(1, result.get(10, SECONDS));
+    }
+
+    @Test
+    public void testInstrumenting() {
+        final CallMetrics metrics = new CallMetrics();
+        final ThrowingFunction<String, Integer, NumberFormatException> parse = Integer::parseInt;
+        final Function<String, Optional<Integer>> function = trying(instrumenting(parse, metrics));
+        assertEquals(Optional.of(1), function.apply("1"));
+        assertEquals(Optional.empty(), function.apply("x"));
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1L, snapshot.getSuccesses());
+        assertEquals(1L, snapshot.getFailures());
+        assertEquals(2L, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    public void testInstrumentingNone() {
+        final ThrowingFunction<String, Integer, NumberFormatException> parse = Integer::parseInt;
+        assertSame(parse, instrumenting(parse, CallListener.NONE));
+    }
+
+    @Test
+    public void testRetrying() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(3,
+                retrying(o -> {
+                    if (calls.incrementAndGet() < 3)
+                        throw new Exception();
+                    return calls.get();
+                }, RetryPolicy.maxAttempts(3)).apply(null)
+        );
+    }
+
+    @Test
+    public void testRetryingGivesUp() {
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            retrying(o -> {
+                throw new Exception(String.valueOf(calls.incrementAndGet()));
+            }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))).apply(null);
+        } catch (Exception e) {
+            assertEquals("3", e.getMessage());
+            assertEquals(3, calls.get());
+            return;
+        }
+
+        fail("Retrying function did not throw");
+    }
+
+    @Test
+    public void testRetryingCondition() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            retrying(o -> {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException();
+            }, RetryPolicy.maxAttempts(3).withRetryCondition(e -> e instanceof IllegalStateException)).apply(null);
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, calls.get());
+            return;
+        }
+
+        fail("Retrying function did not throw");
+    }
+
+    @Test
+    public void testRetryingAsync() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(3,
+                retryingAsync(o -> {
+                    if (calls.incrementAndGet() < 3)
+                        throw new Exception();
+                    return calls.get();
+                }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(2)), scheduler)
+                        .apply(null).get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testRetryingAsyncGivesUp() throws Exception {
+        try {
+            retryingAsync(o -> {
+                throw new Exception("asdf");
+            }, RetryPolicy.maxAttempts(2), scheduler).apply(null).get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testMemoizing() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = memoizing(i -> {
+            calls.incrementAndGet();
+            return 2 * i;
+        }, 10);
+        assertEquals(2, function.apply(1));
+        assertEquals(4, function.apply(2));
+        assertEquals(2, function.apply(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testMemoizingConcurrent() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = memoizing(i -> {
+            parkNanos(MILLISECONDS.toNanos(50));
+            calls.incrementAndGet();
+            return 2 * i;
+        }, 10);
+        final List<Future<Integer>> results = executor.invokeAll(Collections.nCopies(8, () -> function.apply(1)));
+        for (Future<Integer> result : results)
+            assertEquals(2, result.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMemoizingEvictsLeastRecentlyUsed() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = memoizing(i -> {
+            calls.incrementAndGet();
+            return 2 * i;
+        }, 2);
+        function.apply(1);
+        function.apply(2);
+        function.apply(1);
+        function.apply(3);
+        assertEquals(3, calls.get());
+        function.apply(1);
+        assertEquals(3, calls.get());
+        function.apply(2);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testMemoizingTtl() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = memoizing(i -> calls.incrementAndGet(), 10, Duration.ofMillis(20));
+        assertEquals(1, function.apply(0));
+        assertEquals(1, function.apply(0));
+        parkNanos(MILLISECONDS.toNanos(40));
+        assertEquals(2, function.apply(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMemoizingNonPositiveSize() {
+        memoizing(Function.identity(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMemoizingNegativeTtl() {
+        memoizing(Function.identity(), 10, Duration.ofMillis(-1));
+    }
+
+    @Test
+    public void testMemoizingDoesNotEvictComputing() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Function<Integer, Integer> function = memoizing(i -> {
+            if (i == 1) {
+                calls.incrementAndGet();
+                computing.countDown();
+                awaitUninterruptibly(release);
+            }
+            return 2 * i;
+        }, 1);
+        final Future<Integer> first = executor.submit(() -> function.apply(1));
+        awaitUninterruptibly(computing);
+        assertEquals(4, function.apply(2));
+        final Future<Integer> second = executor.submit(() -> function.apply(1));
+        parkNanos(MILLISECONDS.toNanos(50));
+        release.countDown();
+        assertEquals(2, first.get());
+        assertEquals(2, second.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMemoizingNull() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = memoizing(i -> calls.incrementAndGet(), 10);
+        assertEquals(1, function.apply(null));
+        assertEquals(1, function.apply(null));
+    }
+
+    @Test
+    public void testMemoizingThrowing() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrowingFunction<Integer, Integer, Exception> function = memoizingThrowing(i -> {
+            if (calls.incrementAndGet() == 1)
+                throw new Exception("asdf");
+            return 2 * i;
+        }, 10);
+        try {
+            function.apply(1);
+            fail("Memoizing function did not throw");
+        } catch (Exception e) {
+            assertEquals("asdf", e.getMessage());
+        }
+        assertEquals(2, function.apply(1));
+        assertEquals(2, function.apply(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCoalescing() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Integer> function = coalescing(i -> calls.incrementAndGet());
+        assertEquals(1, function.apply(1));
+        assertEquals(2, function.apply(1));
+        assertEquals(3, function.apply(2));
+    }
+
+    @Test
+    public void testCoalescingConcurrent() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch arrived = new CountDownLatch(8);
+        final Function<Integer, Integer> function = coalescing(i -> {
+            awaitUninterruptibly(arrived);
+            parkNanos(MILLISECONDS.toNanos(50));
+            calls.incrementAndGet();
+            return 2 * i;
+        });
+        final List<Future<Integer>> results = executor.invokeAll(Collections.nCopies(8, () -> {
+            arrived.countDown();
+            return function.apply(1);
+        }));
+        for (Future<Integer> result : results)
+            assertEquals(2, result.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCoalescingThrowingConcurrent() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch arrived = new CountDownLatch(8);
+        final ThrowingFunction<Integer, Integer, Exception> function = coalescingThrowing(i -> {
+            arrived.await();
+            parkNanos(MILLISECONDS.toNanos(50));
+            throw new Exception(String.valueOf(calls.incrementAndGet()));
+        });
+        final List<Future<Integer>> results = executor.invokeAll(Collections.nCopies(8, () -> {
+            arrived.countDown();
+            return function.apply(1);
+        }));
+        Throwable first = null;
+        for (Future<Integer> result : results)
+            try {
+                result.get();
+                fail("Coalescing function did not throw");
+            } catch (ExecutionException e) {
+                assertEquals("1", e.getCause().getMessage());
+                if (first == null)
+                    first = e.getCause();
+                assertSame(first, e.getCause());
+            }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCoalescingNull() {
+        assertEquals(Optional.empty(), coalescing(Optional::ofNullable).apply(null));
+    }
+
+    @Test
+    public void testBatchingAsync() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final Function<Integer, CompletableFuture<Integer>> function = batchingAsync(keys -> {
+            batches.add(keys);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), i -> 2 * i));
+        }, 3, Duration.ofHours(1), 10, scheduler);
+        final CompletableFuture<Integer> first = function.apply(1);
+        final CompletableFuture<Integer> second = function.apply(2);
+        assertFalse(first.isDone());
+        final CompletableFuture<Integer> third = function.apply(3);
+        assertEquals(2, first.get(1, SECONDS));
+        assertEquals(4, second.get(1, SECONDS));
+        assertEquals(6, third.get(1, SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), batches);
+    }
+
+    @Test
+    public void testBatchingAsyncDelay() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final Function<Integer, CompletableFuture<Integer>> function = batchingAsync(keys -> {
+            batches.add(keys);
+            return Collections.singletonMap(1, 2);
+        }, 10, Duration.ofMillis(10), 10, scheduler);
+        final CompletableFuture<Integer> first = function.apply(1);
+        final CompletableFuture<Integer> missing = function.apply(2);
+        assertEquals(2, first.get(1, SECONDS));
+        assertEquals(null, missing.get(1, SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+    }
+
+    @Test
+    public void testBatchingAsyncDuplicate() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final Function<Integer, CompletableFuture<Integer>> function = batchingAsync(keys -> {
+            batches.add(keys);
+            return Collections.singletonMap(1, 2);
+        }, 2, Duration.ofHours(1), 10, scheduler);
+        final CompletableFuture<Integer> first = function.apply(1);
+        assertSame(first, function.apply(1));
+        function.apply(3);
+        assertEquals(2, first.get(1, SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 3)), batches);
+    }
+
+    @Test
+    public void testBatchingAsyncFailure() throws Exception {
+        final Function<Integer, CompletableFuture<Integer>> function = batchingAsync(keys -> {
+            throw new Exception("asdf");
+        }, 1, Duration.ofHours(1), 10, scheduler);
+        try {
+            function.apply(1).get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testBatchingAsyncError() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, CompletableFuture<Integer>> function = batchingAsync(keys -> {
+            if (calls.incrementAndGet() == 1)
+                throw new AssertionError();
+            return Collections.singletonMap(2, 4);
+        }, 1, Duration.ofHours(1), 1, scheduler);
+        try {
+            function.apply(1).get(1, SECONDS);
+            fail("Future did not complete exceptionally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+        assertEquals(4, function.apply(2).get(1, SECONDS));
+    }
+
+    @Test
+    public void testBatchingAsyncBackpressure() throws Exception {
+        final Function<Integer, CompletableFuture<Integer>> function =
+                batchingAsync(keys -> Collections.emptyMap(), 10, Duration.ofHours(1), 2, scheduler);
+        function.apply(1);
+        function.apply(2);
+        try {
+            function.apply(3).get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchingAsyncNonPositiveSize() {
+        batchingAsync(keys -> Collections.emptyMap(), 0, Duration.ofHours(1), 10, scheduler);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
 }
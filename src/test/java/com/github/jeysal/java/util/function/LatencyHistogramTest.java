@@ -0,0 +1,74 @@
+package com.github.jeysal.java.util.function;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.quantile(.5));
+        assertTrue(Double.isNaN(histogram.getMean()));
+    }
+
+    @Test
+    public void testExactBelowSubBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 50).forEach(histogram::record);
+        assertEquals(50L, histogram.getCount());
+        assertEquals(0L, histogram.quantile(0));
+        assertEquals(24L, histogram.quantile(.5));
+        assertEquals(49L, histogram.quantile(1));
+        assertEquals(24.5, histogram.getMean());
+    }
+
+    @Test
+    public void testRelativeError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long[] values = new Random(0).longs(10_000, 1, 1_000_000_000L).sorted().toArray();
+        for (long value : values)
+            histogram.record(value);
+        for (double q : new double[]{.1, .5, .9, .99, .999}) {
+            final long expected = values[(int) Math.ceil(q * values.length) - 1];
+            final long actual = histogram.quantile(q);
+            assertTrue(actual >= expected && actual <= expected * 1.016, q + ": " + expected + ", " + actual);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    public void testClamped() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0L, histogram.quantile(.5));
+        assertEquals((1L << 44) - 1, histogram.quantile(1));
+    }
+
+    @Test
+    public void testCopy() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        final LatencyHistogram copy = histogram.copy();
+        histogram.record(2_000);
+        assertEquals(1L, copy.getCount());
+        assertEquals(1_000L, copy.getMax());
+        assertEquals(1_000L, copy.quantile(.5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidQuantile() {
+        new LatencyHistogram().quantile(2);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.github.jeysal.java.util.function;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class ResultTest {
+
+    @Test
+    public void testSuccess() {
+        final Result<Integer> result = Result.success(1);
+        assertTrue(result.isSuccess());
+        assertFalse(result.isFailure());
+        assertEquals(1, result.get());
+        assertNull(result.getFailure());
+        assertEquals(1, result.orElse(2));
+        assertEquals(Optional.of(1), result.toOptional());
+    }
+
+    @Test
+    public void testFailure() {
+        final Exception failure = new StacklessException("asdf");
+        final Result<Integer> result = Result.failure(failure);
+        assertFalse(result.isSuccess());
+        assertTrue(result.isFailure());
+        assertSame(failure, result.getFailure());
+        assertEquals(2, result.orElse(2));
+        assertEquals(Optional.empty(), result.toOptional());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFailureGet() {
+        Result.failure().get();
+    }
+
+    @Test
+    public void testFailureShared() {
+        assertSame(Result.<Integer>failure(), Result.<String>failure());
+        assertNull(Result.failure().getFailure());
+    }
+
+    @Test
+    public void testMap() {
+        assertEquals(Result.success(2), Result.success(1).map(i -> 2 * i));
+    }
+
+    @Test
+    public void testMapFailure() {
+        final Result<Integer> failure = Result.failure();
+        assertSame(failure, failure.map(i -> 2 * i));
+    }
+
+    @Test
+    public void testStacklessException() {
+        final StacklessException e = new StacklessException("asdf");
+        assertEquals("asdf", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+}
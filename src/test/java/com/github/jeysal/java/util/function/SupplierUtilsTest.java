@@ -1,12 +1,39 @@
 package com.github.jeysal.java.util.function;
 
+import com.github.jeysal.java.util.concurrent.Bulkhead;
+import com.github.jeysal.java.util.concurrent.CircuitBreaker;
+import com.github.jeysal.java.util.concurrent.RateLimiter;
+import com.github.jeysal.java.util.concurrent.RetryPolicy;
+import org.junit.After;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static com.github.jeysal.java.util.function.SupplierUtils.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
 import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertThrows;
+import static org.junit.gen5.api.Assertions.assertTrue;
 import static org.junit.gen5.api.Assertions.fail;
 
 /**
@@ -15,6 +42,15 @@ import static org.junit.gen5.api.Assertions.fail;
  */
 public class SupplierUtilsTest {
 
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @After
+    public void shutdownExecutors() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
     @Test
     public void testFirstPresent() {
         assertEquals(Optional.of(1),
@@ -35,6 +71,18 @@ public class SupplierUtilsTest {
         );
     }
 
+    @Test
+    public void testFirstPresentShortCircuit() {
+        assertEquals(Optional.of(0),
+                firstPresent(
+                        (Supplier<Optional<Integer>>) () -> Optional.of(0),
+                        (Supplier<Optional<Integer>>) () -> {
+                            throw new AssertionError();
+                        }
+                ).get()
+        );
+    }
+
     @Test
     public void testFirstPresentNoMatch() {
         assertEquals(Optional.empty(),
@@ -84,6 +132,118 @@ public class SupplierUtilsTest {
                 Optional::empty
         ).get();
     }
+    @Test
+    public void testFirstPresentInstrumented() {
+        final CallMetrics metrics = new CallMetrics();
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Optional<Integer>> supplier = firstPresent(metrics,
+                () -> calls.incrementAndGet() % 2 == 0 ? Optional.of(0) : Optional.empty(),
+                () -> Optional.of(1));
+        assertEquals(Optional.of(1), supplier.get());
+        assertEquals(Optional.of(0), supplier.get());
+        final CallMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(.5, snapshot.getHitRate(0));
+        assertEquals(.5, snapshot.getHitRate(1));
+        assertEquals(0L, snapshot.getFallbacks());
+    }
+
+    @Test
+    public void testFirstPresentFallbackInstrumented() {
+        final CallMetrics metrics = new CallMetrics();
+        assertEquals(-1, firstPresent(() -> -1, metrics, Optional::empty).get());
+        assertEquals(1L, metrics.snapshot().getFallbacks());
+        assertEquals(1L, metrics.snapshot().getSuccesses());
+    }
+
+
+
+    @Test
+    public void testFirstPresentAsync() throws Exception {
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        () -> {
+                            parkNanos(MILLISECONDS.toNanos(100));
+                            return Optional.of(0);
+                        },
+                        () -> Optional.of(1)
+                ).get().get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testFirstPresentAsyncCancels() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        Optional::empty,
+                        () -> {
+                            awaitUninterruptibly(started);
+                            return Optional.of(0);
+                        },
+                        () -> {
+                            started.countDown();
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return Optional.of(1);
+                        }
+                ).get().get(1, SECONDS)
+        );
+        assertTrue(interrupted.await(1, SECONDS));
+    }
+
+    @Test
+    public void testFirstPresentAsyncNoMatch() throws Exception {
+        assertEquals(Optional.empty(),
+                firstPresentAsync(
+                        executor,
+                        (Supplier<Optional<Integer>>) Optional::empty,
+                        Optional::empty
+                ).get().get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testFirstPresentAsyncEmpty() throws Exception {
+        assertEquals(Optional.empty(), SupplierUtils.<Integer>firstPresentAsync(executor).get().get(1, SECONDS));
+    }
+
+    @Test
+    public void testFirstPresentAsyncThrows() throws Exception {
+        try {
+            firstPresentAsync(
+                    executor,
+                    () -> {
+                        throw new IllegalStateException("asdf");
+                    },
+                    () -> Optional.of(1)
+            ).get().get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testFirstPresentAsyncThrowsAfterMatch() throws Exception {
+        assertEquals(Optional.of(0),
+                firstPresentAsync(
+                        executor,
+                        () -> Optional.of(0),
+                        () -> {
+                            throw new IllegalStateException();
+                        }
+                ).get().get(1, SECONDS)
+        );
+    }
 
 
     @Test
@@ -113,6 +273,34 @@ public class SupplierUtilsTest {
         );
     }
 
+    @Test
+    public void testAttempting() {
+        assertEquals(Result.success(1),
+                attempting(
+                        () -> 1
+                ).get()
+        );
+    }
+
+    @Test
+    public void testAttemptingThrows() {
+        final Exception failure = new StacklessException("asdf");
+        assertEquals(Result.failure(failure),
+                attempting(() -> {
+                    throw failure;
+                }).get()
+        );
+    }
+
+    @Test
+    public void testAttemptingNull() {
+        assertEquals(Result.success(null),
+                attempting(
+                        () -> null
+                ).get()
+        );
+    }
+
     @Test
     public void testRethrowing() {
         assertEquals(1,
@@ -153,5 +341,481 @@ public class SupplierUtilsTest {
 
         fail("Rethrowing supplier did not throw");
     }
+    @Test
+    public void testTryingAsInt() {
+        assertEquals(OptionalInt.of(1), tryingAsInt(() -> 1).get());
+        assertEquals(OptionalInt.empty(), tryingAsInt(() -> {
+            throw new Exception();
+        }).get());
+    }
+
+    @Test
+    public void testTryingAsIntDefault() {
+        assertEquals(1, tryingAsInt(() -> 1, -1).getAsInt());
+        assertEquals(-1, tryingAsInt(() -> {
+            throw new Exception();
+        }, -1).getAsInt());
+    }
+
+    @Test
+    public void testTryingAsLong() {
+        assertEquals(OptionalLong.of(1), tryingAsLong(() -> 1).get());
+        assertEquals(OptionalLong.empty(), tryingAsLong(() -> {
+            throw new Exception();
+        }).get());
+        assertEquals(-1L, tryingAsLong(() -> {
+            throw new Exception();
+        }, -1).getAsLong());
+    }
+
+    @Test
+    public void testTryingAsDouble() {
+        assertEquals(OptionalDouble.of(.5), tryingAsDouble(() -> .5).get());
+        assertEquals(OptionalDouble.empty(), tryingAsDouble(() -> {
+            throw new Exception();
+        }).get());
+        assertEquals(.5, tryingAsDouble(() -> {
+            throw new Exception();
+        }, .5).getAsDouble());
+    }
+
+    @Test
+    public void testRethrowingAsInt() {
+        assertEquals(1, rethrowingAsInt(() -> 1).getAsInt());
+        try {
+            rethrowingAsInt(() -> {
+                throw new Exception("asdf");
+            }).getAsInt();
+        } catch (RuntimeException e) {
+            assertEquals(RuntimeException.class, e.getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Rethrowing supplier did not throw");
+    }
+
+    @Test
+    public void testRethrowingAsLongMapper() {
+        assertEquals(1L, rethrowingAsLong(() -> 1, IllegalStateException::new).getAsLong());
+        assertEquals(.5, rethrowingAsDouble(() -> .5).getAsDouble());
+        try {
+            rethrowingAsDouble(() -> {
+                throw new Exception("asdf");
+            }, IllegalArgumentException::new).getAsDouble();
+        } catch (RuntimeException e) {
+            assertEquals(IllegalArgumentException.class, e.getClass());
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Rethrowing supplier did not throw");
+    }
+
+
+    @Test
+    public void testCircuitBreaking() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, 1, Duration.ofHours(1));
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> supplier = circuitBreaking(() -> -1, () -> {
+            calls.incrementAndGet();
+            throw new Exception();
+        }, breaker);
+        assertEquals(-1, supplier.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(-1, supplier.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testRateLimiting() throws Exception {
+        final ThrowingSupplier<Integer, RuntimeException> supplier =
+                rateLimiting(() -> 0, () -> 1, new RateLimiter(1e-3, 1));
+        assertEquals(1, supplier.get());
+        assertEquals(0, supplier.get());
+    }
+
+    @Test
+    public void testRateLimitingAsync() throws Exception {
+        assertEquals(1, rateLimitingAsync(() -> 1, new RateLimiter(1e-3, 1), scheduler).get().get(10, SECONDS));
+    }
+
+    @Test
+    public void testBulkheading() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        final ThrowingSupplier<Integer, RuntimeException> supplier = bulkheading(() -> 0, () -> 1, bulkhead);
+        assertEquals(1, supplier.get());
+        bulkhead.tryAcquire();
+        assertEquals(0, supplier.get());
+    }
+
+    @Test
+    public void testBulkheadingAsync() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        bulkhead.tryAcquire();
+        final CompletableFuture<Integer> result = bulkheadingAsync(() -> 1, bulkhead, executor).get();
+        assertFalse(result.isDone());
+        bulkhead.release();
+        assertEquals(1, result.get(10, SECONDS));
+    }
+
+    @Test
+    public void testInstrumenting() {
+        final CallMetrics metrics = new CallMetrics();
+        final Supplier<Optional<Object>> supplier = trying(instrumenting(() -> {
+            throw new Exception();
+        }, metrics));
+        assertEquals(Optional.empty(), supplier.get());
+        assertEquals(1L, metrics.snapshot().getFailures());
+    }
+
+    @Test
+    public void testInstrumentingNone() {
+        final ThrowingSupplier<Integer, RuntimeException> supplier = () -> 1;
+        assertSame(supplier, instrumenting(supplier, CallListener.NONE));
+    }
+
+    @Test
+    public void testTimingOut() {
+        assertEquals(Optional.of(1), timingOut(() -> 1, Duration.ofHours(1), scheduler).get());
+    }
+
+    @Test
+    public void testTimingOutFailure() {
+        assertEquals(Optional.empty(), timingOut(() -> {
+            throw new Exception();
+        }, Duration.ofHours(1), scheduler).get());
+    }
+
+    @Test
+    public void testTimingOutTimesOut() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertEquals(Optional.empty(), timingOut(() -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        }, Duration.ofMillis(10), scheduler).get());
+        assertTrue(interrupted.await(1, SECONDS));
+    }
+
+    @Test
+    public void testTimingOutRethrowing() {
+        try {
+            timingOut(() -> {
+                throw new Exception("asdf");
+            }, Duration.ofHours(1), scheduler, IllegalStateException::new).get();
+        } catch (IllegalStateException e) {
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Timing out supplier did not throw");
+    }
+
+    @Test
+    public void testTimingOutRethrowingTimesOut() {
+        try {
+            timingOut(() -> {
+                new CountDownLatch(1).await();
+                return 1;
+            }, Duration.ofMillis(10), scheduler, IllegalStateException::new).get();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            return;
+        }
+
+        fail("Timing out supplier did not throw");
+    }
+
+    @Test
+    public void testTimingOutSingleThreadScheduler() throws Exception {
+        final ScheduledExecutorService singleThread = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final long start = System.nanoTime();
+            assertEquals(Optional.empty(), timingOut(() -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 1;
+            }, Duration.ofMillis(100), singleThread).get());
+            assertTrue(System.nanoTime() - start < SECONDS.toNanos(2));
+            assertTrue(interrupted.await(1, SECONDS));
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTimingOutRethrowingSingleThreadScheduler() throws Exception {
+        final ScheduledExecutorService singleThread = Executors.newSingleThreadScheduledExecutor();
+        try {
+            timingOut(() -> {
+                new CountDownLatch(1).await();
+                return 1;
+            }, Duration.ofMillis(100), singleThread, IllegalStateException::new).get();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            return;
+        } finally {
+            singleThread.shutdownNow();
+        }
+
+        fail("Timing out supplier did not throw");
+    }
+
+    @Test
+    public void testTimingOutAsync() throws Exception {
+        final CompletableFuture<Integer> future = timingOutAsync(() -> {
+            new CountDownLatch(1).await();
+            return 1;
+        }, Duration.ofMillis(10), scheduler).get();
+        try {
+            future.get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testHedgingAsync() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertEquals(2, hedgingAsync(() -> {
+            if (calls.incrementAndGet() == 1)
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            return calls.get();
+        }, Duration.ofMillis(10), scheduler).get().get(1, SECONDS));
+        assertTrue(interrupted.await(1, SECONDS));
+    }
+
+    @Test
+    public void testHedgingAsyncNotHedged() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(1, hedgingAsync(calls::incrementAndGet, Duration.ofHours(1), scheduler).get().get(1, SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testHedgingAsyncFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(2, hedgingAsync(() -> {
+            if (calls.incrementAndGet() == 1)
+                throw new Exception();
+            return calls.get();
+        }, Duration.ofHours(1), scheduler).get().get(1, SECONDS));
+    }
+
+    @Test
+    public void testHedgingAsyncGivesUp() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            hedgingAsync(() -> {
+                throw new Exception(String.valueOf(calls.incrementAndGet()));
+            }, Duration.ofHours(1), scheduler).get().get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals("1", e.getCause().getMessage());
+            assertEquals(0, e.getCause().getSuppressed().length);
+            assertEquals(2, calls.get());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testHedgingAsyncGivesUpSharedException() throws Exception {
+        final Exception shared = new Exception("shared");
+        try {
+            hedgingAsync(() -> {
+                throw shared;
+            }, Duration.ofMillis(10), scheduler).get().get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertSame(shared, e.getCause());
+            assertEquals(0, shared.getSuppressed().length);
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testHedgingAsyncPercentile() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<CompletableFuture<Integer>> supplier =
+                hedgingAsync(calls::incrementAndGet, .95, Duration.ofHours(1), scheduler);
+        for (int i = 1; i <= 100; i++)
+            assertEquals(i, supplier.get().get(1, SECONDS));
+        assertEquals(100, calls.get());
+    }
+
+    @Test
+    public void testHedgingAsyncInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class,
+                () -> hedgingAsync(() -> 1, 1, Duration.ofHours(1), scheduler));
+    }
+
+    @Test
+    public void testRetrying() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(3,
+                retrying(() -> {
+                    if (calls.incrementAndGet() < 3)
+                        throw new Exception();
+                    return calls.get();
+                }, RetryPolicy.maxAttempts(3)).get()
+        );
+    }
+
+    @Test
+    public void testRetryingGivesUp() {
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            retrying(() -> {
+                throw new Exception(String.valueOf(calls.incrementAndGet()));
+            }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))).get();
+        } catch (Exception e) {
+            assertEquals("3", e.getMessage());
+            assertEquals(3, calls.get());
+            return;
+        }
+
+        fail("Retrying supplier did not throw");
+    }
+
+    @Test
+    public void testRetryingCondition() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try {
+            retrying(() -> {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException();
+            }, RetryPolicy.maxAttempts(3).withRetryCondition(e -> e instanceof IllegalStateException)).get();
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, calls.get());
+            return;
+        }
+
+        fail("Retrying supplier did not throw");
+    }
+
+    @Test
+    public void testRetryingAsync() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(3,
+                retryingAsync(() -> {
+                    if (calls.incrementAndGet() < 3)
+                        throw new Exception();
+                    return calls.get();
+                }, RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1), Duration.ofMillis(2)), scheduler)
+                        .get().get(1, SECONDS)
+        );
+    }
+
+    @Test
+    public void testRetryingAsyncGivesUp() throws Exception {
+        try {
+            retryingAsync(() -> {
+                throw new Exception("asdf");
+            }, RetryPolicy.maxAttempts(2), scheduler).get().get(1, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals("asdf", e.getCause().getMessage());
+            return;
+        }
+
+        fail("Future did not complete exceptionally");
+    }
+
+    @Test
+    public void testMemoizing() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> supplier = memoizing(calls::incrementAndGet);
+        assertEquals(1, supplier.get());
+        assertEquals(1, supplier.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMemoizingConcurrent() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> supplier = memoizing(() -> {
+            parkNanos(MILLISECONDS.toNanos(50));
+            return calls.incrementAndGet();
+        });
+        final List<Future<Integer>> results = executor.invokeAll(Collections.nCopies(8, supplier::get));
+        for (Future<Integer> result : results)
+            assertEquals(1, result.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMemoizingThrows() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> supplier = memoizing(() -> {
+            if (calls.incrementAndGet() == 1)
+                throw new IllegalStateException();
+            return calls.get();
+        });
+        try {
+            supplier.get();
+            fail("Memoizing supplier did not throw");
+        } catch (IllegalStateException ignored) {
+        }
+        assertEquals(2, supplier.get());
+        assertEquals(2, supplier.get());
+    }
+
+    @Test
+    public void testMemoizingTtl() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> supplier = memoizing(calls::incrementAndGet, Duration.ofMillis(20));
+        assertEquals(1, supplier.get());
+        assertEquals(1, supplier.get());
+        parkNanos(MILLISECONDS.toNanos(40));
+        assertEquals(2, supplier.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMemoizingNegativeTtl() {
+        memoizing(() -> 0, Duration.ofMillis(-1));
+    }
+
+    @Test
+    public void testMemoizingThrowing() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrowingSupplier<Integer, Exception> supplier = memoizingThrowing(() -> {
+            if (calls.incrementAndGet() == 1)
+                throw new Exception("asdf");
+            return calls.get();
+        });
+        try {
+            supplier.get();
+            fail("Memoizing supplier did not throw");
+        } catch (Exception e) {
+            assertEquals("asdf", e.getMessage());
+        }
+        assertEquals(2, supplier.get());
+        assertEquals(2, supplier.get());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
 }
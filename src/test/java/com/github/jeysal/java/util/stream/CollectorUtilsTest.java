@@ -3,12 +3,24 @@ package com.github.jeysal.java.util.stream;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.github.jeysal.java.util.stream.CollectorUtils.*;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
 
 /**
  * @author Tim Seckinger
@@ -110,4 +122,528 @@ public class CollectorUtilsTest {
         assertEquals(asList(.5, 1.5, 3.), Stream.of(.5, 1., 1.5).collect(cumulativelySummingDouble(d -> d)));
     }
 
+
+    @Test
+    public void testCumulativelySummingIntToArray() throws Exception {
+        assertArrayEquals(new int[]{1, 3, 6}, Stream.of(1, 2, 3).collect(cumulativelySummingIntToArray(i -> i)));
+    }
+
+    @Test
+    public void testCumulativelySummingIntToArrayNegative() throws Exception {
+        assertArrayEquals(new int[]{-1, 1, -2}, Stream.of(-1, 2, -3).collect(cumulativelySummingIntToArray(i -> i)));
+    }
+
+    @Test
+    public void testCumulativelySummingIntToArrayEmpty() throws Exception {
+        assertArrayEquals(new int[0], Stream.<Integer>empty().collect(cumulativelySummingIntToArray(i -> i)));
+    }
+
+    @Test
+    public void testCumulativelySummingIntToArrayLargeParallel() throws Exception {
+        final int count = 10_000;
+        assertArrayEquals(
+                Stream.iterate(1, i -> 1 + i).limit(count).mapToInt(i -> i).toArray(),
+                Stream.generate(() -> 1).limit(count).parallel().collect(cumulativelySummingIntToArray(i -> i))
+        );
+    }
+
+    @Test
+    public void testCumulativelySummingIntToArrayParallelMatchesSequential() throws Exception {
+        final List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertArrayEquals(
+                values.stream().collect(cumulativelySummingIntToArray(i -> i % 7 - 3)),
+                values.parallelStream().collect(cumulativelySummingIntToArray(i -> i % 7 - 3))
+        );
+    }
+
+    @Test
+    public void testCumulativelySummingIntToArrayMapper() throws Exception {
+        assertArrayEquals(new int[]{2, 6, 12}, Stream.of(1, 2, 3).collect(cumulativelySummingIntToArray(i -> 2 * i)));
+    }
+
+
+    @Test
+    public void testCumulativelySummingLongToArray() throws Exception {
+        assertArrayEquals(new long[]{1L, 3L, 6L},
+                Stream.of(1L, 2L, 3L).collect(cumulativelySummingLongToArray(l -> l)));
+    }
+
+    @Test
+    public void testCumulativelySummingLongToArrayNegative() throws Exception {
+        assertArrayEquals(new long[]{-1L, 1L, -2L},
+                Stream.of(-1L, 2L, -3L).collect(cumulativelySummingLongToArray(l -> l)));
+    }
+
+    @Test
+    public void testCumulativelySummingLongToArrayEmpty() throws Exception {
+        assertArrayEquals(new long[0], Stream.<Long>empty().collect(cumulativelySummingLongToArray(l -> l)));
+    }
+
+    @Test
+    public void testCumulativelySummingLongToArrayLargeParallel() throws Exception {
+        final int count = 10_000;
+        assertArrayEquals(
+                Stream.iterate(1L, l -> 1L + l).limit(count).mapToLong(l -> l).toArray(),
+                Stream.generate(() -> 1L).limit(count).parallel().collect(cumulativelySummingLongToArray(l -> l))
+        );
+    }
+
+    @Test
+    public void testCumulativelySummingLongToArrayParallelMatchesSequential() throws Exception {
+        final List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertArrayEquals(
+                values.stream().collect(cumulativelySummingLongToArray(i -> i % 7L - 3L)),
+                values.parallelStream().collect(cumulativelySummingLongToArray(i -> i % 7L - 3L))
+        );
+    }
+
+    @Test
+    public void testCumulativelySummingLongToArrayMapper() throws Exception {
+        assertArrayEquals(new long[]{2L, 6L, 12L},
+                Stream.of(1L, 2L, 3L).collect(cumulativelySummingLongToArray(l -> 2L * l)));
+    }
+
+
+    @Test
+    public void testCumulativelySummingDoubleToArray() throws Exception {
+        assertArrayEquals(new double[]{1., 3., 6.},
+                Stream.of(1., 2., 3.).collect(cumulativelySummingDoubleToArray(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleToArrayNegative() throws Exception {
+        assertArrayEquals(new double[]{-1., 1., -2.},
+                Stream.of(-1., 2., -3.).collect(cumulativelySummingDoubleToArray(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleToArrayEmpty() throws Exception {
+        assertArrayEquals(new double[0], Stream.<Double>empty().collect(cumulativelySummingDoubleToArray(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleToArrayLargeParallel() throws Exception {
+        final int count = 10_000;
+        assertArrayEquals(
+                Stream.iterate(1., d -> 1. + d).limit(count).mapToDouble(d -> d).toArray(),
+                Stream.generate(() -> 1.).limit(count).parallel().collect(cumulativelySummingDoubleToArray(d -> d)), 0
+        );
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleToArrayMapper() throws Exception {
+        assertArrayEquals(new double[]{2., 6., 12.},
+                Stream.of(1., 2., 3.).collect(cumulativelySummingDoubleToArray(d -> 2. * d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleCompensated() throws Exception {
+        assertArrayEquals(new double[]{1., 3., 6.},
+                Stream.of(1., 2., 3.).collect(cumulativelySummingDoubleCompensated(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleCompensatedEmpty() throws Exception {
+        assertArrayEquals(new double[0],
+                Stream.<Double>empty().collect(cumulativelySummingDoubleCompensated(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleCompensatedCancellation() throws Exception {
+        assertArrayEquals(new double[]{1e100, 1e100, 1.},
+                Stream.of(1e100, 1., -1e100).collect(cumulativelySummingDoubleCompensated(d -> d)), 0);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleCompensatedPrecision() throws Exception {
+        final double[] sums = Stream.generate(() -> .1).limit(10).collect(cumulativelySummingDoubleCompensated(d -> d));
+        assertEquals(1., sums[9]);
+    }
+
+    @Test
+    public void testCumulativelySummingDoubleCompensatedLargeParallel() throws Exception {
+        final int count = 100_000;
+        final double[] sums = Stream.generate(() -> .1).limit(count).parallel()
+                .collect(cumulativelySummingDoubleCompensated(d -> d));
+        assertEquals(count, sums.length);
+        assertEquals(10_000., sums[count - 1]);
+        assertEquals(5_000., sums[count / 2 - 1]);
+    }
+
+    @Test
+    public void testScanning() throws Exception {
+        assertEquals(asList(1, 3, 3), Stream.of(1, 3, 2).collect(scanning(Integer.MIN_VALUE, Math::max)));
+    }
+
+    @Test
+    public void testScanningEmpty() throws Exception {
+        assertEquals(new ArrayList<>(), Stream.<Integer>empty().collect(scanning(0, Integer::sum)));
+    }
+
+    @Test
+    public void testScanningMapper() throws Exception {
+        assertEquals(asList(1, 3, 3), Stream.of("a", "abc", "ab").collect(scanning(0, String::length, Math::max)));
+    }
+
+    @Test
+    public void testScanningLargeParallelOrdered() throws Exception {
+        final List<String> values = IntStream.range(0, 2_000).mapToObj(i -> String.valueOf(i % 10))
+                .collect(Collectors.toList());
+        assertEquals(
+                values.stream().collect(scanning("", String::concat)),
+                values.parallelStream().collect(scanning("", String::concat))
+        );
+    }
+
+
+    @Test
+    public void testScanningInt() throws Exception {
+        assertArrayEquals(new int[]{1, 3, 3},
+                Stream.of(1, 3, 2).collect(scanningInt(Integer.MIN_VALUE, i -> i, Math::max)));
+    }
+
+    @Test
+    public void testScanningIntEmpty() throws Exception {
+        assertArrayEquals(new int[0], Stream.<Integer>empty().collect(scanningInt(0, i -> i, Integer::sum)));
+    }
+
+    @Test
+    public void testScanningIntLargeParallel() throws Exception {
+        final List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertArrayEquals(
+                values.stream().collect(scanningInt(Integer.MAX_VALUE, i -> i % 1_000 - i / 100, Math::min)),
+                values.parallelStream().collect(scanningInt(Integer.MAX_VALUE, i -> i % 1_000 - i / 100, Math::min))
+        );
+    }
+
+
+    @Test
+    public void testScanningLong() throws Exception {
+        assertArrayEquals(new long[]{1L, 3L, 6L},
+                Stream.of(1L, 3L, 2L).collect(scanningLong(1L, l -> l, (a, b) -> a * b)));
+    }
+
+    @Test
+    public void testScanningLongLargeParallel() throws Exception {
+        final List<Long> values = LongStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertArrayEquals(
+                values.stream().collect(scanningLong(Long.MIN_VALUE, l -> l % 1_000 + l / 100, Math::max)),
+                values.parallelStream().collect(scanningLong(Long.MIN_VALUE, l -> l % 1_000 + l / 100, Math::max))
+        );
+    }
+
+
+    @Test
+    public void testScanningDouble() throws Exception {
+        assertArrayEquals(new double[]{3., 1., 1.},
+                Stream.of(3., 1., 2.).collect(scanningDouble(Double.POSITIVE_INFINITY, d -> d, Math::min)), 0);
+    }
+
+    @Test
+    public void testScanningDoubleLargeParallel() throws Exception {
+        final int count = 10_000;
+        assertArrayEquals(
+                Stream.iterate(1., d -> 1. + d).limit(count).mapToDouble(d -> d).toArray(),
+                Stream.generate(() -> 1.).limit(count).parallel().collect(scanningDouble(0., d -> d, Double::sum)), 0
+        );
+    }
+
+
+    @Test
+    public void testSlidingSummingInt() throws Exception {
+        assertArrayEquals(new int[]{3, 5, 7}, Stream.of(1, 2, 3, 4).collect(slidingSummingInt(2, i -> i)));
+    }
+
+    @Test
+    public void testSlidingSummingIntWindowLargerThanInput() throws Exception {
+        assertArrayEquals(new int[0], Stream.of(1, 2).collect(slidingSummingInt(3, i -> i)));
+    }
+
+    @Test
+    public void testSlidingSummingIntWindowOne() throws Exception {
+        assertArrayEquals(new int[]{1, 2, 3}, Stream.of(1, 2, 3).collect(slidingSummingInt(1, i -> i)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlidingSummingIntWindowZero() throws Exception {
+        slidingSummingInt(0, (Integer i) -> i);
+    }
+
+    @Test
+    public void testSlidingSummingLongLargeParallel() throws Exception {
+        final long[] values = LongStream.range(0, 100_000).map(l -> l * 7919 % 1000 - 500).toArray();
+        final long[] expected = new long[values.length - 10 + 1];
+        for (int i = 0; i < expected.length; i++)
+            for (int j = i; j < i + 10; j++)
+                expected[i] += values[j];
+        assertArrayEquals(expected, LongStream.of(values).boxed().parallel().collect(slidingSummingLong(10, l -> l)));
+    }
+
+    @Test
+    public void testSlidingSummingDoubleCompensated() throws Exception {
+        assertArrayEquals(new double[]{1e100, -1e100, -1e100, 1.},
+                Stream.of(1e100, 1., -1e100, 1., 0.).collect(slidingSummingDouble(2, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingSummingDoubleNonFinite() throws Exception {
+        assertArrayEquals(new double[]{1., Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 2.},
+                Stream.of(0., 1., Double.POSITIVE_INFINITY, 1., 1.).collect(slidingSummingDouble(2, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingSummingDoubleMixedNonFinite() throws Exception {
+        assertArrayEquals(new double[]{Double.NaN, Double.NEGATIVE_INFINITY, Double.NaN, Double.POSITIVE_INFINITY, 3.},
+                Stream.of(Double.NaN, 1., Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1., 2.)
+                        .collect(slidingSummingDouble(2, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingAveragingDoubleNonFinite() throws Exception {
+        assertArrayEquals(new double[]{Double.NaN, Double.NEGATIVE_INFINITY, 2., 2.},
+                Stream.of(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1., 3., 1.)
+                        .collect(slidingAveragingDouble(2, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingAveragingInt() throws Exception {
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5},
+                Stream.of(1, 2, 3, 4).collect(slidingAveragingInt(2, i -> i)), 0);
+    }
+
+    @Test
+    public void testSlidingAveragingDouble() throws Exception {
+        assertArrayEquals(new double[]{2., 3.},
+                Stream.of(1., 2., 3., 4.).collect(slidingAveragingDouble(3, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingMinInt() throws Exception {
+        assertArrayEquals(new int[]{1, 1, 0, 0, 5, 2},
+                Stream.of(3, 1, 4, 0, 5, 9, 2).collect(slidingMinInt(2, i -> i)));
+    }
+
+    @Test
+    public void testSlidingMaxLong() throws Exception {
+        assertArrayEquals(new long[]{4L, 4L, 5L, 9L, 9L},
+                Stream.of(3L, 1L, 4L, 0L, 5L, 9L, 2L).collect(slidingMaxLong(3, l -> l)));
+    }
+
+    @Test
+    public void testSlidingMinMaxLargeParallel() throws Exception {
+        final double[] values = IntStream.range(0, 100_000).mapToDouble(i -> i * 7919 % 1000).toArray();
+        final int window = 50;
+        final double[] minima = new double[values.length - window + 1];
+        final double[] maxima = new double[values.length - window + 1];
+        for (int i = 0; i < minima.length; i++) {
+            minima[i] = Double.POSITIVE_INFINITY;
+            maxima[i] = Double.NEGATIVE_INFINITY;
+            for (int j = i; j < i + window; j++) {
+                minima[i] = Math.min(minima[i], values[j]);
+                maxima[i] = Math.max(maxima[i], values[j]);
+            }
+        }
+        final List<Double> boxed = DoubleStream.of(values).boxed().collect(Collectors.toList());
+        assertArrayEquals(minima, boxed.parallelStream().collect(slidingMinDouble(window, d -> d)), 0);
+        assertArrayEquals(maxima, boxed.parallelStream().collect(slidingMaxDouble(window, d -> d)), 0);
+    }
+
+    @Test
+    public void testSlidingVarianceInt() throws Exception {
+        assertArrayEquals(new double[]{.25, .25, .25},
+                Stream.of(1, 2, 3, 4).collect(slidingVarianceInt(2, i -> i)), 1e-12);
+    }
+
+    @Test
+    public void testSlidingVarianceDoubleLarge() throws Exception {
+        final double[] values = IntStream.range(0, 10_000).mapToDouble(i -> 1e6 + i * 7919 % 100).toArray();
+        final int window = 20;
+        final double[] expected = new double[values.length - window + 1];
+        for (int i = 0; i < expected.length; i++) {
+            final double mean = DoubleStream.of(values).skip(i).limit(window).average().getAsDouble();
+            expected[i] = DoubleStream.of(values).skip(i).limit(window)
+                    .map(d -> (d - mean) * (d - mean)).sum() / window;
+        }
+        assertArrayEquals(expected,
+                DoubleStream.of(values).boxed().collect(slidingVarianceDouble(window, d -> d)), 1e-6);
+    }
+
+    @Test
+    public void testSlidingVarianceDoubleNonFinite() throws Exception {
+        final double[] variances = Stream.of(1., Double.NaN, 1., 3.).collect(slidingVarianceDouble(2, d -> d));
+        assertArrayEquals(new double[]{Double.NaN, Double.NaN, 1.}, variances, 0);
+    }
+
+    @Test
+    public void testSummarizingQuantilesParallel() throws Exception {
+        final QuantileSketch sketch = IntStream.range(0, 1_000_000).boxed().parallel()
+                .collect(summarizingQuantiles(i -> i));
+        assertEquals(1_000_000L, sketch.getCount());
+        assertEquals(999_999., sketch.getMax());
+        assertTrue(Math.abs(900_000 - sketch.quantile(.9)) <= 30_000);
+    }
+
+    @Test
+    public void testSummarizingDistinctCountParallel() throws Exception {
+        final DistinctCountSketch sketch = IntStream.range(0, 1_000_000).boxed().parallel()
+                .collect(summarizingDistinctCount(i -> i % 50_000));
+        assertTrue(Math.abs(50_000 - sketch.estimate()) <= 2_500);
+    }
+
+    @Test
+    public void testSummarizingTopKParallel() throws Exception {
+        final TopKSketch<Integer> sketch = IntStream.range(0, 1_000_000).boxed().parallel()
+                .collect(summarizingTopK(100, i -> i % 2 == 0 ? i % 6 : i));
+        assertEquals(1_000_000L, sketch.getCount());
+        assertEquals(asList(0, 2, 4), sketch.top(3).stream().map(Map.Entry::getKey).sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSummarizingTopKInvalidCapacity() throws Exception {
+        summarizingTopK(0, i -> i);
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        assertEquals(asList(asList(1, 2), asList(3, 4), singletonList(5)),
+                Stream.of(1, 2, 3, 4, 5).collect(batching(2)));
+    }
+
+    @Test
+    public void testBatchingEmpty() throws Exception {
+        assertEquals(new ArrayList<>(), Stream.empty().collect(batching(2)));
+    }
+
+    @Test
+    public void testBatchingLargeParallel() throws Exception {
+        final List<List<Integer>> batches = IntStream.range(0, 10_000).boxed().parallel().collect(batching(3));
+        assertEquals(10_000 / 3 + 1, batches.size());
+        assertEquals(asList(9_999), batches.get(batches.size() - 1));
+        assertEquals(asList(3_000, 3_001, 3_002), batches.get(1_000));
+    }
+
+    @Test
+    public void testBatchingInt() throws Exception {
+        final List<int[]> batches = Stream.of(1, 2, 3).collect(batchingInt(2, i -> i));
+        assertEquals(2, batches.size());
+        assertArrayEquals(new int[]{1, 2}, batches.get(0));
+        assertArrayEquals(new int[]{3}, batches.get(1));
+    }
+
+    @Test
+    public void testBatchingLongParallel() throws Exception {
+        final List<long[]> batches = LongStream.range(0, 10_000).boxed().parallel().collect(batchingLong(100, l -> l));
+        assertEquals(100, batches.size());
+        assertArrayEquals(LongStream.range(9_900, 10_000).toArray(), batches.get(99));
+    }
+
+    @Test
+    public void testBatchingIntLargeParallel() throws Exception {
+        final List<int[]> batches = IntStream.range(0, 100_000).boxed().parallel().collect(batchingInt(7, i -> i));
+        assertEquals(100_000 / 7 + 1, batches.size());
+        for (int i = 0; i < batches.size(); i++)
+            assertArrayEquals(IntStream.range(i * 7, Math.min(i * 7 + 7, 100_000)).toArray(), batches.get(i));
+    }
+
+    @Test
+    public void testBatchingDoubleLargeBatchesParallel() throws Exception {
+        final List<double[]> batches = IntStream.range(0, 12_345).boxed().parallel()
+                .collect(batchingDouble(5_000, i -> i));
+        assertEquals(3, batches.size());
+        for (int i = 0; i < batches.size(); i++)
+            assertArrayEquals(IntStream.range(i * 5_000, Math.min(i * 5_000 + 5_000, 12_345)).asDoubleStream()
+                    .toArray(), batches.get(i), 0);
+    }
+
+    @Test
+    public void testBatchingDouble() throws Exception {
+        final List<double[]> batches = Stream.of(1., 2.).collect(batchingDouble(5, d -> d));
+        assertEquals(1, batches.size());
+        assertArrayEquals(new double[]{1., 2.}, batches.get(0), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchingInvalidSize() throws Exception {
+        batching(0);
+    }
+
+    @Test
+    public void testGroupingSummingInt() {
+        final Map<Integer, Long> expected = new HashMap<>();
+        expected.put(0, 6L);
+        expected.put(1, 9L);
+        assertEquals(expected, IntStream.range(0, 6).boxed().collect(groupingSummingInt(i -> i % 2, i -> i)));
+    }
+
+    @Test
+    public void testGroupingSummingIntDoesNotOverflow() {
+        assertEquals(2L * Integer.MAX_VALUE, Stream.of(Integer.MAX_VALUE, Integer.MAX_VALUE)
+                .collect(groupingSummingInt(i -> 0, i -> i)).get(0));
+    }
+
+    @Test
+    public void testGroupingSummingIntParallel() {
+        assertEquals(
+                IntStream.range(0, 100_000).boxed()
+                        .collect(Collectors.groupingBy(i -> i % 1000, Collectors.summingLong(i -> i))),
+                IntStream.range(0, 100_000).boxed().parallel()
+                        .collect(groupingSummingInt(i -> i % 1000, i -> i)));
+    }
+
+    @Test
+    public void testGroupingSummingIntCharacteristics() {
+        assertTrue(groupingSummingInt(i -> i, (Integer i) -> i).characteristics()
+                .containsAll(EnumSet.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED)));
+    }
+
+    @Test
+    public void testGroupingSummingIntCombine() {
+        final Map<Integer, Long> expected = new HashMap<>();
+        expected.put(0, 4L);
+        expected.put(1, 4L);
+        assertEquals(expected, combine(groupingSummingInt(i -> i % 2, i -> i), asList(1), asList(3, 4)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testGroupingSummingIntNullKey() {
+        Stream.of(1).collect(groupingSummingInt(i -> null, i -> i));
+    }
+
+    @Test
+    public void testGroupingSummingLong() {
+        assertEquals(Collections.singletonMap("a", 3L + Integer.MAX_VALUE),
+                Stream.of(3L, (long) Integer.MAX_VALUE).collect(groupingSummingLong(l -> "a", l -> l)));
+    }
+
+    @Test
+    public void testGroupingSummingLongParallel() {
+        assertEquals(
+                LongStream.range(0, 100_000).boxed()
+                        .collect(Collectors.groupingBy(l -> l % 7, Collectors.summingLong(l -> l))),
+                LongStream.range(0, 100_000).boxed().parallel()
+                        .collect(groupingSummingLong(l -> l % 7, l -> l)));
+    }
+
+    @Test
+    public void testGroupingSummingDouble() {
+        final Map<Boolean, Double> expected = new HashMap<>();
+        expected.put(true, 2.5);
+        expected.put(false, -1.5);
+        assertEquals(expected, DoubleStream.of(.5, -1.5, 2).boxed().collect(groupingSummingDouble(d -> d > 0, d -> d)));
+    }
+
+    @Test
+    public void testGroupingSummingDoubleEmpty() {
+        assertEquals(Collections.emptyMap(), Stream.<Double>empty().collect(groupingSummingDouble(d -> d, d -> d)));
+    }
+
+    private static <T, A, R> R combine(Collector<T, A, R> collector, List<T> left, List<T> right) {
+        final A leftContainer = collector.supplier().get();
+        final A rightContainer = collector.supplier().get();
+        left.forEach(t -> collector.accumulator().accept(leftContainer, t));
+        right.forEach(t -> collector.accumulator().accept(rightContainer, t));
+        return collector.finisher().apply(collector.combiner().apply(leftContainer, rightContainer));
+    }
+
 }
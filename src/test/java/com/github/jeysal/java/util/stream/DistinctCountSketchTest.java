@@ -0,0 +1,65 @@
+package com.github.jeysal.java.util.stream;
+
+import org.junit.Test;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class DistinctCountSketchTest {
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertEquals(0L, new DistinctCountSketch().estimate());
+    }
+
+    @Test
+    public void testSmall() throws Exception {
+        final DistinctCountSketch sketch = new DistinctCountSketch();
+        for (int i = 0; i < 1_000; i++)
+            sketch.accept("value" + i % 100);
+        assertTrue(Math.abs(100. - sketch.estimate()) <= 2);
+    }
+
+    @Test
+    public void testNull() throws Exception {
+        final DistinctCountSketch sketch = new DistinctCountSketch();
+        sketch.accept(null);
+        sketch.accept(null);
+        assertEquals(1L, sketch.estimate());
+    }
+
+    @Test
+    public void testLarge() throws Exception {
+        final DistinctCountSketch sketch = new DistinctCountSketch();
+        for (long i = 0; i < 1_000_000; i++)
+            sketch.acceptLong(i);
+        assertTrue(Math.abs(1_000_000. - sketch.estimate()) <= 30_000);
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        final DistinctCountSketch first = new DistinctCountSketch(12);
+        final DistinctCountSketch second = new DistinctCountSketch(12);
+        for (int i = 0; i < 100_000; i++) {
+            first.accept(i);
+            second.accept(50_000 + i);
+        }
+        first.combine(second);
+        assertTrue(Math.abs(150_000. - first.estimate()) <= 10_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCombineDifferentPrecision() throws Exception {
+        new DistinctCountSketch(10).combine(new DistinctCountSketch(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() throws Exception {
+        new DistinctCountSketch(20);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.github.jeysal.java.util.stream;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class QuantileSketchTest {
+
+    @Test
+    public void testEmpty() throws Exception {
+        final QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0L, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.quantile(.5)));
+    }
+
+    @Test
+    public void testExactBelowCapacity() throws Exception {
+        final QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 100; i++)
+            sketch.accept(i);
+        assertEquals(100L, sketch.getCount());
+        assertEquals(1., sketch.quantile(0));
+        assertEquals(50., sketch.quantile(.5));
+        assertEquals(99., sketch.quantile(.99));
+        assertEquals(100., sketch.quantile(1));
+    }
+
+    @Test
+    public void testIgnoresNaN() throws Exception {
+        final QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(Double.NaN);
+        sketch.accept(1);
+        assertEquals(1L, sketch.getCount());
+        assertEquals(1., sketch.quantile(.5));
+    }
+
+    @Test
+    public void testLarge() throws Exception {
+        final QuantileSketch sketch = new QuantileSketch();
+        final Random random = new Random(42);
+        final int count = 1_000_000;
+        for (int i = 0; i < count; i++)
+            sketch.accept(random.nextDouble());
+        assertEquals((long) count, sketch.getCount());
+        for (double q : new double[]{.01, .1, .25, .5, .75, .9, .99})
+            assertTrue(Math.abs(q - sketch.quantile(q)) <= .03);
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        final QuantileSketch first = new QuantileSketch();
+        final QuantileSketch second = new QuantileSketch();
+        for (int i = 0; i < 100_000; i++) {
+            first.accept(i);
+            second.accept(100_000 + i);
+        }
+        first.combine(second);
+        assertEquals(200_000L, first.getCount());
+        assertEquals(0., first.getMin());
+        assertEquals(199_999., first.getMax());
+        assertTrue(Math.abs(100_000. - first.quantile(.5)) <= 6_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCombineDifferentK() throws Exception {
+        new QuantileSketch(100).combine(new QuantileSketch(200));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileOutOfRange() throws Exception {
+        new QuantileSketch().quantile(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidK() throws Exception {
+        new QuantileSketch(4);
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.github.jeysal.java.util.stream;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.github.jeysal.java.util.stream.StreamUtils.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class StreamUtilsTest {
+
+    @Test
+    public void testCumulativeSumsInt() throws Exception {
+        assertArrayEquals(new int[]{1, 3, 0}, cumulativeSums(IntStream.of(1, 2, -3)).toArray());
+    }
+
+    @Test
+    public void testCumulativeSumsIntEmpty() throws Exception {
+        assertArrayEquals(new int[0], cumulativeSums(IntStream.empty()).toArray());
+    }
+
+    @Test
+    public void testCumulativeSumsIntLazy() throws Exception {
+        assertArrayEquals(new int[]{1, 3, 6}, cumulativeSums(IntStream.iterate(1, i -> i + 1)).limit(3).toArray());
+    }
+
+    @Test
+    public void testCumulativeSumsIntLargeParallel() throws Exception {
+        final int count = 100_000;
+        assertArrayEquals(
+                IntStream.rangeClosed(1, count).toArray(),
+                cumulativeSums(IntStream.generate(() -> 1).limit(count).parallel()).toArray()
+        );
+    }
+
+    @Test
+    public void testCumulativeSumsIntParallelMap() throws Exception {
+        final int count = 100_000;
+        assertArrayEquals(
+                IntStream.rangeClosed(1, count).map(i -> 2 * i).toArray(),
+                cumulativeSums(IntStream.range(0, count).map(i -> 1).parallel()).map(i -> 2 * i).toArray()
+        );
+    }
+
+    @Test
+    public void testCumulativeSumsIntClose() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        cumulativeSums(IntStream.of(1).onClose(() -> closed.set(true))).close();
+        assertTrue(closed.get());
+    }
+
+
+    @Test
+    public void testCumulativeSumsLong() throws Exception {
+        assertArrayEquals(new long[]{1L, 3L, 0L}, cumulativeSums(LongStream.of(1L, 2L, -3L)).toArray());
+    }
+
+    @Test
+    public void testCumulativeSumsLongEmpty() throws Exception {
+        assertArrayEquals(new long[0], cumulativeSums(LongStream.empty()).toArray());
+    }
+
+    @Test
+    public void testCumulativeSumsLongLargeParallel() throws Exception {
+        final int count = 100_000;
+        assertArrayEquals(
+                LongStream.rangeClosed(1L, count).toArray(),
+                cumulativeSums(LongStream.generate(() -> 1L).limit(count).parallel()).toArray()
+        );
+    }
+
+
+    @Test
+    public void testCumulativeSumsDouble() throws Exception {
+        assertArrayEquals(new double[]{1., 3., 0.}, cumulativeSums(DoubleStream.of(1., 2., -3.)).toArray(), 0);
+    }
+
+    @Test
+    public void testCumulativeSumsDoubleEmpty() throws Exception {
+        assertArrayEquals(new double[0], cumulativeSums(DoubleStream.empty()).toArray(), 0);
+    }
+
+    @Test
+    public void testCumulativeSumsDoubleLargeParallel() throws Exception {
+        final int count = 100_000;
+        assertArrayEquals(
+                LongStream.rangeClosed(1L, count).asDoubleStream().toArray(),
+                cumulativeSums(DoubleStream.generate(() -> 1.).limit(count).parallel()).toArray(), 0
+        );
+    }
+
+
+    @Test
+    public void testCompensatedCumulativeSums() throws Exception {
+        assertArrayEquals(new double[]{1e100, 1e100, 1.},
+                compensatedCumulativeSums(DoubleStream.of(1e100, 1., -1e100)).toArray(), 0);
+    }
+
+    @Test
+    public void testCompensatedCumulativeSumsPrecision() throws Exception {
+        assertEquals(1., compensatedCumulativeSums(DoubleStream.generate(() -> .1).limit(10)).reduce((a, b) -> b)
+                .getAsDouble());
+    }
+
+    @Test
+    public void testCompensatedCumulativeSumsLargeParallel() throws Exception {
+        final int count = 100_000;
+        assertArrayEquals(
+                compensatedCumulativeSums(DoubleStream.generate(() -> .1).limit(count)).toArray(),
+                compensatedCumulativeSums(DoubleStream.generate(() -> .1).limit(count).parallel()).toArray(), 0
+        );
+    }
+
+    @Test
+    public void testBatched() throws Exception {
+        assertEquals(asList(asList(1, 2), asList(3, 4), singletonList(5)),
+                batched(Stream.of(1, 2, 3, 4, 5), 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBatchedEmpty() throws Exception {
+        assertEquals(0L, batched(Stream.empty(), 2).count());
+    }
+
+    @Test
+    public void testBatchedLazy() throws Exception {
+        assertEquals(asList(asList(1, 2, 3), asList(4, 5, 6)),
+                batched(Stream.iterate(1, i -> i + 1), 3).limit(2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBatchedLargeParallel() throws Exception {
+        final List<List<Integer>> batches = batched(IntStream.range(0, 100_000).boxed().parallel(), 7)
+                .collect(Collectors.toList());
+        assertEquals(100_000 / 7 + 1, batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            final List<Integer> batch = batches.get(i);
+            assertEquals(i < batches.size() - 1 ? 7 : 100_000 % 7, batch.size());
+            assertEquals(i * 7, (int) batch.get(0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchedInvalidSize() throws Exception {
+        batched(Stream.of(1), 0);
+    }
+
+    @Test
+    public void testBatchedInt() throws Exception {
+        final List<int[]> batches = batched(IntStream.range(0, 5), 2).collect(Collectors.toList());
+        assertEquals(3, batches.size());
+        assertArrayEquals(new int[]{0, 1}, batches.get(0));
+        assertArrayEquals(new int[]{4}, batches.get(2));
+    }
+
+    @Test
+    public void testBatchedIntUnsized() throws Exception {
+        final List<int[]> batches = batched(IntStream.iterate(0, i -> i + 1).limit(5_000), 3_000)
+                .collect(Collectors.toList());
+        assertArrayEquals(IntStream.range(0, 3_000).toArray(), batches.get(0));
+        assertArrayEquals(IntStream.range(3_000, 5_000).toArray(), batches.get(1));
+    }
+
+    @Test
+    public void testBatchedLongLargeParallel() throws Exception {
+        assertArrayEquals(LongStream.range(0, 100_000).toArray(),
+                batched(LongStream.range(0, 100_000).parallel(), 10).flatMapToLong(LongStream::of).toArray());
+    }
+
+    @Test
+    public void testBatchedDouble() throws Exception {
+        final List<double[]> batches = batched(DoubleStream.of(1., 2., 3.), 3).collect(Collectors.toList());
+        assertEquals(1, batches.size());
+        assertArrayEquals(new double[]{1., 2., 3.}, batches.get(0), 0);
+    }
+
+    @Test
+    public void testForEachBatch() throws Exception {
+        final List<List<Integer>> batches = new ArrayList<>();
+        forEachBatch(IntStream.range(0, 5).boxed().parallel(), 2, batches::add);
+        assertEquals(asList(asList(0, 1), asList(2, 3), singletonList(4)), batches);
+    }
+
+    @Test
+    public void testForEachBatchInt() throws Exception {
+        final List<int[]> batches = new ArrayList<>();
+        forEachBatch(IntStream.range(0, 5).parallel(), 2, batches::add);
+        assertEquals(3, batches.size());
+        assertArrayEquals(new int[]{0, 1}, batches.get(0));
+        assertArrayEquals(new int[]{4}, batches.get(2));
+    }
+
+    @Test
+    public void testForEachBatchLong() throws Exception {
+        final List<long[]> batches = new ArrayList<>();
+        forEachBatch(LongStream.range(0, 4), 2, batches::add);
+        assertEquals(2, batches.size());
+        assertArrayEquals(new long[]{2, 3}, batches.get(1));
+    }
+
+    @Test
+    public void testForEachBatchDouble() throws Exception {
+        final List<double[]> batches = new ArrayList<>();
+        forEachBatch(DoubleStream.of(1., 2., 3.), 5, batches::add);
+        assertEquals(1, batches.size());
+        assertArrayEquals(new double[]{1., 2., 3.}, batches.get(0), 0);
+    }
+
+    @Test
+    public void testForEachBatchThrowing() throws Exception {
+        final List<List<Integer>> batches = new ArrayList<>();
+        try {
+            forEachBatch(Stream.of(1, 2, 3), 1, batch -> {
+                if (batch.get(0) == 2)
+                    throw new IOException("full");
+                return batches.add(batch);
+            });
+            throw new AssertionError("Expected IOException");
+        } catch (IOException e) {
+            assertEquals("full", e.getMessage());
+        }
+        assertEquals(singletonList(singletonList(1)), batches);
+    }
+
+}
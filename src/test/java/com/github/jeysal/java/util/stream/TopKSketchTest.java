@@ -0,0 +1,63 @@
+package com.github.jeysal.java.util.stream;
+
+import org.junit.Test;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * @author Tim Seckinger
+ * @since 17.10.2026
+ */
+public class TopKSketchTest {
+
+    @Test
+    public void testExactBelowCapacity() throws Exception {
+        final TopKSketch<String> sketch = new TopKSketch<>(10);
+        for (String value : asList("a", "b", "a", "c", "a", "b"))
+            sketch.accept(value);
+        assertEquals(6L, sketch.getCount());
+        assertEquals(
+                asList(new SimpleImmutableEntry<>("a", 3L), new SimpleImmutableEntry<>("b", 2L)),
+                sketch.top(2));
+        assertEquals(0L, sketch.error("a"));
+        assertEquals(0L, sketch.estimate("d"));
+    }
+
+    @Test
+    public void testFrequentValuesSurviveEviction() throws Exception {
+        final TopKSketch<Integer> sketch = new TopKSketch<>(40);
+        for (int i = 0; i < 100_000; i++)
+            sketch.accept(i % 10 == 0 ? i % 30 : 1_000 + i);
+        final List<Integer> top = sketch.top(3).stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        assertTrue(top.containsAll(asList(0, 10, 20)));
+        for (int value : new int[]{0, 10, 20})
+            assertTrue(sketch.estimate(value) - sketch.error(value) <= 3_334 && sketch.estimate(value) >= 3_333);
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        final TopKSketch<String> first = new TopKSketch<>(2);
+        final TopKSketch<String> second = new TopKSketch<>(2);
+        for (String value : asList("a", "a", "a", "b", "c"))
+            first.accept(value);
+        for (String value : asList("a", "a", "d", "d"))
+            second.accept(value);
+        first.combine(second);
+        assertEquals(9L, first.getCount());
+        assertEquals("a", first.top(1).get(0).getKey());
+        assertEquals(5L, first.estimate("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() throws Exception {
+        new TopKSketch<>(0);
+    }
+
+}